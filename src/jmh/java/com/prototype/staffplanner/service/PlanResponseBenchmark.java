@@ -0,0 +1,80 @@
+package com.prototype.staffplanner.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.PlanResponse;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the response body of a plan as the former {@code List<ScheduleEntry>} entity graph with the
+ * {@link PlanResponse} that {@link PlanningService} builds today. Both are written with an object mapper
+ * configured the way Spring MVC builds its own, and the DTO variant includes the production mapping
+ * ({@code PlanningService.toPlanResponse}) from the planned entities. Run with {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm} per plan.
+ * <p>
+ * The entities here are plain objects, so the numbers exclude the Hibernate proxy handling and lazy loads
+ * the entity response could additionally trigger; they are a lower bound for the difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanResponseBenchmark {
+
+    /**
+     * Schedule entries in the plan; 4 is the default catalog's two shifts with two employees each.
+     */
+    @Param({"4", "100"})
+    public int candidatesPerDate;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final LocalDate date = LocalDate.of(2025, 6, 15);
+
+    private List<ScheduleEntry> schedule;
+
+    @Setup
+    public void setUp() {
+        var early = ShiftDefinition.builder().id(1L).shiftType(ShiftType.EARLY_SHIFT).build();
+        var late = ShiftDefinition.builder().id(2L).shiftType(ShiftType.LATE_SHIFT).build();
+        schedule = new ArrayList<>(candidatesPerDate);
+        for (long id = 1; id <= candidatesPerDate; id++) {
+            schedule.add(ScheduleEntry.builder()
+                    .id(id)
+                    .employee(Employee.builder().id(id).name("Employee " + id).build())
+                    .date(date)
+                    .shiftDefinition(id % 2 == 0 ? late : early)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] entities() throws Exception {
+        return objectMapper.writeValueAsBytes(schedule);
+    }
+
+    @Benchmark
+    public byte[] planResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(PlanningService.toPlanResponse(date, schedule));
+    }
+}
@@ -0,0 +1,133 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.PlanningRequest;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PlanningService#validateWishEntries} for an accepted plan and for a plan that is rejected
+ * because it holds every candidate of the date, and the solve-then-validate path of automatic planning, for one
+ * date and for every date of a horizon plan.
+ * A rejected plan returns its {@link PlanValidationReport} rather than throwing, so both cases measure the rules only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlanningValidationBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 6, 15);
+    private static final ShiftCatalog CATALOG = ShiftCatalog.defaults();
+
+    @State(Scope.Benchmark)
+    public static class SingleDate {
+
+        /**
+         * Wish book entries available on the planned date; every candidate wishes both shifts.
+         */
+        @Param({"8", "64", "512"})
+        public int candidatesPerDate;
+
+        List<WishBookEntry> candidates;
+        List<WishBookEntry> validPlan;
+        PlanningRequest request;
+
+        @Setup
+        public void setUp() {
+            candidates = candidates(FIRST_DATE, candidatesPerDate);
+            validPlan = ShiftAssignmentSolver.solve(candidates, CATALOG).assignments();
+            request = new PlanningRequest(FIRST_DATE, validPlan.stream().map(WishBookEntry::getId).toList());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DateRange {
+
+        /**
+         * Wish book entries available on every date of the range.
+         */
+        @Param({"8", "64"})
+        public int candidatesPerDate;
+
+        @Param({"7", "31", "366"})
+        public int daysPerRange;
+
+        List<List<WishBookEntry>> candidatesByDate;
+        List<PlanningRequest> requests;
+
+        @Setup
+        public void setUp() {
+            candidatesByDate = new ArrayList<>(daysPerRange);
+            requests = new ArrayList<>(daysPerRange);
+            for (int day = 0; day < daysPerRange; day++) {
+                var date = FIRST_DATE.plusDays(day);
+                var candidates = candidates(date, candidatesPerDate);
+                candidatesByDate.add(candidates);
+                requests.add(new PlanningRequest(date, ShiftAssignmentSolver.solve(candidates, CATALOG).assignments()
+                        .stream().map(WishBookEntry::getId).toList()));
+            }
+        }
+    }
+
+    @Benchmark
+    public PlanValidationReport validatePlan(SingleDate state) {
+        return PlanningService.validateWishEntries(state.validPlan, state.request, CATALOG);
+    }
+
+    @Benchmark
+    public PlanValidationReport validateRejectedPlan(SingleDate state) {
+        return PlanningService.validateWishEntries(state.candidates, state.request, CATALOG);
+    }
+
+    @Benchmark
+    public PlanValidationReport solveAndValidate(SingleDate state) {
+        var assignments = ShiftAssignmentSolver.solve(state.candidates, CATALOG).assignments();
+        return PlanningService.validateWishEntries(assignments, state.request, CATALOG);
+    }
+
+    @Benchmark
+    public void solveAndValidateRange(DateRange state, Blackhole blackhole) {
+        for (int day = 0; day < state.daysPerRange; day++) {
+            var assignments = ShiftAssignmentSolver.solve(state.candidatesByDate.get(day), CATALOG).assignments();
+            blackhole.consume(PlanningService.validateWishEntries(assignments, state.requests.get(day), CATALOG));
+        }
+    }
+
+    private static List<WishBookEntry> candidates(LocalDate date, int candidatesPerDate) {
+        var candidates = new ArrayList<WishBookEntry>(candidatesPerDate);
+        for (long id = 1; id <= candidatesPerDate; id++) {
+            var employee = Employee.builder().id((id + 1) / 2).name("Employee " + (id + 1) / 2).build();
+            candidates.add(WishBookEntry.builder()
+                    .id(id)
+                    .employee(employee)
+                    .date(date)
+                    .shiftDefinition(definitionOf(id % 2 == 0 ? ShiftType.LATE_SHIFT : ShiftType.EARLY_SHIFT))
+                    .build());
+        }
+        return candidates;
+    }
+
+    private static ShiftDefinition definitionOf(ShiftType shiftType) {
+        return ShiftDefinition.builder().shiftType(shiftType).build();
+    }
+}
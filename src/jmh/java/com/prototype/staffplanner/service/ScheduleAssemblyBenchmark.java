@@ -0,0 +1,109 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.ScheduleResponse;
+import com.prototype.staffplanner.dto.ScheduleRow;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the grouping and {@code ShiftInfo} assembly of {@link ScheduleService} without the database:
+ * one date built from schedule entries, and a whole range built from projected rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleAssemblyBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+    private static final ShiftCatalog CATALOG = ShiftCatalog.defaults();
+
+    @State(Scope.Benchmark)
+    public static class SingleDate {
+
+        /**
+         * Schedule entries on the date.
+         */
+        @Param({"4", "64", "512"})
+        public int candidatesPerDate;
+
+        List<ScheduleEntry> entries;
+
+        @Setup
+        public void setUp() {
+            entries = new ArrayList<>(candidatesPerDate);
+            for (long id = 1; id <= candidatesPerDate; id++) {
+                entries.add(ScheduleEntry.builder()
+                        .id(id)
+                        .employee(Employee.builder().id(id).name("Employee " + id).build())
+                        .date(FIRST_DATE)
+                        .shiftDefinition(definitionOf(shiftType(id)))
+                        .build());
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DateRange {
+
+        /**
+         * Schedule rows on every date of the range.
+         */
+        @Param({"4", "64"})
+        public int candidatesPerDate;
+
+        @Param({"7", "31", "366"})
+        public int daysPerRange;
+
+        List<LocalDate> dates;
+        List<ScheduleRow> rows;
+
+        @Setup
+        public void setUp() {
+            dates = FIRST_DATE.datesUntil(FIRST_DATE.plusDays(daysPerRange)).toList();
+            rows = new ArrayList<>(candidatesPerDate * daysPerRange);
+            for (LocalDate date : dates) {
+                for (long id = 1; id <= candidatesPerDate; id++) {
+                    rows.add(new ScheduleRow(date, shiftType(id), "Employee " + id));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public ScheduleResponse singleDate(SingleDate state) {
+        return ScheduleService.toScheduleResponse(FIRST_DATE, state.entries, CATALOG);
+    }
+
+    @Benchmark
+    public List<ScheduleResponse> dateRange(DateRange state) {
+        return ScheduleService.toScheduleResponses(state.dates, state.rows, CATALOG);
+    }
+
+    private static ShiftType shiftType(long id) {
+        return id % 2 == 0 ? ShiftType.LATE_SHIFT : ShiftType.EARLY_SHIFT;
+    }
+
+    private static ShiftDefinition definitionOf(ShiftType shiftType) {
+        return ShiftDefinition.builder().shiftType(shiftType).build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.prototype.staffplanner.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.WishBookImportFormat;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many import lines per second {@link WishBookLineParser} turns into validated requests, the
+ * CPU-bound part of the streaming wish book import. Compare with the rows per second of an import summary to
+ * see how much of an import is spent writing batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WishBookImportParsingBenchmark {
+
+    private static final String CSV_LINE = "\"Doe, John\",2025-06-15,EARLY_SHIFT";
+    private static final String NDJSON_LINE = "{\"employeeName\":\"Doe, John\",\"date\":\"2025-06-15\",\"shiftType\":\"EARLY_SHIFT\"}";
+
+    private WishBookLineParser csvParser;
+    private WishBookLineParser ndjsonParser;
+
+    @Setup
+    public void setUp() {
+        var objectMapper = JsonMapper.builder().findAndAddModules().build();
+        var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        csvParser = new WishBookLineParser(WishBookImportFormat.CSV, objectMapper, validator);
+        ndjsonParser = new WishBookLineParser(WishBookImportFormat.NDJSON, objectMapper, validator);
+    }
+
+    @Benchmark
+    public WishBookRequest csv() {
+        return csvParser.parse(CSV_LINE);
+    }
+
+    @Benchmark
+    public WishBookRequest ndjson() {
+        return ndjsonParser.parse(NDJSON_LINE);
+    }
+}
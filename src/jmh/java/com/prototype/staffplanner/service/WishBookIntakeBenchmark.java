@@ -0,0 +1,107 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.StaffPlannerApplication;
+import com.prototype.staffplanner.dto.WishBookBulkResponse;
+import com.prototype.staffplanner.dto.WishBookEntryResponse;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.model.ShiftType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WishBookEntryService#addWishBookEntry} and {@link WishBookEntryService#addWishBookEntries} end to
+ * end against the in-memory H2 database of the test profile. Every invocation adds new wishes, cycling through a
+ * fixed set of employees day by day, so after the first day every name is an existing employee. The bulk variant
+ * sends one employee's wishes for every date of a range, the way a wish book form for a whole month arrives.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WishBookIntakeBenchmark {
+
+    /**
+     * Distinct employees wishing on every date.
+     */
+    @Param({"10", "1000"})
+    public int candidatesPerDate;
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 1, 1);
+
+    private ConfigurableApplicationContext context;
+    private WishBookEntryService wishBookEntryService;
+    private String[] names;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(StaffPlannerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN", "logging.level.com.prototype.staffplanner=WARN")
+                .run();
+        wishBookEntryService = context.getBean(WishBookEntryService.class);
+
+        names = new String[candidatesPerDate];
+        for (int i = 0; i < candidatesPerDate; i++) {
+            names[i] = "Employee " + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @State(Scope.Benchmark)
+    public static class DateRange {
+
+        /**
+         * Dates covered by every bulk request.
+         */
+        @Param({"7", "31"})
+        public int daysPerRange;
+
+        long invocation;
+    }
+
+    @Benchmark
+    public WishBookEntryResponse addWishBookEntry() {
+        long current = invocation++;
+        var request = new WishBookRequest(names[(int) (current % candidatesPerDate)],
+                FIRST_DATE.plusDays(current / candidatesPerDate), ShiftType.EARLY_SHIFT);
+        return wishBookEntryService.addWishBookEntry(request);
+    }
+
+    @Benchmark
+    public WishBookBulkResponse addWishBookEntries(DateRange range) {
+        long current = range.invocation++;
+        var name = names[(int) (current % candidatesPerDate)];
+        var firstDate = FIRST_DATE.plusDays(current / candidatesPerDate * range.daysPerRange);
+        var requests = new ArrayList<WishBookRequest>(range.daysPerRange);
+        for (int day = 0; day < range.daysPerRange; day++) {
+            requests.add(new WishBookRequest(name, firstDate.plusDays(day), ShiftType.EARLY_SHIFT));
+        }
+        return wishBookEntryService.addWishBookEntries(requests);
+    }
+}
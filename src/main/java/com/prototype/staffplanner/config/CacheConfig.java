@@ -0,0 +1,15 @@
+package com.prototype.staffplanner.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Caffeine-backed caches configured under {@code spring.cache}.
+ * Cache statistics are recorded so Actuator publishes hit, miss and eviction counts as {@code cache.*} metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SCHEDULES_CACHE = "schedules";
+}
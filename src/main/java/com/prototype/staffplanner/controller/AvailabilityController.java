@@ -0,0 +1,38 @@
+package com.prototype.staffplanner.controller;
+
+import com.prototype.staffplanner.dto.AvailabilityResponse;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.AvailabilityIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+
+    private final AvailabilityIndex availabilityIndex;
+
+    @Operation(
+            summary = "Find available employees",
+            description = """
+                    Lists the employees who wished a shift on every date (match=ALL) or on at least one date (match=ANY)
+                    between from and to (inclusive, at most 366 days). Answered from the in-memory availability index.
+                    """
+    )
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public AvailabilityResponse findAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam ShiftType shiftType,
+            @RequestParam(defaultValue = "ALL") AvailabilityMatch match) {
+        return availabilityIndex.findAvailable(from, to, shiftType, match);
+    }
+}
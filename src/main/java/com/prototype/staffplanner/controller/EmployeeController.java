@@ -0,0 +1,52 @@
+package com.prototype.staffplanner.controller;
+
+import com.prototype.staffplanner.dto.EmployeeScheduleResponse;
+import com.prototype.staffplanner.dto.EmployeeWishesResponse;
+import com.prototype.staffplanner.service.EmployeeService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/employees")
+public class EmployeeController {
+
+    private final EmployeeService employeeService;
+
+    @Operation(
+            summary = "Get an employee's schedule",
+            description = """
+                    Lists the shifts the employee is scheduled for between from and to (inclusive, at most 366 days),
+                    in date order, with the working hours of each shift. Responds with 404 for an unknown employee.
+                    """
+    )
+    @GetMapping("/{employeeId}/schedule")
+    @ResponseStatus(HttpStatus.OK)
+    public EmployeeScheduleResponse getSchedule(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return employeeService.getSchedule(employeeId, from, to);
+    }
+
+    @Operation(
+            summary = "Get an employee's wishes",
+            description = """
+                    Lists the wish book entries of the employee for dates between from and to (inclusive, at most 366 days),
+                    ordered by date and shift. Responds with 404 for an unknown employee.
+                    """
+    )
+    @GetMapping("/{employeeId}/wishes")
+    @ResponseStatus(HttpStatus.OK)
+    public EmployeeWishesResponse getWishes(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return employeeService.getWishes(employeeId, from, to);
+    }
+}
@@ -1,16 +1,25 @@
 package com.prototype.staffplanner.controller;
 
+import com.prototype.staffplanner.dto.FairPlanResponse;
+import com.prototype.staffplanner.dto.FairPlanningRequest;
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.HorizonPlanningRequest;
+import com.prototype.staffplanner.dto.PlanResponse;
+import com.prototype.staffplanner.dto.PlanSimulationRequest;
+import com.prototype.staffplanner.dto.PlanSimulationResponse;
 import com.prototype.staffplanner.dto.PlanningRequest;
-import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.service.FairPlanningService;
 import com.prototype.staffplanner.service.PlanningService;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.Duration;
+import java.time.LocalDate;
 
 @OpenAPIDefinition(
         info = @io.swagger.v3.oas.annotations.info.Info(
@@ -24,6 +33,7 @@ import java.util.List;
 public class PlanningController {
 
     private final PlanningService planningService;
+    private final FairPlanningService fairPlanningService;
 
     @Operation(
             summary = "Create a schedule plan",
@@ -34,7 +44,64 @@ public class PlanningController {
     )
     @PostMapping("/create")
     @ResponseStatus(HttpStatus.OK)
-    public List<ScheduleEntry> createPlan(@Valid @RequestBody PlanningRequest request) {
+    public PlanResponse createPlan(@Valid @RequestBody PlanningRequest request) {
         return planningService.createPlan(request);
     }
+
+    @Operation(
+            summary = "Create a schedule plan automatically",
+            description = """
+                    Creates a schedule plan for the given date from all of its wish book entries.
+                    The assignment is computed so that every shift type is fully staffed and nobody works two shifts.
+                    """
+    )
+    @PostMapping("/auto/{date}")
+    @ResponseStatus(HttpStatus.OK)
+    public PlanResponse createAutoPlan(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return planningService.createAutoPlan(date);
+    }
+
+    @Operation(
+            summary = "Simulate a schedule plan",
+            description = """
+                    Shows what a plan for the date would do without saving it. With wishBookEntryIds the selection is
+                    validated like /create; without them the date is solved from all of its wishes like /auto/{date}.
+                    Returns the assignments, every violated rule and, for a valid plan, the changes to the current
+                    schedule.
+                    """
+    )
+    @PostMapping("/simulate")
+    @ResponseStatus(HttpStatus.OK)
+    public PlanSimulationResponse simulatePlan(@Valid @RequestBody PlanSimulationRequest request) {
+        return planningService.simulatePlan(request);
+    }
+
+    @Operation(
+            summary = "Create schedule plans for a date range",
+            description = """
+                    Plans every date between from and to (inclusive, at most 366 days) from the wish book entries.
+                    Dates that cannot be fully staffed are reported as failed while the other dates are still saved.
+                    """
+    )
+    @PostMapping("/horizon")
+    @ResponseStatus(HttpStatus.OK)
+    public HorizonPlanResponse createHorizonPlan(@Valid @RequestBody HorizonPlanningRequest request) {
+        return planningService.createHorizonPlan(request.from(), request.to());
+    }
+
+    @Operation(
+            summary = "Create a fair schedule plan for a date range",
+            description = """
+                    Plans every date between from and to (inclusive, at most 366 days) so that days and early/late shifts
+                    are spread as evenly as possible over the employees who wished them. The search stops after budgetMillis
+                    (default 2000, at most 30000) and the best plan found is saved together with its score.
+                    Dates that cannot be fully staffed are reported as failed while the other dates are still saved.
+                    """
+    )
+    @PostMapping("/fair")
+    @ResponseStatus(HttpStatus.OK)
+    public FairPlanResponse createFairPlan(@Valid @RequestBody FairPlanningRequest request) {
+        return fairPlanningService.createFairPlan(request.from(), request.to(),
+                request.budgetMillis() == null ? null : Duration.ofMillis(request.budgetMillis()));
+    }
 }
@@ -0,0 +1,78 @@
+package com.prototype.staffplanner.controller;
+
+import com.prototype.staffplanner.dto.HorizonPlanningRequest;
+import com.prototype.staffplanner.dto.PlanningJobResponse;
+import com.prototype.staffplanner.service.PlanningJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/planning/jobs")
+public class PlanningJobController {
+
+    private final PlanningJobService planningJobService;
+
+    @Operation(
+            summary = "Submit a horizon plan as a background job",
+            description = """
+                    Queues a plan of every date between from and to (inclusive, at most 366 days) and returns at once
+                    with the job and its Location. Poll the job for progress and fetch the result once it has succeeded.
+                    Responds with 429 and Retry-After when the planning queue is full.
+                    """
+    )
+    @PostMapping("/horizon")
+    public ResponseEntity<PlanningJobResponse> submitHorizonPlan(@Valid @RequestBody HorizonPlanningRequest request) {
+        var job = planningJobService.submitHorizonPlan(request.from(), request.to());
+        var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/planning/jobs/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(
+            summary = "Get the status of a planning job",
+            description = "Returns the status and progress of a job. Finished jobs are kept for an hour."
+    )
+    @GetMapping("/{id}")
+    public ResponseEntity<PlanningJobResponse> getJob(@PathVariable UUID id) {
+        return ResponseEntity.of(planningJobService.getJob(id));
+    }
+
+    @Operation(
+            summary = "Get the result of a planning job",
+            description = "Returns the plan of a job that succeeded, or 409 with the job status while it has no result."
+    )
+    @GetMapping("/{id}/result")
+    public ResponseEntity<?> getResult(@PathVariable UUID id) {
+        var result = planningJobService.getResult(id);
+        if (result.isPresent()) {
+            return ResponseEntity.ok(result.get());
+        }
+        return planningJobService.getJob(id)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.status(HttpStatus.CONFLICT).body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "Cancel a planning job",
+            description = """
+                    Cancels a queued job at once. A running job stops before it saves anything, unless it is already
+                    saving, in which case it finishes normally.
+                    """
+    )
+    @DeleteMapping("/{id}")
+    public ResponseEntity<PlanningJobResponse> cancel(@PathVariable UUID id) {
+        return planningJobService.cancel(id)
+                .map(job -> ResponseEntity.accepted().body(job))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,15 +1,26 @@
 package com.prototype.staffplanner.controller;
 
 import com.prototype.staffplanner.dto.ScheduleResponse;
+import com.prototype.staffplanner.service.ScheduleExportService;
 import com.prototype.staffplanner.service.ScheduleService;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 
 @OpenAPIDefinition(
         info = @io.swagger.v3.oas.annotations.info.Info(
@@ -22,7 +33,11 @@ import java.time.LocalDate;
 @RequestMapping("/api/schedule")
 public class ScheduleController {
 
+    static final String TEXT_CSV_VALUE = "text/csv";
+    static final String TEXT_CALENDAR_VALUE = "text/calendar";
+
     private final ScheduleService service;
+    private final ScheduleExportService exportService;
 
     @Operation(
             summary = "Get schedule for a specific date",
@@ -33,4 +48,76 @@ public class ScheduleController {
     public ScheduleResponse getSchedule(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         return service.getScheduleForDate(date);
     }
+
+    @Operation(
+            summary = "Get schedules for a date range",
+            description = """
+                    Retrieves the schedule of every date between from and to (inclusive, at most 366 days) with a single query.
+                    Dates without assignments are returned with empty shifts.
+                    """
+    )
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<ScheduleResponse> getScheduleRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return service.getScheduleForRange(from, to);
+    }
+
+    @Operation(
+            summary = "Export schedules for a date range as CSV",
+            description = """
+                    Streams every schedule entry between from and to (inclusive, at most 366 days) as CSV with the columns
+                    date,employeeId,employeeName,shiftType,startTime,endTime, ordered by date, shift and employee name.
+                    """
+    )
+    @GetMapping(value = "/export.csv", produces = TEXT_CSV_VALUE)
+    public void exportCsv(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        stream(response, TEXT_CSV_VALUE, "schedule-" + from + "-" + to + ".csv",
+                writer -> exportService.exportCsv(from, to, writer));
+    }
+
+    @Operation(
+            summary = "Export the shifts of an employee as an iCalendar feed",
+            description = """
+                    Streams one event per shift of the employee between from and to (inclusive, at most 366 days),
+                    timed by the hours of the shift catalog. Event UIDs are stable, so subscribing calendars update in place.
+                    """
+    )
+    @GetMapping(value = "/export/employees/{employeeId}.ics", produces = TEXT_CALENDAR_VALUE)
+    public void exportCalendar(
+            @PathVariable Long employeeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        stream(response, TEXT_CALENDAR_VALUE, "shifts-" + employeeId + ".ics",
+                writer -> exportService.exportCalendar(employeeId, from, to, writer));
+    }
+
+    /**
+     * Runs an export against a buffered writer on the response, so rows go out in chunks instead of one
+     * servlet call each. If the export fails before anything was sent, the response is reset, so the
+     * failure still becomes a problem response instead of an empty attachment.
+     */
+    private static void stream(HttpServletResponse response, String contentType, String filename,
+                               Consumer<Writer> export) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        var writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            export.accept(writer);
+        } catch (RuntimeException ex) {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw ex;
+        }
+        writer.flush();
+    }
 }
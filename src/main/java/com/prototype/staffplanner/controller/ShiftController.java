@@ -0,0 +1,54 @@
+package com.prototype.staffplanner.controller;
+
+import com.prototype.staffplanner.dto.ShiftDefinitionRequest;
+import com.prototype.staffplanner.dto.ShiftDefinitionResponse;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.ShiftCatalogService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/shifts")
+public class ShiftController {
+
+    private final ShiftCatalogService service;
+
+    @Operation(
+            summary = "List the offered shifts",
+            description = "Returns the working hours and the daily headcount of every shift the store offers."
+    )
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<ShiftDefinitionResponse> getShifts() {
+        return service.getShifts();
+    }
+
+    @Operation(
+            summary = "Define a shift",
+            description = "Creates or replaces the working hours and daily headcount of a shift type. A new code "
+                    + "(upper-case letters, digits and underscores) adds a shift. Takes effect without a restart."
+    )
+    @PutMapping("/{shiftType}")
+    @ResponseStatus(HttpStatus.OK)
+    public ShiftDefinitionResponse defineShift(@PathVariable ShiftType shiftType,
+                                               @Valid @RequestBody ShiftDefinitionRequest request) {
+        return service.defineShift(shiftType, request);
+    }
+
+    @Operation(
+            summary = "Stop offering a shift",
+            description = "Stops offering a shift type so it is no longer planned. Its wishes and schedule entries "
+                    + "are kept; defining it again offers it again."
+    )
+    @DeleteMapping("/{shiftType}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void removeShift(@PathVariable ShiftType shiftType) {
+        service.removeShift(shiftType);
+    }
+}
@@ -1,15 +1,32 @@
 package com.prototype.staffplanner.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.WishBookBulkRequest;
+import com.prototype.staffplanner.dto.WishBookBulkResponse;
 import com.prototype.staffplanner.dto.WishBookEntryResponse;
+import com.prototype.staffplanner.dto.WishBookImportEvent;
 import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.WishBookImportFormat;
 import com.prototype.staffplanner.service.WishBookEntryService;
+import com.prototype.staffplanner.service.WishBookImportService;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
 @OpenAPIDefinition(
         info = @io.swagger.v3.oas.annotations.info.Info(
                 title = "Staff Planner API",
@@ -21,7 +38,11 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/wishbook")
 public class WishBookController {
 
+    static final String TEXT_CSV_VALUE = "text/csv";
+
     private final WishBookEntryService wishBookEntryService;
+    private final WishBookImportService wishBookImportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "Add a new wish book entry",
@@ -32,4 +53,54 @@ public class WishBookController {
     public WishBookEntryResponse addWishBookEntry(@Valid @RequestBody WishBookRequest request) {
         return wishBookEntryService.addWishBookEntry(request);
     }
+
+    @Operation(
+            summary = "Add wish book entries in bulk",
+            description = """
+                    Creates many wish book entries in a single call, creating missing employees along the way.
+                    Entries that already exist are reported as duplicates without rejecting the rest of the batch.
+                    """
+    )
+    @PostMapping("/entries")
+    @ResponseStatus(HttpStatus.OK)
+    public WishBookBulkResponse addWishBookEntries(@Valid @RequestBody WishBookBulkRequest request) {
+        return wishBookEntryService.addWishBookEntries(request.entries());
+    }
+
+    @Operation(
+            summary = "Import wish book entries from a CSV or NDJSON file",
+            description = """
+                    Streams a file of any size (text/csv with employeeName,date,shiftType per line and an optional header,
+                    or application/x-ndjson with one wish book entry object per line) into the wish book in batches.
+                    Responds with an NDJSON stream: an ERROR event per rejected line, a PROGRESS event after every
+                    committed batch and a final SUMMARY event with the throughput. A stream without a summary was aborted;
+                    the batches reported as progress until then are saved.
+                    """
+    )
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, APPLICATION_NDJSON_VALUE}, produces = APPLICATION_NDJSON_VALUE)
+    public void importEntries(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                              InputStream body,
+                              HttpServletResponse response) throws IOException {
+        var format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? WishBookImportFormat.NDJSON
+                : WishBookImportFormat.CSV;
+        var charset = contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        var writer = response.getWriter();
+        wishBookImportService.importEntries(new InputStreamReader(body, charset), format, event -> {
+            try {
+                writer.write(objectMapper.writeValueAsString(event));
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException(ex);
+            }
+            writer.write('\n');
+            if (event.type() != WishBookImportEvent.Type.ERROR) {
+                writer.flush();
+            }
+        });
+        writer.flush();
+    }
 }
@@ -0,0 +1,17 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AvailabilityResponse(
+        LocalDate from,
+        LocalDate to,
+        ShiftType shiftType,
+        AvailabilityMatch match,
+        int count,
+        List<EmployeeRef> employees
+) {
+}
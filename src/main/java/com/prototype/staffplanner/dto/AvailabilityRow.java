@@ -0,0 +1,13 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+
+public record AvailabilityRow(
+        Long employeeId,
+        String employeeName,
+        LocalDate date,
+        ShiftType shiftType
+) {
+}
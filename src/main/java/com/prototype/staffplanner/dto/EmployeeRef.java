@@ -0,0 +1,7 @@
+package com.prototype.staffplanner.dto;
+
+public record EmployeeRef(
+        Long id,
+        String name
+) {
+}
@@ -0,0 +1,22 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record EmployeeScheduleResponse(
+        Long employeeId,
+        String employeeName,
+        LocalDate from,
+        LocalDate to,
+        List<Shift> shifts
+) {
+
+    public record Shift(
+            LocalDate date,
+            ShiftType shiftType,
+            String timeRange
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record EmployeeWishesResponse(
+        Long employeeId,
+        String employeeName,
+        LocalDate from,
+        LocalDate to,
+        List<Wish> wishes
+) {
+
+    public record Wish(
+            Long wishBookEntryId,
+            LocalDate date,
+            ShiftType shiftType
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record FairPlanResponse(
+        LocalDate from,
+        LocalDate to,
+        int plannedDays,
+        int failedDays,
+        Score score,
+        int restarts,
+        long iterations,
+        long elapsedMillis,
+        List<HorizonPlanResponse.DayResult> days,
+        List<EmployeeLoad> employees
+) {
+
+    /**
+     * How fair the plan is. {@code value} is the optimized sum of squared day and shift counts per employee
+     * (lower is fairer); {@code initialValue} is the same for the first feasible plan before the search.
+     */
+    public record Score(
+            long value,
+            long initialValue,
+            int minDays,
+            int maxDays,
+            int maxShiftImbalance
+    ) {
+    }
+
+    public record EmployeeLoad(
+            Long employeeId,
+            String employeeName,
+            int days,
+            Map<ShiftType, Integer> shifts
+    ) {
+    }
+}
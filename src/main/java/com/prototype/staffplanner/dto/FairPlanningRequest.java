@@ -0,0 +1,21 @@
+package com.prototype.staffplanner.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+
+public record FairPlanningRequest(
+
+        @NotNull
+        LocalDate from,
+
+        @NotNull
+        LocalDate to,
+
+        @Positive
+        @Max(30_000)
+        Long budgetMillis
+) {
+}
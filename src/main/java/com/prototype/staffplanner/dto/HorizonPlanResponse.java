@@ -0,0 +1,29 @@
+package com.prototype.staffplanner.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record HorizonPlanResponse(
+        LocalDate from,
+        LocalDate to,
+        int plannedDays,
+        int failedDays,
+        long elapsedMillis,
+        List<DayResult> days
+) {
+
+    public record DayResult(
+            LocalDate date,
+            Status status,
+            int assignments,
+            long solveMicros,
+            String message,
+            ScheduleChanges changes
+    ) {
+    }
+
+    public enum Status {
+        PLANNED,
+        FAILED
+    }
+}
@@ -0,0 +1,15 @@
+package com.prototype.staffplanner.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record HorizonPlanningRequest(
+
+        @NotNull
+        LocalDate from,
+
+        @NotNull
+        LocalDate to
+) {
+}
@@ -0,0 +1,20 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PlanResponse(
+        LocalDate date,
+        List<Assignment> assignments
+) {
+
+    public record Assignment(
+            Long scheduleEntryId,
+            Long employeeId,
+            String employeeName,
+            ShiftType shiftType
+    ) {
+    }
+}
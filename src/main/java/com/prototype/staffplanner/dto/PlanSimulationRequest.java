@@ -0,0 +1,15 @@
+package com.prototype.staffplanner.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PlanSimulationRequest(
+
+        @NotNull
+        LocalDate date,
+
+        List<Long> wishBookEntryIds
+) {
+}
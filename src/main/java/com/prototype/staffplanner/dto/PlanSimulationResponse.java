@@ -0,0 +1,15 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.service.PlanViolation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record PlanSimulationResponse(
+        LocalDate date,
+        boolean valid,
+        List<PlanViolation> violations,
+        List<PlanResponse.Assignment> assignments,
+        ScheduleChanges changes
+) {
+}
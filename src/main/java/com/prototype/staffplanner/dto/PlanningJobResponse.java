@@ -0,0 +1,23 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.enums.PlanningJobStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record PlanningJobResponse(
+        UUID id,
+        PlanningJobStatus status,
+        LocalDate from,
+        LocalDate to,
+        int totalDays,
+        int plannedDays,
+        int progressPercent,
+        boolean cancelRequested,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        String message
+) {
+}
@@ -0,0 +1,11 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+public record ScheduleChange(
+        Long scheduleEntryId,
+        Long employeeId,
+        ShiftType previousShiftType,
+        ShiftType shiftType
+) {
+}
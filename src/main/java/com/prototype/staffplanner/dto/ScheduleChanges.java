@@ -0,0 +1,17 @@
+package com.prototype.staffplanner.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ScheduleChanges(
+        LocalDate date,
+        List<ScheduleChange> inserted,
+        List<ScheduleChange> updated,
+        List<ScheduleChange> deleted,
+        int unchanged
+) {
+
+    public boolean hasChanges() {
+        return !inserted.isEmpty() || !updated.isEmpty() || !deleted.isEmpty();
+    }
+}
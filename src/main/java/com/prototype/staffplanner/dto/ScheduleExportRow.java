@@ -0,0 +1,14 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+
+public record ScheduleExportRow(
+        Long scheduleEntryId,
+        LocalDate date,
+        ShiftType shiftType,
+        Long employeeId,
+        String employeeName
+) {
+}
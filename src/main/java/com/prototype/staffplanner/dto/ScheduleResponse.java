@@ -1,6 +1,6 @@
 package com.prototype.staffplanner.dto;
 
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.model.ShiftType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,9 +22,9 @@ public class ScheduleResponse {
         private final String timeRange;
         private final List<String> employeeNames;
 
-        public ShiftInfo(ShiftType shiftType, List<String> employeeNames) {
+        public ShiftInfo(ShiftType shiftType, String timeRange, List<String> employeeNames) {
             this.shiftType = shiftType;
-            this.timeRange = shiftType.getTimeRange();
+            this.timeRange = timeRange;
             this.employeeNames = employeeNames;
         }
     }
@@ -0,0 +1,12 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalDate;
+
+public record ScheduleRow(
+        LocalDate date,
+        ShiftType shiftType,
+        String employeeName
+) {
+}
@@ -0,0 +1,18 @@
+package com.prototype.staffplanner.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalTime;
+
+public record ShiftDefinitionRequest(
+
+        @NotNull
+        LocalTime startTime,
+
+        @NotNull
+        LocalTime endTime,
+
+        @Min(1)
+        int requiredHeadcount
+) {}
@@ -0,0 +1,9 @@
+package com.prototype.staffplanner.dto;
+
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalTime;
+
+public record ShiftDefinitionResponse(ShiftType shiftType, LocalTime startTime, LocalTime endTime,
+                                      String timeRange, int requiredHeadcount) {
+}
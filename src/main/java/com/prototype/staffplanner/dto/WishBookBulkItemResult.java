@@ -0,0 +1,23 @@
+package com.prototype.staffplanner.dto;
+
+public record WishBookBulkItemResult(
+        int index,
+        Status status,
+        WishBookEntryResponse entry,
+        String message
+) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE
+    }
+
+    public static WishBookBulkItemResult created(int index, WishBookEntryResponse entry) {
+        return new WishBookBulkItemResult(index, Status.CREATED, entry, null);
+    }
+
+    public static WishBookBulkItemResult duplicate(int index, WishBookEntryResponse entry) {
+        return new WishBookBulkItemResult(index, Status.DUPLICATE, entry,
+                "A wish book entry for this employee, date and shift type already exists.");
+    }
+}
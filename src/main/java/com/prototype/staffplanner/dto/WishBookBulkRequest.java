@@ -0,0 +1,16 @@
+package com.prototype.staffplanner.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record WishBookBulkRequest(
+
+        @NotEmpty
+        @Size(max = 5000)
+        List<@NotNull @Valid WishBookRequest> entries
+) {
+}
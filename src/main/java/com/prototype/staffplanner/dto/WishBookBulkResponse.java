@@ -0,0 +1,10 @@
+package com.prototype.staffplanner.dto;
+
+import java.util.List;
+
+public record WishBookBulkResponse(
+        int created,
+        int duplicates,
+        List<WishBookBulkItemResult> results
+) {
+}
@@ -1,6 +1,6 @@
 package com.prototype.staffplanner.dto;
 
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.model.ShiftType;
 
 import java.time.LocalDate;
 
@@ -0,0 +1,40 @@
+package com.prototype.staffplanner.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the NDJSON stream returned by the wish book import: a rejected input line, the progress after
+ * a committed batch, or the final summary. Fields that do not apply to the type are omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WishBookImportEvent(
+        Type type,
+        Long line,
+        String message,
+        Long rows,
+        Long created,
+        Long duplicates,
+        Long errors,
+        Long elapsedMillis,
+        Long rowsPerSecond
+) {
+
+    public enum Type {
+        ERROR,
+        PROGRESS,
+        SUMMARY
+    }
+
+    public static WishBookImportEvent error(Long line, String message) {
+        return new WishBookImportEvent(Type.ERROR, line, message, null, null, null, null, null, null);
+    }
+
+    public static WishBookImportEvent progress(long rows, long created, long duplicates, long errors, long elapsedMillis) {
+        return new WishBookImportEvent(Type.PROGRESS, null, null, rows, created, duplicates, errors, elapsedMillis, null);
+    }
+
+    public static WishBookImportEvent summary(long rows, long created, long duplicates, long errors,
+                                              long elapsedMillis, long rowsPerSecond) {
+        return new WishBookImportEvent(Type.SUMMARY, null, null, rows, created, duplicates, errors, elapsedMillis, rowsPerSecond);
+    }
+}
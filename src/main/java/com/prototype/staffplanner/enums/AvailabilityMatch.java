@@ -0,0 +1,11 @@
+package com.prototype.staffplanner.enums;
+
+/**
+ * How the availability of several dates is combined.
+ */
+public enum AvailabilityMatch {
+    /** Available on every date of the range. */
+    ALL,
+    /** Available on at least one date of the range. */
+    ANY
+}
@@ -0,0 +1,21 @@
+package com.prototype.staffplanner.enums;
+
+/**
+ * Lifecycle of an asynchronous planning job.
+ */
+public enum PlanningJobStatus {
+    /** Waiting for a free planning thread. */
+    QUEUED,
+    /** Being planned. */
+    RUNNING,
+    /** Planned and saved; the result can be fetched. */
+    SUCCEEDED,
+    /** Stopped with an error; nothing was saved. */
+    FAILED,
+    /** Cancelled before anything was saved. */
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
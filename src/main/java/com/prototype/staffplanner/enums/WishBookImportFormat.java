@@ -0,0 +1,11 @@
+package com.prototype.staffplanner.enums;
+
+/**
+ * Line formats accepted by the streaming wish book import.
+ */
+public enum WishBookImportFormat {
+    /** {@code employeeName,date,shiftType} per line, with an optional header line; fields may be double-quoted. */
+    CSV,
+    /** One JSON object per line with the fields of a single wish book entry request. */
+    NDJSON
+}
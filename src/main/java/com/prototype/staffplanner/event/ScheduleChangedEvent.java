@@ -0,0 +1,18 @@
+package com.prototype.staffplanner.event;
+
+import com.prototype.staffplanner.dto.ScheduleChanges;
+
+import java.time.LocalDate;
+
+/**
+ * Published by the planning service whenever a plan inserts, updates or deletes schedule entries for a date.
+ * Listeners that must only see committed data should use {@code @TransactionalEventListener}.
+ *
+ * @param changes the rows that changed for the date
+ */
+public record ScheduleChangedEvent(ScheduleChanges changes) {
+
+    public LocalDate date() {
+        return changes.date();
+    }
+}
@@ -1,6 +1,5 @@
 package com.prototype.staffplanner.model;
 
-import com.prototype.staffplanner.enums.ShiftType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -8,8 +7,9 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+// The unique (employee_id, date) index also serves per-employee date range queries
 @Table(name = "schedule_entries", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"employee_id", "date"})
+        @UniqueConstraint(name = "uk_schedule_entries_employee_date", columnNames = {"employee_id", "date"})
 })
 @Getter
 @Setter
@@ -19,7 +19,8 @@ import java.time.LocalDate;
 public class ScheduleEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_entries_seq")
+    @SequenceGenerator(name = "schedule_entries_seq", sequenceName = "schedule_entries_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +30,12 @@ public class ScheduleEntry {
     @NotNull
     private LocalDate date;
 
-    @Enumerated(EnumType.STRING)
-    private ShiftType shiftType;
+    // A store has a handful of definitions, and every reader of an entry needs its shift code
+    @ManyToOne
+    @JoinColumn(name = "shift_definition_id", nullable = false)
+    private ShiftDefinition shiftDefinition;
+
+    public ShiftType getShiftType() {
+        return shiftDefinition.getShiftType();
+    }
 }
@@ -0,0 +1,42 @@
+package com.prototype.staffplanner.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * How a store runs one shift type: its working hours and how many employees it needs each day.
+ * Wishes and schedule entries refer to their definition, so a shift that is no longer offered keeps its
+ * definition with {@code offered} cleared; it is then never planned.
+ */
+@Entity
+@Table(name = "shift_definitions")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ShiftDefinition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shift_definitions_seq")
+    @SequenceGenerator(name = "shift_definitions_seq", sequenceName = "shift_definitions_seq", allocationSize = 50)
+    private Long id;
+
+    @NotNull
+    @Column(unique = true, nullable = false)
+    private ShiftType shiftType;
+
+    @NotNull
+    private LocalTime startTime;
+
+    @NotNull
+    private LocalTime endTime;
+
+    private int requiredHeadcount;
+
+    @Builder.Default
+    private boolean offered = true;
+}
@@ -0,0 +1,46 @@
+package com.prototype.staffplanner.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.regex.Pattern;
+
+/**
+ * The code of a shift, such as {@code EARLY_SHIFT}. Codes are data: a store offers whatever shifts it has
+ * {@link ShiftDefinition}s for, and defining a shift with a new code adds it. The two shifts every store
+ * starts with are available as constants.
+ *
+ * @param code upper-case letters, digits and underscores, starting with a letter; at most 32 characters
+ */
+public record ShiftType(@JsonValue String code) implements Comparable<ShiftType> {
+
+    private static final Pattern CODE = Pattern.compile("[A-Z][A-Z0-9_]{0,31}");
+
+    public static final ShiftType EARLY_SHIFT = new ShiftType("EARLY_SHIFT");
+    public static final ShiftType LATE_SHIFT = new ShiftType("LATE_SHIFT");
+
+    public ShiftType {
+        if (code == null || !CODE.matcher(code).matches()) {
+            throw new IllegalArgumentException("Invalid shift type '" + code + "': expected up to 32 upper-case "
+                    + "letters, digits and underscores, starting with a letter.");
+        }
+    }
+
+    /**
+     * Parses a shift code; also used to bind request parameters, path variables and JSON values.
+     */
+    @JsonCreator
+    public static ShiftType valueOf(String code) {
+        return new ShiftType(code);
+    }
+
+    @Override
+    public int compareTo(ShiftType other) {
+        return code.compareTo(other.code);
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
@@ -0,0 +1,21 @@
+package com.prototype.staffplanner.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link ShiftType} as its code.
+ */
+@Converter(autoApply = true)
+public class ShiftTypeConverter implements AttributeConverter<ShiftType, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ShiftType shiftType) {
+        return shiftType == null ? null : shiftType.code();
+    }
+
+    @Override
+    public ShiftType convertToEntityAttribute(String code) {
+        return code == null ? null : ShiftType.valueOf(code);
+    }
+}
@@ -1,6 +1,5 @@
 package com.prototype.staffplanner.model;
 
-import com.prototype.staffplanner.enums.ShiftType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -8,8 +7,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+// The unique index leads with (employee_id, date), so it also serves per-employee date range queries
 @Table(name = "wish_book_entries", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"employee_id", "date", "shift_type"})
+        @UniqueConstraint(name = "uk_wish_book_entries_employee_date_shift", columnNames = {
+                "employee_id", "date", "shift_definition_id"})
 })
 @Getter
 @Setter
@@ -19,7 +20,8 @@ import java.time.LocalDate;
 public class WishBookEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wish_book_entries_seq")
+    @SequenceGenerator(name = "wish_book_entries_seq", sequenceName = "wish_book_entries_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +31,12 @@ public class WishBookEntry {
     @NotNull
     private LocalDate date;
 
-    @Enumerated(EnumType.STRING)
-    private ShiftType shiftType;
+    // A store has a handful of definitions, and every reader of an entry needs its shift code
+    @ManyToOne
+    @JoinColumn(name = "shift_definition_id", nullable = false)
+    private ShiftDefinition shiftDefinition;
+
+    public ShiftType getShiftType() {
+        return shiftDefinition.getShiftType();
+    }
 }
@@ -1,11 +1,26 @@
 package com.prototype.staffplanner.repository;
 
+import com.prototype.staffplanner.dto.EmployeeRef;
 import com.prototype.staffplanner.model.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     Optional<Employee> findByName(String name);
+
+    @Query("select e.id from Employee e where e.name = :name")
+    Optional<Long> findIdByName(@Param("name") String name);
+
+    @Query("select new com.prototype.staffplanner.dto.EmployeeRef(e.id, e.name) from Employee e where e.name in :names")
+    List<EmployeeRef> findRefsByNameIn(@Param("names") Collection<String> names);
+
+    @Query("select new com.prototype.staffplanner.dto.EmployeeRef(e.id, e.name) from Employee e order by e.id")
+    List<EmployeeRef> findRefs(Pageable pageable);
 }
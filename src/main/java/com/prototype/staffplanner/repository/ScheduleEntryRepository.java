@@ -1,14 +1,61 @@
 package com.prototype.staffplanner.repository;
 
+import com.prototype.staffplanner.dto.ScheduleExportRow;
+import com.prototype.staffplanner.dto.ScheduleRow;
 import com.prototype.staffplanner.model.ScheduleEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ScheduleEntryRepository extends JpaRepository<ScheduleEntry, Long> {
 
+    /**
+     * Rows fetched per round trip while an export streams. Only a client/server connection honours it; the
+     * embedded H2 database builds the whole result before the first row is read, in memory up to its
+     * {@code MAX_MEMORY_ROWS} setting and in a temporary file beyond that. The export streams still map and
+     * write one row at a time, so no list of rows or managed entities is held on the application side.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    @EntityGraph(attributePaths = {"employee", "shiftDefinition"})
     List<ScheduleEntry> findByDate(LocalDate date);
-    List<ScheduleEntry> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
-    void deleteByDate(LocalDate date);
+
+    List<ScheduleEntry> findByEmployeeIdAndDateBetweenOrderByDate(Long employeeId, LocalDate from, LocalDate to);
+    List<ScheduleEntry> findByDateIn(Collection<LocalDate> dates);
+
+    @Query("""
+            select new com.prototype.staffplanner.dto.ScheduleRow(s.date, d.shiftType, e.name)
+            from ScheduleEntry s join s.employee e join s.shiftDefinition d
+            where s.date between :from and :to
+            order by s.date, s.id
+            """)
+    List<ScheduleRow> findRowsByDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.prototype.staffplanner.dto.ScheduleExportRow(s.id, s.date, d.shiftType, e.id, e.name)
+            from ScheduleEntry s join s.employee e join s.shiftDefinition d
+            where s.date between :from and :to
+            order by s.date, d.shiftType, e.name
+            """)
+    Stream<ScheduleExportRow> streamExportRows(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.prototype.staffplanner.dto.ScheduleExportRow(s.id, s.date, d.shiftType, e.id, e.name)
+            from ScheduleEntry s join s.employee e join s.shiftDefinition d
+            where e.id = :employeeId and s.date between :from and :to
+            order by s.date
+            """)
+    Stream<ScheduleExportRow> streamExportRowsForEmployee(@Param("employeeId") Long employeeId,
+                                                          @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
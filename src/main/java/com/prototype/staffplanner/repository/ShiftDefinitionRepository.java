@@ -0,0 +1,21 @@
+package com.prototype.staffplanner.repository;
+
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface ShiftDefinitionRepository extends JpaRepository<ShiftDefinition, Long> {
+
+    Optional<ShiftDefinition> findByShiftType(ShiftType shiftType);
+
+    /**
+     * Finds a definition and locks its row until the transaction completes, so concurrent changes of one shift
+     * type are applied one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ShiftDefinition> findForUpdateByShiftType(ShiftType shiftType);
+}
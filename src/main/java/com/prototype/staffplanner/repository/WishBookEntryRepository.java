@@ -1,13 +1,60 @@
 package com.prototype.staffplanner.repository;
 
+import com.prototype.staffplanner.dto.AvailabilityRow;
+import com.prototype.staffplanner.dto.WishBookKey;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.model.WishBookEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface WishBookEntryRepository extends JpaRepository<WishBookEntry, Long> {
 
+    /**
+     * Rows fetched per round trip while a full scan streams.
+     */
+    String SCAN_FETCH_SIZE = "1000";
+
+    @Override
+    @EntityGraph(attributePaths = {"employee", "shiftDefinition"})
+    List<WishBookEntry> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(attributePaths = {"employee", "shiftDefinition"})
     List<WishBookEntry> findByDate(LocalDate date);
-    List<WishBookEntry> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+
+    @EntityGraph(attributePaths = {"employee", "shiftDefinition"})
+    List<WishBookEntry> findByDateBetween(LocalDate from, LocalDate to);
+
+    List<WishBookEntry> findByEmployeeIdAndDateBetweenOrderByDateAscShiftDefinitionShiftTypeAsc(Long employeeId,
+                                                                                              LocalDate from,
+                                                                                              LocalDate to);
+
+    /**
+     * Keys of the stored wishes among the given employees, dates and shift types, without loading the entries.
+     */
+    @Query("""
+            select new com.prototype.staffplanner.dto.WishBookKey(w.employee.id, w.date, d.shiftType)
+            from WishBookEntry w join w.shiftDefinition d
+            where w.employee.id in :employeeIds and w.date in :dates and d.shiftType in :shiftTypes
+            """)
+    List<WishBookKey> findKeys(@Param("employeeIds") Collection<Long> employeeIds,
+                               @Param("dates") Collection<LocalDate> dates,
+                               @Param("shiftTypes") Collection<ShiftType> shiftTypes);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = SCAN_FETCH_SIZE))
+    @Query("""
+            select new com.prototype.staffplanner.dto.AvailabilityRow(e.id, e.name, w.date, d.shiftType)
+            from WishBookEntry w join w.employee e join w.shiftDefinition d
+            order by e.id
+            """)
+    Stream<AvailabilityRow> streamAvailabilityRows();
 }
@@ -0,0 +1,309 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.AvailabilityResponse;
+import com.prototype.staffplanner.dto.AvailabilityRow;
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of which employees wished which shift on which date.
+ * <p>
+ * Every employee gets a dense ordinal the first time one of their wishes is indexed, and every (date, shift)
+ * pair holds a {@link BitSet} over those ordinals. Asking who is available for a shift on a number of dates
+ * is then an AND (available on all dates) or OR (available on any date) over a few machine words per
+ * 64 employees, with no query and no grouping of wish book entries.
+ * <p>
+ * The index is built from a single streamed projection query in the background after startup, so a large
+ * wish book does not delay readiness. A failed build is retried with exponential backoff of up to a minute.
+ * Availability queries wait a bounded time for the first build and are otherwise rejected with
+ * {@link AvailabilityIndexUnavailableException} (HTTP 503). It is kept current by {@link WishBookEntryService},
+ * which records every wish once it has committed. Wishes are never deleted, so the index only grows.
+ * <p>
+ * A rebuild scans into new tables without holding the lock, so wishes keep being recorded and queries keep
+ * being answered from the current tables meanwhile. Wishes recorded during the scan are also buffered and
+ * replayed onto the new tables right before they are swapped in under a short write lock; adding a wish
+ * the scan already saw is harmless.
+ * <p>
+ * Memory: for 1,000 employees a bitset holds 16 longs, about 170 bytes with its array and object headers.
+ * With two shifts a date costs about 420 bytes including its map entry, so 365 days take about 150 KB.
+ * The employee table (ordinal, id and name) adds about 150 bytes per employee, another 150 KB. That is
+ * roughly 300 KB per 1,000 employees × 365 days, growing linearly in both. A rebuild briefly holds the old
+ * and the new tables.
+ */
+@Slf4j
+@Component
+public class AvailabilityIndex {
+
+    static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+    private static final Duration MAXIMUM_BACKOFF = Duration.ofMinutes(1);
+
+    private final WishBookEntryRepository wishBookEntryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration waitTimeout;
+    private final Duration retryBackoff;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final CompletableFuture<Void> firstBuild = new CompletableFuture<>();
+    private volatile Thread builder;
+
+    private Tables tables = new Tables();
+    private List<AvailabilityRow> recordedDuringRebuild;
+
+    public AvailabilityIndex(WishBookEntryRepository wishBookEntryRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${staff-planner.availability-index.wait-timeout:PT2S}") Duration waitTimeout,
+                             @Value("${staff-planner.availability-index.retry-backoff:PT1S}") Duration retryBackoff) {
+        this.wishBookEntryRepository = wishBookEntryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.waitTimeout = waitTimeout;
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Starts the first build on a background thread, so the application serves requests while the wish book
+     * is scanned. The build is retried until it succeeds or the application shuts down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        builder = Thread.ofPlatform().name("availability-index-build").daemon().start(this::buildUntilDone);
+    }
+
+    @PreDestroy
+    void stopBuilding() {
+        var running = builder;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    private void buildUntilDone() {
+        var backoff = retryBackoff;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                rebuild();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Building the availability index failed; retrying in {} ms", backoff.toMillis(), ex);
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            backoff = backoff.multipliedBy(2);
+            if (backoff.compareTo(MAXIMUM_BACKOFF) > 0) {
+                backoff = MAXIMUM_BACKOFF;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from all stored wishes, streamed so that memory does not grow with the wish book.
+     * Only the final swap takes the write lock; wishes recorded during the scan are replayed onto the new
+     * tables first, so none of them is lost.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            bufferRecordedRows(new ArrayList<>());
+
+            var rebuilt = new Tables();
+            long wishes;
+            try {
+                wishes = readOnlyTransaction.execute(status -> {
+                    try (var rows = wishBookEntryRepository.streamAvailabilityRows()) {
+                        long count = 0;
+                        for (var iterator = rows.iterator(); iterator.hasNext(); count++) {
+                            rebuilt.add(iterator.next());
+                        }
+                        return count;
+                    }
+                });
+            } catch (RuntimeException ex) {
+                bufferRecordedRows(null);
+                throw ex;
+            }
+
+            int employees;
+            lock.writeLock().lock();
+            try {
+                recordedDuringRebuild.forEach(rebuilt::add);
+                recordedDuringRebuild = null;
+                tables = rebuilt;
+                employees = rebuilt.employeesByOrdinal.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            firstBuild.complete(null);
+            log.info("Availability index built from {} wishes of {} employees in {} ms", wishes, employees,
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void bufferRecordedRows(List<AvailabilityRow> buffer) {
+        lock.writeLock().lock();
+        try {
+            recordedDuringRebuild = buffer;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds wishes to the index. Inside a transaction they are only added after commit, so a rolled-back
+     * wish is never reported as available.
+     *
+     * @param rows the saved wishes
+     */
+    public void record(List<AvailabilityRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addAll(rows);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addAll(rows);
+            }
+        });
+    }
+
+    /**
+     * Finds the employees available for a shift on every date, or on any date, of a range.
+     *
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @param shiftType the shift to check
+     * @param match whether an employee must be available on all dates or on at least one
+     * @return the matching employees, ordered by when they first wished a shift
+     * @throws AvailabilityIndexUnavailableException if the first build is not done within the wait timeout
+     */
+    public AvailabilityResponse findAvailable(LocalDate from, LocalDate to, ShiftType shiftType, AvailabilityMatch match) {
+        var dates = DateRanges.between(from, to);
+
+        awaitFirstBuild();
+        lock.readLock().lock();
+        try {
+            var available = tables.combine(dates, shiftType, match);
+            var employees = new ArrayList<EmployeeRef>(available.cardinality());
+            for (int ordinal = available.nextSetBit(0); ordinal >= 0; ordinal = available.nextSetBit(ordinal + 1)) {
+                employees.add(tables.employeesByOrdinal.get(ordinal));
+            }
+            return new AvailabilityResponse(from, to, shiftType, match, employees.size(), employees);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int employeeCount() {
+        lock.readLock().lock();
+        try {
+            return tables.employeesByOrdinal.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void awaitFirstBuild() {
+        try {
+            firstBuild.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new AvailabilityIndexUnavailableException(
+                    "The availability index is still being built; try again shortly.", RETRY_AFTER);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AvailabilityIndexUnavailableException(
+                    "Interrupted while waiting for the availability index.", RETRY_AFTER);
+        } catch (ExecutionException ex) {
+            // The first build is retried until it succeeds and never completes exceptionally
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void addAll(List<AvailabilityRow> rows) {
+        lock.writeLock().lock();
+        try {
+            rows.forEach(tables::add);
+            if (recordedDuringRebuild != null) {
+                recordedDuringRebuild.addAll(rows);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The employee table and the bitsets per date and shift. Guarded by the index's lock once published.
+     */
+    private static final class Tables {
+
+        private final Map<Long, Integer> ordinalsByEmployeeId = new HashMap<>();
+        private final List<EmployeeRef> employeesByOrdinal = new ArrayList<>();
+        private final Map<LocalDate, Map<ShiftType, BitSet>> availabilityByDate = new HashMap<>();
+
+        private void add(AvailabilityRow row) {
+            int ordinal = ordinalsByEmployeeId.computeIfAbsent(row.employeeId(), employeeId -> {
+                employeesByOrdinal.add(new EmployeeRef(employeeId, row.employeeName()));
+                return employeesByOrdinal.size() - 1;
+            });
+            availabilityByDate.computeIfAbsent(row.date(), date -> new HashMap<>(4))
+                    .computeIfAbsent(row.shiftType(), shiftType -> new BitSet())
+                    .set(ordinal);
+        }
+
+        private BitSet combine(List<LocalDate> dates, ShiftType shiftType, AvailabilityMatch match) {
+            BitSet result = null;
+            for (LocalDate date : dates) {
+                var shifts = availabilityByDate.get(date);
+                var available = shifts == null ? null : shifts.get(shiftType);
+                if (available == null) {
+                    if (match == AvailabilityMatch.ALL) {
+                        return new BitSet();
+                    }
+                    continue;
+                }
+                if (result == null) {
+                    result = (BitSet) available.clone();
+                } else if (match == AvailabilityMatch.ALL) {
+                    result.and(available);
+                } else {
+                    result.or(available);
+                }
+            }
+            return result == null ? new BitSet() : result;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.prototype.staffplanner.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when an availability query cannot be answered because the availability index has not been built yet.
+ */
+public class AvailabilityIndexUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AvailabilityIndexUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,100 @@
+package com.prototype.staffplanner.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes schedule writes per date within this instance.
+ * <p>
+ * A plan reads the current schedule of a date, diffs it and writes the difference. Two plans for the same
+ * date running side by side would both read the old schedule and both insert, and one of them would fail on
+ * the unique (employee, date) constraint. Holding the date's lock from the read until the transaction has
+ * completed makes the second plan read what the first one committed instead.
+ * <p>
+ * Dates map to {@value #STRIPES} striped locks by epoch day, so any 512 consecutive dates never share a lock
+ * and plans for different dates run in parallel. Several dates are locked in ascending stripe order, so two
+ * multi-date plans cannot deadlock each other. The locks do not coordinate separate instances of the
+ * application; there the unique constraint still rejects the loser with 409.
+ */
+@Component
+public class DateLocks {
+
+    static final int STRIPES = 512;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final Duration timeout;
+
+    public DateLocks(@Value("${staff-planner.date-locks.timeout:PT30S}") Duration timeout) {
+        this.timeout = timeout;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Locks the given dates until the current transaction has committed or rolled back.
+     *
+     * @throws IllegalStateException if no transaction is active
+     * @throws CannotAcquireLockException if a date stays locked by another plan for longer than the timeout
+     */
+    public void lockUntilCompletion(Collection<LocalDate> dates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Dates can only be locked inside a transaction.");
+        }
+
+        var stripes = new TreeSet<Integer>();
+        dates.forEach(date -> stripes.add(stripe(date)));
+
+        List<ReentrantLock> held = new ArrayList<>(stripes.size());
+        try {
+            for (int stripe : stripes) {
+                var lock = locks[stripe];
+                if (!lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new CannotAcquireLockException("Another plan is still writing one of the dates " + dates
+                            + "; gave up after " + timeout.toSeconds() + " s.");
+                }
+                held.add(lock);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            unlock(held);
+            throw new CannotAcquireLockException("Interrupted while waiting for the dates " + dates + ".", ex);
+        } catch (RuntimeException ex) {
+            unlock(held);
+            throw ex;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(held);
+            }
+        });
+    }
+
+    boolean isLocked(LocalDate date) {
+        return locks[stripe(date)].isLocked();
+    }
+
+    private static int stripe(LocalDate date) {
+        return (int) Math.floorMod(date.toEpochDay(), (long) STRIPES);
+    }
+
+    private static void unlock(List<ReentrantLock> held) {
+        for (int i = held.size() - 1; i >= 0; i--) {
+            held.get(i).unlock();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.prototype.staffplanner.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+final class DateRanges {
+
+    static final int MAX_RANGE_DAYS = 366;
+
+    private DateRanges() {
+    }
+
+    /**
+     * Lists every date from {@code from} to {@code to}, both inclusive.
+     *
+     * @throws IllegalArgumentException if the range is reversed or longer than {@link #MAX_RANGE_DAYS}
+     */
+    static List<LocalDate> between(LocalDate from, LocalDate to) {
+        check(from, to);
+        return from.datesUntil(to.plusDays(1)).toList();
+    }
+
+    /**
+     * Checks a range like {@link #between} without listing its dates.
+     */
+    static void check(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The end date must not be before the start date.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("A date range can span at most " + MAX_RANGE_DAYS + " days.");
+        }
+    }
+}
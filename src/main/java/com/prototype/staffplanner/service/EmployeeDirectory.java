@@ -0,0 +1,233 @@
+package com.prototype.staffplanner.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, concurrent cache of employee name to id, kept in front of {@link EmployeeRepository}.
+ * <p>
+ * The cache is warmed with the first employees at startup, filled on every miss that finds an employee
+ * and updated when an employee is created. Callers use the id with {@code getReferenceById}, so resolving
+ * a known name costs no database round trip at all.
+ * <p>
+ * Unknown names are created by {@link #resolveIds} in their own short transaction, so a new employee is
+ * visible to everyone as soon as it is resolved. Creation is serialized per name with striped locks that are
+ * released right after that insert commits, so concurrent requests in this instance never race on the unique
+ * name constraint and never wait for each other's transactions. A conflict with another instance is resolved
+ * by reading back the committed id.
+ */
+@Slf4j
+@Component
+public class EmployeeDirectory {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate newTransaction;
+    private final Cache<String, Long> idsByName;
+    private final ReentrantLock[] creationLocks = new ReentrantLock[LOCK_STRIPES];
+    private final int maximumSize;
+    private final Duration lockTimeout;
+
+    public EmployeeDirectory(EmployeeRepository employeeRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${staff-planner.employee-directory.maximum-size:10000}") int maximumSize,
+                             @Value("${staff-planner.employee-directory.lock-timeout:PT30S}") Duration lockTimeout) {
+        this.employeeRepository = employeeRepository;
+        this.lockTimeout = lockTimeout;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maximumSize = maximumSize;
+        this.idsByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            creationLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Loads up to the configured maximum number of employees into the cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        var employees = employeeRepository.findRefs(PageRequest.of(0, maximumSize));
+        employees.forEach(employee -> idsByName.put(employee.name(), employee.id()));
+        log.info("Employee directory warmed with {} employees", employees.size());
+    }
+
+    /**
+     * Resolves the id of an employee by name, querying only the id column on a cache miss.
+     *
+     * @param name the unique employee name
+     * @return the employee id, or empty if no employee has that name
+     */
+    public Optional<Long> findId(String name) {
+        var id = idsByName.getIfPresent(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        var stored = employeeRepository.findIdByName(name);
+        stored.ifPresent(storedId -> idsByName.put(name, storedId));
+        return stored;
+    }
+
+    /**
+     * Resolves the id of an employee by name, creating the employee if it does not exist yet.
+     * Safe to call concurrently for the same new name: exactly one caller inserts and all of them get its id.
+     *
+     * @param name the unique employee name
+     * @return the id of the existing or newly created employee
+     * @see #resolveIds
+     */
+    public Long resolveId(String name) {
+        return resolveIds(List.of(name)).get(name);
+    }
+
+    /**
+     * Resolves the ids of many employees by name, creating the ones that do not exist yet.
+     * Cached names cost nothing and the remaining ones are looked up with a single query.
+     * <p>
+     * Missing employees are inserted in one new transaction that commits before this method returns, even when
+     * the caller has a transaction of its own, and their names are only locked for that insert. Callers should
+     * resolve names before they open their own transaction, so they do not hold two connections at once.
+     *
+     * @param names the unique employee names
+     * @return the employee id for every given name
+     * @throws CannotAcquireLockException if a name stays locked by another caller for longer than the timeout
+     */
+    public Map<String, Long> resolveIds(Collection<String> names) {
+        Map<String, Long> idsByRequestedName = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String name : new LinkedHashSet<>(names)) {
+            var id = idsByName.getIfPresent(name);
+            if (id != null) {
+                idsByRequestedName.put(name, id);
+            } else {
+                uncached.add(name);
+            }
+        }
+        if (uncached.isEmpty()) {
+            return idsByRequestedName;
+        }
+
+        var missing = putStored(uncached, idsByRequestedName);
+        if (missing.isEmpty()) {
+            return idsByRequestedName;
+        }
+
+        var held = lock(missing);
+        try {
+            // Another caller may have created some of the employees while this one was waiting
+            missing = putStored(missing, idsByRequestedName);
+            if (!missing.isEmpty()) {
+                insert(missing, idsByRequestedName);
+            }
+        } finally {
+            unlock(held);
+        }
+        return idsByRequestedName;
+    }
+
+    private void insert(List<String> names, Map<String, Long> idsByRequestedName) {
+        List<Employee> saved;
+        try {
+            saved = newTransaction.execute(status -> employeeRepository.saveAllAndFlush(newEmployees(names)));
+        } catch (DataIntegrityViolationException ex) {
+            // Some were created concurrently by another instance; read those back and insert the rest again
+            var remaining = putStored(names, idsByRequestedName);
+            if (remaining.isEmpty()) {
+                return;
+            }
+            saved = newTransaction.execute(status -> employeeRepository.saveAllAndFlush(newEmployees(remaining)));
+        }
+        saved.forEach(employee -> {
+            idsByName.put(employee.getName(), employee.getId());
+            idsByRequestedName.put(employee.getName(), employee.getId());
+        });
+    }
+
+    private static List<Employee> newEmployees(List<String> names) {
+        return names.stream()
+                .map(name -> Employee.builder().name(name).build())
+                .toList();
+    }
+
+    /**
+     * Looks up the stored ids of the given names, caching and collecting the ones found.
+     *
+     * @return the names that have no employee yet
+     */
+    private List<String> putStored(List<String> names, Map<String, Long> idsByRequestedName) {
+        for (EmployeeRef employee : employeeRepository.findRefsByNameIn(names)) {
+            idsByName.put(employee.name(), employee.id());
+            idsByRequestedName.put(employee.name(), employee.id());
+        }
+        return names.stream()
+                .filter(name -> !idsByRequestedName.containsKey(name))
+                .toList();
+    }
+
+    private List<ReentrantLock> lock(List<String> names) {
+        // Ascending stripe order, so two callers locking several names cannot deadlock each other
+        var stripes = new TreeSet<Integer>();
+        names.forEach(name -> stripes.add(Math.floorMod(name.hashCode(), LOCK_STRIPES)));
+
+        List<ReentrantLock> held = new ArrayList<>(stripes.size());
+        try {
+            for (int stripe : stripes) {
+                var lock = creationLocks[stripe];
+                if (!lock.tryLock(lockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw new CannotAcquireLockException("Another request is still creating one of the employees "
+                            + names + "; gave up after " + lockTimeout.toSeconds() + " s.");
+                }
+                held.add(lock);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            unlock(held);
+            throw new CannotAcquireLockException("Interrupted while waiting for the employees " + names + ".", ex);
+        } catch (RuntimeException ex) {
+            unlock(held);
+            throw ex;
+        }
+        return held;
+    }
+
+    private static void unlock(List<ReentrantLock> held) {
+        for (int i = held.size() - 1; i >= 0; i--) {
+            held.get(i).unlock();
+        }
+    }
+
+    long size() {
+        idsByName.cleanUp();
+        return idsByName.estimatedSize();
+    }
+}
@@ -0,0 +1,76 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.EmployeeScheduleResponse;
+import com.prototype.staffplanner.dto.EmployeeWishesResponse;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Answers per-employee questions over a date range. Both lookups are range scans of the unique
+ * (employee_id, date, ...) indexes, so their cost follows the employee's own rows, not the size of the store.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeService {
+
+    private final EmployeeRepository employeeRepository;
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final WishBookEntryRepository wishBookEntryRepository;
+    private final ShiftCatalogService shiftCatalogService;
+
+    /**
+     * Lists the shifts an employee is scheduled for between from and to, in date order.
+     * @param employeeId the employee
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive, at most 366 days after from
+     * @throws EntityNotFoundException if the employee does not exist
+     */
+    @Transactional(readOnly = true)
+    public EmployeeScheduleResponse getSchedule(Long employeeId, LocalDate from, LocalDate to) {
+        DateRanges.check(from, to);
+        var employee = findEmployee(employeeId);
+        var catalog = shiftCatalogService.current();
+
+        var shifts = scheduleEntryRepository.findByEmployeeIdAndDateBetweenOrderByDate(employeeId, from, to).stream()
+                .map(entry -> {
+                    var shift = catalog.shift(entry.getShiftType());
+                    return new EmployeeScheduleResponse.Shift(entry.getDate(), entry.getShiftType(),
+                            shift == null ? null : shift.timeRange());
+                })
+                .toList();
+        return new EmployeeScheduleResponse(employee.getId(), employee.getName(), from, to, shifts);
+    }
+
+    /**
+     * Lists the wishes an employee made for dates between from and to, ordered by date and shift.
+     * @param employeeId the employee
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive, at most 366 days after from
+     * @throws EntityNotFoundException if the employee does not exist
+     */
+    @Transactional(readOnly = true)
+    public EmployeeWishesResponse getWishes(Long employeeId, LocalDate from, LocalDate to) {
+        DateRanges.check(from, to);
+        var employee = findEmployee(employeeId);
+
+        var wishes = wishBookEntryRepository
+                .findByEmployeeIdAndDateBetweenOrderByDateAscShiftDefinitionShiftTypeAsc(employeeId, from, to)
+                .stream()
+                .map(entry -> new EmployeeWishesResponse.Wish(entry.getId(), entry.getDate(), entry.getShiftType()))
+                .toList();
+        return new EmployeeWishesResponse(employee.getId(), employee.getName(), from, to, wishes);
+    }
+
+    private Employee findEmployee(Long employeeId) {
+        return employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new EntityNotFoundException("Employee " + employeeId + " does not exist."));
+    }
+}
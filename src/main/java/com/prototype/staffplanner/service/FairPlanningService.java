@@ -0,0 +1,152 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.FairPlanResponse;
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plans date ranges fairly with {@link FairnessOptimizer}.
+ * <p>
+ * The restarts of the search run on a dedicated, fixed pool of optimizer threads rather than the common
+ * fork/join pool, so a fair plan never starves the parallel horizon planning of other requests. At most the
+ * configured number of fair plans search at the same time, each with an equal share of the threads; a further
+ * request is rejected with {@link PlanningJobRejectedException} (HTTP 429) instead of waiting for a thread.
+ */
+@Service
+public class FairPlanningService {
+
+    static final Duration DEFAULT_BUDGET = Duration.ofSeconds(2);
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final WishBookEntryRepository wishBookEntryRepository;
+    private final PlanningService planningService;
+    private final ShiftCatalogService shiftCatalogService;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore runningPlans;
+    private final int maxConcurrentPlans;
+    private final int restartsPerPlan;
+
+    public FairPlanningService(WishBookEntryRepository wishBookEntryRepository,
+                               PlanningService planningService,
+                               ShiftCatalogService shiftCatalogService,
+                               @Value("${staff-planner.fair-planning.threads:4}") int threads,
+                               @Value("${staff-planner.fair-planning.max-concurrent-plans:2}") int maxConcurrentPlans) {
+        this.wishBookEntryRepository = wishBookEntryRepository;
+        this.planningService = planningService;
+        this.shiftCatalogService = shiftCatalogService;
+        this.maxConcurrentPlans = maxConcurrentPlans;
+        this.restartsPerPlan = Math.max(1, threads / maxConcurrentPlans);
+        this.runningPlans = new Semaphore(maxConcurrentPlans);
+        // Admission is limited by the semaphore, so the queue only takes restarts of plans that were admitted
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentPlans * restartsPerPlan),
+                new CustomizableThreadFactory("fair-plan-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Plans every date of a range so that shifts are spread fairly over the employees who wished them.
+     * The search of {@link FairnessOptimizer} runs outside any transaction on the optimizer threads and stops
+     * at the budget; only the best plan is written, through {@link PlanningService#applyAssignments}.
+     * Dates that cannot be fully staffed keep their current schedule and are reported as failed.
+     *
+     * @param from the first date to plan, inclusive
+     * @param to the last date to plan, inclusive
+     * @param budget the wall-clock time the search may take, or {@code null} for {@link #DEFAULT_BUDGET}
+     * @return the outcome of every date, the score of the plan and the load of every employee
+     * @throws PlanningJobRejectedException if the maximum number of fair plans is already being searched
+     */
+    public FairPlanResponse createFairPlan(LocalDate from, LocalDate to, Duration budget) {
+        var dates = DateRanges.between(from, to);
+        if (!runningPlans.tryAcquire()) {
+            throw new PlanningJobRejectedException("Already optimizing " + maxConcurrentPlans
+                    + " fair plans. Retry later.", RETRY_AFTER);
+        }
+        FairnessOptimizer.Result result;
+        ShiftCatalog catalog;
+        try {
+            catalog = shiftCatalogService.current();
+            var wishes = wishBookEntryRepository.findByDateBetween(from, to);
+            result = FairnessOptimizer.optimize(dates, wishes, catalog, budget == null ? DEFAULT_BUDGET : budget,
+                    restartsPerPlan, System.nanoTime(), executor);
+        } finally {
+            runningPlans.release();
+        }
+        var changesByDate = planningService.applyAssignments(result.assignments());
+
+        var days = new ArrayList<HorizonPlanResponse.DayResult>(dates.size());
+        for (LocalDate date : dates) {
+            var failure = result.failures().get(date);
+            if (failure != null) {
+                days.add(new HorizonPlanResponse.DayResult(date, HorizonPlanResponse.Status.FAILED, 0, 0, failure,
+                        null));
+            } else {
+                days.add(new HorizonPlanResponse.DayResult(date, HorizonPlanResponse.Status.PLANNED,
+                        result.assignments().get(date).size(), 0, null, changesByDate.get(date)));
+            }
+        }
+
+        return new FairPlanResponse(from, to, result.assignments().size(), result.failures().size(),
+                toScore(result, catalog), result.restarts(), result.iterations(),
+                TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), days, toEmployeeLoads(result, catalog));
+    }
+
+    private static FairPlanResponse.Score toScore(FairnessOptimizer.Result result, ShiftCatalog catalog) {
+        int minDays = Integer.MAX_VALUE;
+        int maxDays = 0;
+        int maxShiftImbalance = 0;
+        for (int employee = 0; employee < result.daysByEmployee().length; employee++) {
+            minDays = Math.min(minDays, result.daysByEmployee()[employee]);
+            maxDays = Math.max(maxDays, result.daysByEmployee()[employee]);
+
+            int fewest = Integer.MAX_VALUE;
+            int most = 0;
+            for (ShiftCatalog.Shift shift : catalog.shifts()) {
+                int count = result.shiftsByEmployee()[employee][shift.id()];
+                fewest = Math.min(fewest, count);
+                most = Math.max(most, count);
+            }
+            if (!catalog.shifts().isEmpty()) {
+                maxShiftImbalance = Math.max(maxShiftImbalance, most - fewest);
+            }
+        }
+        return new FairPlanResponse.Score(result.score(), result.initialScore(),
+                minDays == Integer.MAX_VALUE ? 0 : minDays, maxDays, maxShiftImbalance);
+    }
+
+    private static List<FairPlanResponse.EmployeeLoad> toEmployeeLoads(FairnessOptimizer.Result result,
+                                                                       ShiftCatalog catalog) {
+        var loads = new ArrayList<FairPlanResponse.EmployeeLoad>(result.employees().size());
+        for (int employee = 0; employee < result.employees().size(); employee++) {
+            Map<ShiftType, Integer> shifts = new LinkedHashMap<>();
+            for (ShiftCatalog.Shift shift : catalog.shifts()) {
+                shifts.put(shift.shiftType(), result.shiftsByEmployee()[employee][shift.id()]);
+            }
+            var ref = result.employees().get(employee);
+            loads.add(new FairPlanResponse.EmployeeLoad(ref.id(), ref.name(), result.daysByEmployee()[employee],
+                    shifts));
+        }
+        return loads;
+    }
+}
@@ -0,0 +1,409 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.model.WishBookEntry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Spreads the shifts of a planning horizon fairly over the employees who wished them.
+ * <p>
+ * Every date is first solved with {@link ShiftAssignmentSolver}; dates that cannot be fully staffed are
+ * reported and left out. The remaining slots are then improved by simulated annealing with two moves that
+ * keep every slot filled with a wished shift and nobody on two shifts a day: handing a slot to another
+ * candidate, and swapping two employees between the shifts of one date. The score to minimize is
+ * <pre>Σ days(e)² + Σ shifts(e, s)²</pre>
+ * over employees {@code e} and shifts {@code s}. Because the total number of slots is fixed, that is lowest
+ * when days are spread evenly and every employee works each shift about equally often, and the change of a
+ * move is computed from a few counters in O(1).
+ * <p>
+ * Independent restarts with their own random seeds run on the executor the caller passes in, until a shared
+ * wall-clock deadline; the best plan found by any of them is returned. The search works on primitive arrays
+ * allocated once per restart, so its inner loop allocates nothing.
+ * <p>
+ * Memory grows with the wishes and slots, not with days × shifts × employees: the wishes of every date and
+ * shift are kept as a sorted candidate list, and whether an employee already works on a date is found by
+ * scanning that date's few slots.
+ */
+final class FairnessOptimizer {
+
+    private static final double START_TEMPERATURE = 4.0;
+    private static final double END_TEMPERATURE = 0.05;
+    private static final int ITERATIONS_PER_CLOCK_CHECK = 4096;
+
+    private FairnessOptimizer() {
+    }
+
+    /**
+     * Optimizes the plan of a date range.
+     *
+     * @param dates consecutive dates, in order
+     * @param wishes all wish book entries of those dates
+     * @param catalog the offered shifts and their headcount
+     * @param budget the wall-clock time the search may take
+     * @param restarts the number of independent searches, at most the number of threads of the executor
+     * @param seed the seed of the first restart; restart {@code i} uses {@code seed + i}
+     * @param executor runs the restarts
+     */
+    static Result optimize(List<LocalDate> dates, List<WishBookEntry> wishes, ShiftCatalog catalog,
+                           Duration budget, int restarts, long seed, Executor executor) {
+        long started = System.nanoTime();
+        long deadline = started + budget.toNanos();
+
+        var problem = Problem.build(dates, wishes, catalog);
+        var running = new ArrayList<CompletableFuture<Search>>();
+        for (int restart = 0; restart < Math.max(1, restarts); restart++) {
+            long restartSeed = seed + restart;
+            running.add(CompletableFuture.supplyAsync(() -> new Search(problem, restartSeed).run(deadline), executor));
+        }
+        var searches = running.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        Search best = searches.getFirst();
+        long iterations = 0;
+        for (Search search : searches) {
+            iterations += search.iterations;
+            if (search.bestScore < best.bestScore) {
+                best = search;
+            }
+        }
+
+        return problem.toResult(best.bestSlots, best.bestScore, problem.score(problem.initialSlots),
+                searches.size(), iterations, System.nanoTime() - started);
+    }
+
+    /**
+     * The best plan found.
+     *
+     * @param assignments the chosen wishes of every fully staffed date
+     * @param failures a message for every date that could not be fully staffed
+     * @param score the fairness of the plan; lower is fairer
+     * @param initialScore the score of the first feasible plan, before the search
+     */
+    record Result(Map<LocalDate, List<WishBookEntry>> assignments, Map<LocalDate, String> failures,
+                  long score, long initialScore, int[] daysByEmployee, int[][] shiftsByEmployee,
+                  List<EmployeeRef> employees, int restarts, long iterations, long elapsedNanos) {
+    }
+
+    /**
+     * The read-only description of the search space, shared by all restarts.
+     */
+    private static final class Problem {
+
+        private final List<LocalDate> dates;
+        private final int employeeCount;
+        private final int shiftCount;
+        private final List<EmployeeRef> employees;
+        private final Map<LocalDate, String> failures;
+
+        /** Employee ordinals that wished shift {@code s} on day {@code d}, ascending, at {@code d * shifts + s}. */
+        private final int[][] candidates;
+        /** The wishes of those candidates, in the same order. */
+        private final WishBookEntry[][] candidateWishes;
+
+        /** Day and shift of every slot; the slots of one day are contiguous. */
+        private final int[] slotDay;
+        private final int[] slotShift;
+        private final int[] firstSlotOfDay;
+        private final int[] initialSlots;
+
+        private Problem(List<LocalDate> dates, int shiftCount, List<EmployeeRef> employees,
+                        Map<LocalDate, String> failures, int[][] candidates, WishBookEntry[][] candidateWishes,
+                        int[] slotDay, int[] slotShift, int[] firstSlotOfDay, int[] initialSlots) {
+            this.dates = dates;
+            this.shiftCount = shiftCount;
+            this.employees = employees;
+            this.employeeCount = employees.size();
+            this.failures = failures;
+            this.candidates = candidates;
+            this.candidateWishes = candidateWishes;
+            this.slotDay = slotDay;
+            this.slotShift = slotShift;
+            this.firstSlotOfDay = firstSlotOfDay;
+            this.initialSlots = initialSlots;
+        }
+
+        static Problem build(List<LocalDate> dates, List<WishBookEntry> wishes, ShiftCatalog catalog) {
+            LocalDate from = dates.getFirst();
+            int shiftCount = catalog.idCount();
+
+            Map<Long, Integer> ordinals = new HashMap<>();
+            var employees = new ArrayList<EmployeeRef>();
+            var wishesByDay = new ArrayList<List<WishBookEntry>>(dates.size());
+            for (int day = 0; day < dates.size(); day++) {
+                wishesByDay.add(new ArrayList<>());
+            }
+            for (WishBookEntry wish : wishes) {
+                ordinals.computeIfAbsent(wish.getEmployee().getId(), id -> {
+                    employees.add(new EmployeeRef(id, wish.getEmployee().getName()));
+                    return employees.size() - 1;
+                });
+                wishesByDay.get((int) ChronoUnit.DAYS.between(from, wish.getDate())).add(wish);
+            }
+
+            int[][] candidates = new int[dates.size() * shiftCount][];
+            var candidateWishes = new WishBookEntry[dates.size() * shiftCount][];
+            for (int day = 0; day < dates.size(); day++) {
+                // Offered shifts only, sorted by shift and employee ordinal, so duplicate wishes of one employee
+                // are adjacent
+                var dayWishes = new ArrayList<>(wishesByDay.get(day).stream()
+                        .filter(wish -> catalog.isOffered(wish.getShiftType()))
+                        .toList());
+                dayWishes.sort(Comparator.comparingInt((WishBookEntry wish) -> catalog.id(wish.getShiftType()))
+                        .thenComparingInt(wish -> ordinals.get(wish.getEmployee().getId())));
+                int next = 0;
+                for (int shift = 0; shift < shiftCount; shift++) {
+                    int end = next;
+                    while (end < dayWishes.size() && catalog.id(dayWishes.get(end).getShiftType()) == shift) {
+                        end++;
+                    }
+                    var employeeOrdinals = new int[end - next];
+                    var shiftWishes = new WishBookEntry[end - next];
+                    int count = 0;
+                    for (WishBookEntry wish : dayWishes.subList(next, end)) {
+                        int employee = ordinals.get(wish.getEmployee().getId());
+                        if (count == 0 || employeeOrdinals[count - 1] != employee) {
+                            employeeOrdinals[count] = employee;
+                            shiftWishes[count++] = wish;
+                        }
+                    }
+                    candidates[day * shiftCount + shift] = Arrays.copyOf(employeeOrdinals, count);
+                    candidateWishes[day * shiftCount + shift] = Arrays.copyOf(shiftWishes, count);
+                    next = end;
+                }
+            }
+
+            // Start from a fully staffed plan of every date that can be staffed at all
+            Map<LocalDate, String> failures = new LinkedHashMap<>();
+            var slotDay = new ArrayList<Integer>();
+            var slotShift = new ArrayList<Integer>();
+            var slotEmployee = new ArrayList<Integer>();
+            int[] firstSlotOfDay = new int[dates.size() + 1];
+            for (int day = 0; day < dates.size(); day++) {
+                firstSlotOfDay[day] = slotDay.size();
+                var dayWishes = wishesByDay.get(day);
+                var solution = ShiftAssignmentSolver.solve(dayWishes, catalog);
+                if (dayWishes.isEmpty() || !solution.isComplete()) {
+                    failures.put(dates.get(day), dayWishes.isEmpty()
+                            ? "No wish book entries found for " + dates.get(day) + "."
+                            : PlanningService.describeShortfall(dates.get(day), solution));
+                    continue;
+                }
+                for (WishBookEntry wish : solution.assignments()) {
+                    slotDay.add(day);
+                    slotShift.add(catalog.id(wish.getShiftType()));
+                    slotEmployee.add(ordinals.get(wish.getEmployee().getId()));
+                }
+            }
+            firstSlotOfDay[dates.size()] = slotDay.size();
+
+            return new Problem(dates, shiftCount, List.copyOf(employees), failures, candidates, candidateWishes,
+                    toArray(slotDay), toArray(slotShift), firstSlotOfDay, toArray(slotEmployee));
+        }
+
+        int slotCount() {
+            return slotDay.length;
+        }
+
+        boolean wished(int day, int shift, int employee) {
+            return Arrays.binarySearch(candidates[day * shiftCount + shift], employee) >= 0;
+        }
+
+        WishBookEntry wishOf(int day, int shift, int employee) {
+            int dayShift = day * shiftCount + shift;
+            return candidateWishes[dayShift][Arrays.binarySearch(candidates[dayShift], employee)];
+        }
+
+        long score(int[] slots) {
+            int[] days = new int[employeeCount];
+            int[] shifts = new int[employeeCount * shiftCount];
+            for (int slot = 0; slot < slots.length; slot++) {
+                days[slots[slot]]++;
+                shifts[slots[slot] * shiftCount + slotShift[slot]]++;
+            }
+            return sumOfSquares(days) + sumOfSquares(shifts);
+        }
+
+        Result toResult(int[] slots, long score, long initialScore, int restarts, long iterations, long elapsedNanos) {
+            Map<LocalDate, List<WishBookEntry>> assignments = new LinkedHashMap<>();
+            int[] daysByEmployee = new int[employeeCount];
+            int[][] shiftsByEmployee = new int[employeeCount][shiftCount];
+            for (int slot = 0; slot < slots.length; slot++) {
+                int day = slotDay[slot];
+                int employee = slots[slot];
+                assignments.computeIfAbsent(dates.get(day), date -> new ArrayList<>())
+                        .add(wishOf(day, slotShift[slot], employee));
+                daysByEmployee[employee]++;
+                shiftsByEmployee[employee][slotShift[slot]]++;
+            }
+            return new Result(assignments, failures, score, initialScore, daysByEmployee, shiftsByEmployee,
+                    employees, restarts, iterations, elapsedNanos);
+        }
+
+        private static long sumOfSquares(int[] values) {
+            long sum = 0;
+            for (int value : values) {
+                sum += (long) value * value;
+            }
+            return sum;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            return values.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * One simulated annealing run with its own mutable state.
+     */
+    private static final class Search {
+
+        private final Problem problem;
+        private final SplittableRandom random;
+        private final int employees;
+        private final int shiftCount;
+
+        private final int[] slots;
+        private final int[] days;
+        private final int[] shifts;
+
+        private long score;
+        private final int[] bestSlots;
+        private long bestScore;
+        private long iterations;
+
+        Search(Problem problem, long seed) {
+            this.problem = problem;
+            this.random = new SplittableRandom(seed);
+            this.employees = problem.employeeCount;
+            this.shiftCount = problem.shiftCount;
+            this.slots = problem.initialSlots.clone();
+            this.days = new int[employees];
+            this.shifts = new int[employees * shiftCount];
+            for (int slot = 0; slot < slots.length; slot++) {
+                int employee = slots[slot];
+                days[employee]++;
+                shifts[employee * shiftCount + problem.slotShift[slot]]++;
+            }
+            this.score = problem.score(slots);
+            this.bestSlots = slots.clone();
+            this.bestScore = score;
+        }
+
+        Search run(long deadline) {
+            if (problem.slotCount() == 0) {
+                return this;
+            }
+            long started = System.nanoTime();
+            double span = Math.max(1, deadline - started);
+            double temperature = START_TEMPERATURE;
+
+            while (true) {
+                if (iterations % ITERATIONS_PER_CLOCK_CHECK == 0) {
+                    long now = System.nanoTime();
+                    if (now >= deadline) {
+                        return this;
+                    }
+                    double progress = (now - started) / span;
+                    temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+                }
+                iterations++;
+
+                if (random.nextBoolean()) {
+                    tryHandOver(temperature);
+                } else {
+                    trySwap(temperature);
+                }
+                if (score < bestScore) {
+                    bestScore = score;
+                    System.arraycopy(slots, 0, bestSlots, 0, slots.length);
+                }
+            }
+        }
+
+        /** Gives a slot to another candidate of the same shift who is free that day. */
+        private void tryHandOver(double temperature) {
+            int slot = random.nextInt(slots.length);
+            int day = problem.slotDay[slot];
+            int shift = problem.slotShift[slot];
+            int[] candidates = problem.candidates[day * shiftCount + shift];
+            int to = candidates[random.nextInt(candidates.length)];
+            if (worksOn(day, to)) {
+                return;
+            }
+            int from = slots[slot];
+
+            long delta = 2L * (days[to] - days[from]) + 2
+                    + 2L * (shifts[to * shiftCount + shift] - shifts[from * shiftCount + shift]) + 2;
+            if (!accept(delta, temperature)) {
+                return;
+            }
+
+            slots[slot] = to;
+            days[from]--;
+            days[to]++;
+            shifts[from * shiftCount + shift]--;
+            shifts[to * shiftCount + shift]++;
+            score += delta;
+        }
+
+        /** Swaps the employees of two slots of the same day that belong to different shifts. */
+        private void trySwap(double temperature) {
+            int first = random.nextInt(slots.length);
+            int day = problem.slotDay[first];
+            int firstOfDay = problem.firstSlotOfDay[day];
+            int second = firstOfDay + random.nextInt(problem.firstSlotOfDay[day + 1] - firstOfDay);
+            int firstShift = problem.slotShift[first];
+            int secondShift = problem.slotShift[second];
+            if (firstShift == secondShift) {
+                return;
+            }
+            int a = slots[first];
+            int b = slots[second];
+            if (!problem.wished(day, secondShift, a) || !problem.wished(day, firstShift, b)) {
+                return;
+            }
+
+            long delta = 2L * (shifts[a * shiftCount + secondShift] - shifts[a * shiftCount + firstShift])
+                    + 2L * (shifts[b * shiftCount + firstShift] - shifts[b * shiftCount + secondShift]) + 4;
+            if (!accept(delta, temperature)) {
+                return;
+            }
+
+            slots[first] = b;
+            slots[second] = a;
+            shifts[a * shiftCount + firstShift]--;
+            shifts[a * shiftCount + secondShift]++;
+            shifts[b * shiftCount + secondShift]--;
+            shifts[b * shiftCount + firstShift]++;
+            score += delta;
+        }
+
+        /** Whether the employee already holds one of the slots of the day; a day has only a few slots. */
+        private boolean worksOn(int day, int employee) {
+            for (int slot = problem.firstSlotOfDay[day]; slot < problem.firstSlotOfDay[day + 1]; slot++) {
+                if (slots[slot] == employee) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean accept(long delta, double temperature) {
+            return delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.prototype.staffplanner.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Latency timers and rejection counters for the planning, schedule and wish book operations.
+ * <p>
+ * Every operation is recorded as a timer with a percentile histogram, tagged with the outcome of the call:
+ * {@code success}, {@code rejected} (business rule, HTTP 400), {@code conflict} (constraint violation or
+ * date lock timeout, HTTP 409) or {@code error}. Rejected plans are additionally counted per {@link PlanRule}.
+ */
+@Component
+public class OperationMetrics {
+
+    public static final String CREATE_PLAN = "staffplanner.plan.create";
+    public static final String AUTO_PLAN = "staffplanner.plan.auto";
+    public static final String HORIZON_PLAN = "staffplanner.plan.horizon";
+    public static final String SIMULATE_PLAN = "staffplanner.plan.simulate";
+    public static final String LOAD_SCHEDULE = "staffplanner.schedule.load";
+    public static final String EXPORT_SCHEDULE = "staffplanner.schedule.export";
+    public static final String ADD_WISH = "staffplanner.wishbook.add";
+    public static final String PLAN_REJECTIONS = "staffplanner.plan.rejections";
+    public static final String IMPORTED_ROWS = "staffplanner.wishbook.import.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    public OperationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs an operation and records its latency under the given timer name, tagged by outcome.
+     * Inside a transaction the timer is recorded once the transaction has completed, so the latency includes
+     * the flush and commit; a transaction that rolls back after the operation succeeded counts as an error.
+     * Exceptions are recorded and rethrown unchanged.
+     */
+    public <T> T record(String operation, Supplier<T> action) {
+        long started = System.nanoTime();
+        try {
+            T result = action.get();
+            finish(operation, started, "success");
+            return result;
+        } catch (RuntimeException | Error ex) {
+            finish(operation, started, outcomeOf(ex));
+            throw ex;
+        }
+    }
+
+    /**
+     * Counts a plan that was rejected by the given rule.
+     */
+    public void planRejected(PlanRule rule) {
+        Counter.builder(PLAN_REJECTIONS)
+                .description("Plans rejected by validation, per failed rule")
+                .tag("rule", rule.tag())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Counts rows of a wish book import by outcome: {@code created}, {@code duplicate} or {@code error}.
+     */
+    public void importedRows(String outcome, long count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder(IMPORTED_ROWS)
+                .description("Rows read by the streaming wish book import, per outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private void finish(String operation, long started, String outcome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            timer(operation, outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                var completed = status != STATUS_COMMITTED && outcome.equals("success") ? "error" : outcome;
+                timer(operation, completed).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private static String outcomeOf(Throwable ex) {
+        if (ex instanceof IllegalArgumentException) {
+            return "rejected";
+        }
+        if (ex instanceof DataIntegrityViolationException || ex instanceof CannotAcquireLockException) {
+            return "conflict";
+        }
+        return "error";
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder(operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.prototype.staffplanner.service;
+
+/**
+ * The business rules a requested plan is validated against.
+ */
+public enum PlanRule {
+
+    WISH_ENTRIES_EXIST("wish-entries-exist"),
+    SAME_DATE("same-date"),
+    SHIFT_HEADCOUNT("shift-headcount"),
+    ONE_SHIFT_PER_EMPLOYEE("one-shift-per-employee");
+
+    private final String tag;
+
+    PlanRule(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * The value used for this rule in metric tags.
+     */
+    public String tag() {
+        return tag;
+    }
+}
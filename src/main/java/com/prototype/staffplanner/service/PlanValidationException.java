@@ -0,0 +1,29 @@
+package com.prototype.staffplanner.service;
+
+import java.util.List;
+
+/**
+ * Thrown when a requested plan breaks one or more {@link PlanRule}s. Handled like any other
+ * {@link IllegalArgumentException}, so it is reported as a 400 Bad Request, with every violation listed.
+ * <p>
+ * The rules themselves are evaluated without exceptions by {@link PlanValidator}; this exception only carries
+ * the report out of the transaction to the controller, so it skips capturing a stack trace.
+ */
+public class PlanValidationException extends IllegalArgumentException {
+
+    private final transient PlanValidationReport report;
+
+    public PlanValidationException(PlanValidationReport report) {
+        super(report.summary());
+        this.report = report;
+    }
+
+    public List<PlanViolation> getViolations() {
+        return report.violations();
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,44 @@
+package com.prototype.staffplanner.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of validating a requested plan: every violated rule, or none if the plan is valid.
+ */
+public record PlanValidationReport(List<PlanViolation> violations) {
+
+    static final PlanValidationReport VALID = new PlanValidationReport(List.of());
+
+    public PlanValidationReport {
+        violations = List.copyOf(violations);
+    }
+
+    public static PlanValidationReport of(PlanViolation violation) {
+        return new PlanValidationReport(List.of(violation));
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * The distinct rules that were violated, in declaration order.
+     */
+    public Set<PlanRule> rules() {
+        Set<PlanRule> rules = EnumSet.noneOf(PlanRule.class);
+        for (PlanViolation violation : violations) {
+            rules.add(violation.rule());
+        }
+        return rules;
+    }
+
+    /**
+     * All violation messages joined into one sentence list.
+     */
+    public String summary() {
+        return violations.stream().map(PlanViolation::message).collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,174 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Validates a requested plan against a list of {@link Check}s.
+ * The wish book entries are walked once to collect {@link PlanFacts}; every check then runs against those
+ * facts, so all violations are reported together and a rejected plan costs no exception.
+ */
+public final class PlanValidator {
+
+    /**
+     * A pluggable plan rule. Adds a {@link PlanViolation} for every way the facts break the rule.
+     */
+    @FunctionalInterface
+    public interface Check {
+        void check(PlanFacts facts, List<PlanViolation> violations);
+    }
+
+    private final List<Check> checks;
+
+    public PlanValidator(List<Check> checks) {
+        this.checks = List.copyOf(checks);
+    }
+
+    /**
+     * The rules every manually created plan has to satisfy.
+     */
+    public static PlanValidator standard() {
+        return new PlanValidator(List.of(sameDate(), shiftHeadcount(), oneShiftPerEmployee()));
+    }
+
+    public static Check sameDate() {
+        return (facts, violations) -> {
+            if (facts.dateMismatches() > 0) {
+                violations.add(new PlanViolation(PlanRule.SAME_DATE, "All wish book entries must have the same date."));
+            }
+        };
+    }
+
+    /**
+     * Every offered shift gets exactly its required headcount, and shifts that are not offered get nobody.
+     */
+    public static Check shiftHeadcount() {
+        return (facts, violations) -> {
+            for (ShiftCatalog.Shift shift : facts.catalog().shifts()) {
+                if (facts.headcount(shift.shiftType()) != shift.requiredHeadcount()) {
+                    violations.add(new PlanViolation(PlanRule.SHIFT_HEADCOUNT, "Exactly " + shift.requiredHeadcount()
+                            + " employees are required for each shift type: " + shift.shiftType()));
+                }
+            }
+            for (ShiftType shiftType : facts.notOffered()) {
+                violations.add(new PlanViolation(PlanRule.SHIFT_HEADCOUNT,
+                        "Shift type " + shiftType + " is not offered."));
+            }
+        };
+    }
+
+    public static Check oneShiftPerEmployee() {
+        return (facts, violations) -> {
+            if (facts.duplicateEmployees() > 0) {
+                violations.add(new PlanViolation(PlanRule.ONE_SHIFT_PER_EMPLOYEE,
+                        "An employee cannot be assigned to more than one shift type."));
+            }
+        };
+    }
+
+    /**
+     * Validates the entries of a plan for the given date against the offered shifts.
+     *
+     * @return {@link PlanValidationReport#VALID} if no check reported a violation
+     */
+    public PlanValidationReport validate(List<WishBookEntry> wishEntries, LocalDate date, ShiftCatalog catalog) {
+        var facts = PlanFacts.collect(wishEntries, date, catalog);
+        List<PlanViolation> violations = new ArrayList<>();
+        for (Check check : checks) {
+            check.check(facts, violations);
+        }
+        return violations.isEmpty() ? PlanValidationReport.VALID : new PlanValidationReport(violations);
+    }
+
+    /**
+     * What the checks look at, gathered in a single pass over the wish book entries.
+     */
+    public static final class PlanFacts {
+
+        private final ShiftCatalog catalog;
+        private final int entries;
+        private final int dateMismatches;
+        private final int[] headcounts;
+        private final Map<ShiftType, Integer> notOfferedHeadcounts;
+        private final int duplicateEmployees;
+
+        private PlanFacts(ShiftCatalog catalog, int entries, int dateMismatches, int[] headcounts,
+                          Map<ShiftType, Integer> notOfferedHeadcounts, int duplicateEmployees) {
+            this.catalog = catalog;
+            this.entries = entries;
+            this.dateMismatches = dateMismatches;
+            this.headcounts = headcounts;
+            this.notOfferedHeadcounts = notOfferedHeadcounts;
+            this.duplicateEmployees = duplicateEmployees;
+        }
+
+        static PlanFacts collect(List<WishBookEntry> wishEntries, LocalDate date, ShiftCatalog catalog) {
+            int dateMismatches = 0;
+            int duplicateEmployees = 0;
+            int[] headcounts = new int[catalog.idCount()];
+            Map<ShiftType, Integer> notOfferedHeadcounts = new TreeMap<>();
+            Set<Long> employeeIds = new HashSet<>(wishEntries.size() * 2);
+            for (WishBookEntry entry : wishEntries) {
+                if (!entry.getDate().equals(date)) {
+                    dateMismatches++;
+                }
+                int shift = catalog.id(entry.getShiftType());
+                if (shift == -1) {
+                    notOfferedHeadcounts.merge(entry.getShiftType(), 1, Integer::sum);
+                } else {
+                    headcounts[shift]++;
+                }
+                if (!employeeIds.add(entry.getEmployee().getId())) {
+                    duplicateEmployees++;
+                }
+            }
+            return new PlanFacts(catalog, wishEntries.size(), dateMismatches, headcounts, notOfferedHeadcounts,
+                    duplicateEmployees);
+        }
+
+        /**
+         * The shifts the plan is validated against.
+         */
+        public ShiftCatalog catalog() {
+            return catalog;
+        }
+
+        public int entries() {
+            return entries;
+        }
+
+        /**
+         * Entries whose date differs from the planned date.
+         */
+        public int dateMismatches() {
+            return dateMismatches;
+        }
+
+        public int headcount(ShiftType shiftType) {
+            int shift = catalog.id(shiftType);
+            return shift == -1 ? notOfferedHeadcounts.getOrDefault(shiftType, 0) : headcounts[shift];
+        }
+
+        /**
+         * The shift types of entries that the catalog does not offer, in code order.
+         */
+        public Set<ShiftType> notOffered() {
+            return notOfferedHeadcounts.keySet();
+        }
+
+        /**
+         * Entries whose employee already appeared in an earlier entry.
+         */
+        public int duplicateEmployees() {
+            return duplicateEmployees;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.prototype.staffplanner.service;
+
+/**
+ * A single {@link PlanRule} a requested plan breaks, with the message reported to the client.
+ */
+public record PlanViolation(PlanRule rule, String message) {
+}
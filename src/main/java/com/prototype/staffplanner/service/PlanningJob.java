@@ -0,0 +1,135 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.PlanningJobResponse;
+import com.prototype.staffplanner.enums.PlanningJobStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * State of one horizon plan submitted to {@link PlanningJobService}.
+ * Status changes are compare-and-set, so a job that was cancelled while queued is never started
+ * and a finished job never changes again.
+ */
+final class PlanningJob implements PlanningProgress {
+
+    private final UUID id = UUID.randomUUID();
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Clock clock;
+    private final Instant submittedAt;
+    private final AtomicReference<PlanningJobStatus> status = new AtomicReference<>(PlanningJobStatus.QUEUED);
+    private final AtomicInteger plannedDays = new AtomicInteger();
+
+    private volatile int totalDays;
+    private volatile boolean cancelRequested;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String message;
+    private volatile HorizonPlanResponse result;
+
+    PlanningJob(LocalDate from, LocalDate to, Clock clock) {
+        this.from = from;
+        this.to = to;
+        this.clock = clock;
+        this.submittedAt = clock.instant();
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    LocalDate from() {
+        return from;
+    }
+
+    LocalDate to() {
+        return to;
+    }
+
+    PlanningJobStatus status() {
+        return status.get();
+    }
+
+    HorizonPlanResponse result() {
+        return result;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Moves a queued job to running; returns {@code false} if it was cancelled in the meantime.
+     */
+    boolean start() {
+        if (!status.compareAndSet(PlanningJobStatus.QUEUED, PlanningJobStatus.RUNNING)) {
+            return false;
+        }
+        startedAt = clock.instant();
+        return true;
+    }
+
+    void succeed(HorizonPlanResponse result) {
+        this.result = result;
+        finish(PlanningJobStatus.SUCCEEDED, null);
+    }
+
+    void fail(String message) {
+        finish(PlanningJobStatus.FAILED, message);
+    }
+
+    void cancelled() {
+        finish(PlanningJobStatus.CANCELLED, "Cancelled while running; nothing was saved.");
+    }
+
+    /**
+     * Requests cancellation. A queued job is cancelled at once; a running job stops at its next check.
+     *
+     * @return {@code true} if the job was still queued and is now cancelled
+     */
+    boolean cancel() {
+        cancelRequested = true;
+        if (status.compareAndSet(PlanningJobStatus.QUEUED, PlanningJobStatus.CANCELLED)) {
+            message = "Cancelled before it started.";
+            finishedAt = clock.instant();
+            return true;
+        }
+        return false;
+    }
+
+    private void finish(PlanningJobStatus finished, String message) {
+        this.message = message;
+        this.finishedAt = clock.instant();
+        status.compareAndSet(PlanningJobStatus.RUNNING, finished);
+    }
+
+    @Override
+    public void started(int totalDays) {
+        this.totalDays = totalDays;
+    }
+
+    @Override
+    public void dayPlanned() {
+        plannedDays.incrementAndGet();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    PlanningJobResponse toResponse() {
+        var current = status.get();
+        int total = totalDays;
+        int planned = plannedDays.get();
+        int percent = current == PlanningJobStatus.SUCCEEDED ? 100 : total == 0 ? 0 : Math.min(99, planned * 100 / total);
+        return new PlanningJobResponse(id, current, from, to, total, planned, percent,
+                cancelRequested && !current.isFinished(), submittedAt, startedAt, finishedAt, message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.prototype.staffplanner.service;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a planning job cannot be queued because every planning thread is busy and the queue is full.
+ */
+public class PlanningJobRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PlanningJobRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
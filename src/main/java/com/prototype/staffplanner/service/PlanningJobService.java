@@ -0,0 +1,178 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.PlanningJobResponse;
+import com.prototype.staffplanner.enums.PlanningJobStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs horizon plans as background jobs, so a large plan does not hold a request thread.
+ * <p>
+ * Jobs run on a fixed number of planning threads behind a bounded queue. When both are full a new job is
+ * rejected with {@link PlanningJobRejectedException} (HTTP 429) instead of queueing without limit, so a burst
+ * of submissions cannot exhaust memory or delay every queued job past any useful deadline.
+ * Finished jobs and their results are kept for the configured retention and then dropped.
+ */
+@Slf4j
+@Service
+public class PlanningJobService {
+
+    public static final String QUEUED_JOBS = "staffplanner.planning.jobs.queued";
+    public static final String RUNNING_JOBS = "staffplanner.planning.jobs.running";
+    public static final String REJECTED_JOBS = "staffplanner.planning.jobs.rejected";
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final PlanningService planningService;
+    private final Clock clock;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<UUID, PlanningJob> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Runnable> queuedTasks = new ConcurrentHashMap<>();
+    private final Counter rejectedJobs;
+
+    @Autowired
+    public PlanningJobService(PlanningService planningService,
+                              MeterRegistry meterRegistry,
+                              @Value("${staff-planner.planning-jobs.threads:2}") int threads,
+                              @Value("${staff-planner.planning-jobs.queue-capacity:16}") int queueCapacity,
+                              @Value("${staff-planner.planning-jobs.retention:PT1H}") Duration retention) {
+        this(planningService, meterRegistry, threads, queueCapacity, retention, Clock.systemUTC());
+    }
+
+    PlanningJobService(PlanningService planningService, MeterRegistry meterRegistry,
+                       int threads, int queueCapacity, Duration retention, Clock clock) {
+        this.planningService = planningService;
+        this.clock = clock;
+        this.retention = retention;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("planning-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder(QUEUED_JOBS, executor, pool -> pool.getQueue().size())
+                .description("Planning jobs waiting for a planning thread")
+                .register(meterRegistry);
+        Gauge.builder(RUNNING_JOBS, executor, ThreadPoolExecutor::getActiveCount)
+                .description("Planning jobs being planned")
+                .register(meterRegistry);
+        this.rejectedJobs = Counter.builder(REJECTED_JOBS)
+                .description("Planning jobs rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a horizon plan for the given range. The range is checked right away, so an invalid range fails
+     * the submission instead of the job.
+     *
+     * @return the queued job
+     * @throws PlanningJobRejectedException if the planning threads and the queue are full
+     */
+    public PlanningJobResponse submitHorizonPlan(LocalDate from, LocalDate to) {
+        DateRanges.check(from, to);
+        purgeExpired();
+
+        var job = new PlanningJob(from, to, clock);
+        Runnable task = () -> run(job);
+        var queued = job.toResponse();
+        jobs.put(job.id(), job);
+        queuedTasks.put(job.id(), task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id());
+            queuedTasks.remove(job.id());
+            rejectedJobs.increment();
+            throw new PlanningJobRejectedException("The planning queue is full ("
+                    + executor.getQueue().size() + " jobs waiting). Retry later.", RETRY_AFTER);
+        }
+        log.info("Queued planning job {} for {} to {}", job.id(), from, to);
+        return queued;
+    }
+
+    /**
+     * Returns the status and progress of a job, or empty if it is unknown or expired.
+     */
+    public Optional<PlanningJobResponse> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(PlanningJob::toResponse);
+    }
+
+    /**
+     * Returns the plan of a job that succeeded, or empty if the job is unknown, expired or has no result yet.
+     */
+    public Optional<HorizonPlanResponse> getResult(UUID id) {
+        return Optional.ofNullable(jobs.get(id))
+                .filter(job -> job.status() == PlanningJobStatus.SUCCEEDED)
+                .map(PlanningJob::result);
+    }
+
+    /**
+     * Cancels a job. A queued job is removed from the queue; a running job stops before it writes anything,
+     * or finishes normally if it is already writing. Cancelling a finished job changes nothing.
+     *
+     * @return the job after the request, or empty if it is unknown or expired
+     */
+    public Optional<PlanningJobResponse> cancel(UUID id) {
+        var job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.cancel()) {
+            var task = queuedTasks.remove(id);
+            if (task != null) {
+                executor.remove(task);
+            }
+            log.info("Cancelled queued planning job {}", id);
+        }
+        return Optional.of(job.toResponse());
+    }
+
+    private void run(PlanningJob job) {
+        queuedTasks.remove(job.id());
+        if (!job.start()) {
+            return;
+        }
+        try {
+            job.succeed(planningService.createHorizonPlan(job.from(), job.to(), job));
+            log.info("Planning job {} succeeded", job.id());
+        } catch (CancellationException ex) {
+            job.cancelled();
+            log.info("Planning job {} cancelled while running", job.id());
+        } catch (IllegalArgumentException ex) {
+            job.fail(ex.getMessage());
+            log.warn("Planning job {} rejected: {}", job.id(), ex.getMessage());
+        } catch (RuntimeException ex) {
+            job.fail("An unexpected error occurred");
+            log.error("Planning job {} failed", job.id(), ex);
+        }
+    }
+
+    private void purgeExpired() {
+        var cutoff = clock.instant().minus(retention);
+        jobs.values().removeIf(job -> job.status().isFinished()
+                && job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
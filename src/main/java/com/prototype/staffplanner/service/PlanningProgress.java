@@ -0,0 +1,40 @@
+package com.prototype.staffplanner.service;
+
+/**
+ * Receives the progress of a long-running plan and tells it whether to stop.
+ * Calls may come from several fork/join threads at once, so implementations must be thread-safe.
+ */
+public interface PlanningProgress {
+
+    /** Ignores progress and never cancels. */
+    PlanningProgress NONE = new PlanningProgress() {
+        @Override
+        public void started(int totalDays) {
+        }
+
+        @Override
+        public void dayPlanned() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Called once before any date is planned.
+     */
+    void started(int totalDays);
+
+    /**
+     * Called after each date was solved, whether or not it could be staffed.
+     */
+    void dayPlanned();
+
+    /**
+     * Checked before each date and once more before anything is written; a plan that sees {@code true}
+     * stops with a {@link java.util.concurrent.CancellationException} and writes nothing.
+     */
+    boolean isCancelled();
+}
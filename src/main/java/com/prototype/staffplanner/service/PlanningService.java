@@ -1,83 +1,419 @@
 package com.prototype.staffplanner.service;
 
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.PlanResponse;
+import com.prototype.staffplanner.dto.PlanSimulationRequest;
+import com.prototype.staffplanner.dto.PlanSimulationResponse;
 import com.prototype.staffplanner.dto.PlanningRequest;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.dto.ScheduleChange;
+import com.prototype.staffplanner.dto.ScheduleChanges;
+import com.prototype.staffplanner.event.ScheduleChangedEvent;
 import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftDefinition;
 import com.prototype.staffplanner.model.WishBookEntry;
 import com.prototype.staffplanner.repository.ScheduleEntryRepository;
 import com.prototype.staffplanner.repository.WishBookEntryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PlanningService {
 
+    private static final PlanValidator PLAN_VALIDATOR = PlanValidator.standard();
+
     private final WishBookEntryRepository wishBookEntryRepository;
     private final ScheduleEntryRepository scheduleEntryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationMetrics operationMetrics;
+    private final ShiftCatalogService shiftCatalogService;
+    private final DateLocks dateLocks;
+
+    private final SingleFlight<LocalDate, ShiftAssignmentSolver.Solution> autoPlanFlights = new SingleFlight<>();
 
     /**
      * Creates a schedule plan based on the provided wish book entries.
+     * Only the schedule entries that differ from the current plan of the date are inserted, updated or deleted.
      * @param request the planning request containing wish book entry IDs and the date for the plan
-     * @return a list of created ScheduleEntry objects
+     * @return the assignments of the date after the plan was applied
      */
     @Transactional
-    public List<ScheduleEntry> createPlan(PlanningRequest request) {
-        var wishEntries = wishBookEntryRepository.findAllById(request.wishBookEntryIds());
+    public PlanResponse createPlan(PlanningRequest request) {
+        return operationMetrics.record(OperationMetrics.CREATE_PLAN, () -> {
+            var wishEntries = wishBookEntryRepository.findAllById(request.wishBookEntryIds());
+
+            var report = wishEntries.isEmpty()
+                    ? PlanValidationReport.of(new PlanViolation(PlanRule.WISH_ENTRIES_EXIST,
+                            "No wish book entries found for the provided IDs."))
+                    : validateWishEntries(wishEntries, request, shiftCatalogService.current());
+            if (!report.isValid()) {
+                report.rules().forEach(operationMetrics::planRejected);
+                throw new PlanValidationException(report);
+            }
+
+            return applySchedule(request.date(), wishEntries);
+        });
+    }
+
+    /**
+     * Creates a schedule plan for a date from all wish book entries of that date.
+     * The assignment is computed with {@link ShiftAssignmentSolver}, so every offered shift gets
+     * its required number of employees and nobody is assigned to more than one shift.
+     * Concurrent calls for the same date share one candidate read and solve; callers that joined
+     * another call's solve reload only the chosen wish book entries by id in their own transaction.
+     *
+     * @param date the date to plan
+     * @return the assignments of the date after the plan was applied
+     */
+    @Transactional
+    public PlanResponse createAutoPlan(LocalDate date) {
+        return operationMetrics.record(OperationMetrics.AUTO_PLAN, () -> {
+            var flight = autoPlanFlights.execute(date, () -> solveDate(date));
+            var solution = flight.value();
+            if (!solution.isComplete()) {
+                throw new IllegalArgumentException(describeShortfall(date, solution));
+            }
+
+            var assignments = flight.shared()
+                    ? wishBookEntryRepository.findAllById(
+                            solution.assignments().stream().map(WishBookEntry::getId).toList())
+                    : solution.assignments();
+            return applySchedule(date, assignments);
+        });
+    }
+
+    private ShiftAssignmentSolver.Solution solveDate(LocalDate date) {
+        var wishEntries = wishBookEntryRepository.findByDate(date);
 
         if (wishEntries.isEmpty()) {
-            throw new IllegalArgumentException("No wish book entries found for the provided IDs.");
+            throw new IllegalArgumentException("No wish book entries found for " + date + ".");
         }
 
-        // Validate the wish entries
-        validateWishEntries(wishEntries, request);
+        return ShiftAssignmentSolver.solve(wishEntries, shiftCatalogService.current());
+    }
 
-        // Clear existing schedule entries for the date
-        scheduleEntryRepository.deleteByDate(request.date());
+    /**
+     * Shows what a plan for one date would do without writing anything, so variants can be compared freely.
+     * With wish book entry ids the selection is validated exactly like {@link #createPlan}; without ids the
+     * date is solved from all of its wishes like {@link #createAutoPlan}. Runs in a read-only transaction:
+     * no schedule rows are written, no date is locked and no change event is published.
+     *
+     * @param request the date and, optionally, the wish book entries to plan
+     * @return the assignments the plan would make, every violated rule and, for a valid plan,
+     *         the changes it would make to the current schedule
+     */
+    @Transactional(readOnly = true)
+    public PlanSimulationResponse simulatePlan(PlanSimulationRequest request) {
+        return operationMetrics.record(OperationMetrics.SIMULATE_PLAN, () -> {
+            var date = request.date();
+            var catalog = shiftCatalogService.current();
+
+            List<WishBookEntry> assignments;
+            PlanValidationReport report;
+            if (request.wishBookEntryIds() == null || request.wishBookEntryIds().isEmpty()) {
+                var wishEntries = wishBookEntryRepository.findByDate(date);
+                var solution = wishEntries.isEmpty() ? null : ShiftAssignmentSolver.solve(wishEntries, catalog);
+                assignments = solution == null ? List.of() : solution.assignments();
+                report = solution == null
+                        ? PlanValidationReport.of(new PlanViolation(PlanRule.WISH_ENTRIES_EXIST,
+                                "No wish book entries found for " + date + "."))
+                        : solution.isComplete()
+                                ? PlanValidationReport.VALID
+                                : PlanValidationReport.of(new PlanViolation(PlanRule.SHIFT_HEADCOUNT,
+                                        describeShortfall(date, solution)));
+            } else {
+                assignments = wishBookEntryRepository.findAllById(request.wishBookEntryIds());
+                report = assignments.isEmpty()
+                        ? PlanValidationReport.of(new PlanViolation(PlanRule.WISH_ENTRIES_EXIST,
+                                "No wish book entries found for the provided IDs."))
+                        : PLAN_VALIDATOR.validate(assignments, date, catalog);
+            }
+
+            var current = scheduleEntryRepository.findByDate(date);
+            Map<Long, Long> entryIdsByEmployee = new HashMap<>();
+            current.forEach(entry -> entryIdsByEmployee.put(entry.getEmployee().getId(), entry.getId()));
+
+            var planned = new ArrayList<PlanResponse.Assignment>(assignments.size());
+            for (WishBookEntry wish : assignments) {
+                var employee = wish.getEmployee();
+                planned.add(new PlanResponse.Assignment(entryIdsByEmployee.get(employee.getId()), employee.getId(),
+                        employee.getName(), wish.getShiftType()));
+            }
 
-        var scheduleEntries = wishEntries.stream()
-                .map(entry -> ScheduleEntry.builder()
-                        .employee(entry.getEmployee())
-                        .date(request.date())
-                        .shiftType(entry.getShiftType())
-                        .build())
+            var changes = report.isValid() ? diffSchedule(date, current, assignments).toChanges() : null;
+            return new PlanSimulationResponse(date, report.isValid(), report.violations(), planned, changes);
+        });
+    }
+
+    /**
+     * Creates schedule plans for every date of a range in one call.
+     * Each date is solved independently on the fork/join pool, then the differences to the current
+     * schedule of all solved dates are written in this single transaction. Dates that cannot be staffed
+     * keep their current schedule and are reported as failed instead of failing the whole range.
+     *
+     * @param from the first date to plan, inclusive
+     * @param to the last date to plan, inclusive
+     * @return the outcome and solve time of every date in the range
+     */
+    @Transactional
+    public HorizonPlanResponse createHorizonPlan(LocalDate from, LocalDate to) {
+        return createHorizonPlan(from, to, PlanningProgress.NONE);
+    }
+
+    /**
+     * Creates schedule plans for every date of a range like {@link #createHorizonPlan(LocalDate, LocalDate)},
+     * reporting each solved date to {@code progress}. A cancellation seen before the write rolls back and
+     * leaves every schedule unchanged; once writing has started the plan runs to completion.
+     *
+     * @throws CancellationException if {@code progress} was cancelled before the schedules were written
+     */
+    @Transactional
+    public HorizonPlanResponse createHorizonPlan(LocalDate from, LocalDate to, PlanningProgress progress) {
+        return operationMetrics.record(OperationMetrics.HORIZON_PLAN, () -> {
+            long started = System.nanoTime();
+            var dates = DateRanges.between(from, to);
+            var catalog = shiftCatalogService.current();
+            progress.started(dates.size());
+
+            Map<LocalDate, List<WishBookEntry>> wishesByDate = wishBookEntryRepository.findByDateBetween(from, to)
+                    .stream()
+                    .collect(Collectors.groupingBy(WishBookEntry::getDate));
+
+            var outcomes = dates.parallelStream()
+                    .map(date -> {
+                        checkNotCancelled(progress, from, to);
+                        var outcome = planDay(date, wishesByDate.getOrDefault(date, List.of()), catalog);
+                        progress.dayPlanned();
+                        return outcome;
+                    })
+                    .toList();
+            checkNotCancelled(progress, from, to);
+
+            var planned = outcomes.stream()
+                    .filter(outcome -> outcome.failure() == null)
+                    .toList();
+            Map<LocalDate, List<WishBookEntry>> assignmentsByDate = new LinkedHashMap<>();
+            planned.forEach(outcome -> assignmentsByDate.put(outcome.date(), outcome.solution().assignments()));
+            var changesByDate = applyAssignments(assignmentsByDate);
+
+            var days = new ArrayList<HorizonPlanResponse.DayResult>(outcomes.size());
+            for (DayOutcome outcome : outcomes) {
+                long solveMicros = TimeUnit.NANOSECONDS.toMicros(outcome.solveNanos());
+                if (outcome.failure() != null) {
+                    days.add(new HorizonPlanResponse.DayResult(outcome.date(), HorizonPlanResponse.Status.FAILED,
+                            0, solveMicros, outcome.failure(), null));
+                } else {
+                    days.add(new HorizonPlanResponse.DayResult(outcome.date(), HorizonPlanResponse.Status.PLANNED,
+                            outcome.solution().assignments().size(), solveMicros, null,
+                            changesByDate.get(outcome.date())));
+                }
+            }
+
+            return new HorizonPlanResponse(from, to, planned.size(), outcomes.size() - planned.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), days);
+        });
+    }
+
+    /**
+     * Writes already chosen assignments of several dates in this transaction, the same way a horizon plan does:
+     * the dates are locked until the transaction completes, their current schedules are read with one query
+     * and only the differences are written.
+     *
+     * @param assignmentsByDate the wanted wishes of every date to replace
+     * @return the changes made to each of those dates
+     */
+    @Transactional
+    public Map<LocalDate, ScheduleChanges> applyAssignments(Map<LocalDate, List<WishBookEntry>> assignmentsByDate) {
+        if (assignmentsByDate.isEmpty()) {
+            return Map.of();
+        }
+        dateLocks.lockUntilCompletion(assignmentsByDate.keySet());
+        Map<LocalDate, List<ScheduleEntry>> currentByDate = scheduleEntryRepository
+                .findByDateIn(List.copyOf(assignmentsByDate.keySet()))
+                .stream()
+                .collect(Collectors.groupingBy(ScheduleEntry::getDate));
+
+        var diffs = assignmentsByDate.entrySet().stream()
+                .map(entry -> diffSchedule(entry.getKey(), currentByDate.getOrDefault(entry.getKey(), List.of()),
+                        entry.getValue()))
+                .toList();
+        return writeSchedules(diffs).stream()
+                .collect(Collectors.toMap(ScheduleChanges::date, Function.identity()));
+    }
+
+    private DayOutcome planDay(LocalDate date, List<WishBookEntry> wishEntries, ShiftCatalog catalog) {
+        long started = System.nanoTime();
+        if (wishEntries.isEmpty()) {
+            return new DayOutcome(date, null, "No wish book entries found for " + date + ".", System.nanoTime() - started);
+        }
+
+        var solution = ShiftAssignmentSolver.solve(wishEntries, catalog);
+        var failure = solution.isComplete() ? null : describeShortfall(date, solution);
+        return new DayOutcome(date, solution, failure, System.nanoTime() - started);
+    }
+
+    private static void checkNotCancelled(PlanningProgress progress, LocalDate from, LocalDate to) {
+        if (progress.isCancelled()) {
+            throw new CancellationException("Plan from " + from + " to " + to + " was cancelled.");
+        }
+    }
+
+    static String describeShortfall(LocalDate date, ShiftAssignmentSolver.Solution solution) {
+        return "Not enough available employees to staff every shift type on " + date
+                + ". Staffed: " + solution.describeStaffing();
+    }
+
+    /**
+     * Writes the difference to the current schedule of the date and builds the response while the
+     * transaction is still open. The date stays locked until the transaction completes, so a concurrent
+     * plan for the same date diffs against this plan's committed schedule. Employees were fetched together
+     * with the wish book entries, so reading their names here issues no further queries.
+     */
+    private PlanResponse applySchedule(LocalDate date, List<WishBookEntry> assignments) {
+        dateLocks.lockUntilCompletion(List.of(date));
+        var diff = diffSchedule(date, scheduleEntryRepository.findByDate(date), assignments);
+        writeSchedules(List.of(diff));
+        return toPlanResponse(date, diff.schedule());
+    }
+
+    static PlanResponse toPlanResponse(LocalDate date, List<ScheduleEntry> schedule) {
+        var planned = new ArrayList<PlanResponse.Assignment>(schedule.size());
+        for (ScheduleEntry entry : schedule) {
+            var employee = entry.getEmployee();
+            planned.add(new PlanResponse.Assignment(entry.getId(), employee.getId(), employee.getName(),
+                    entry.getShiftType()));
+        }
+        return new PlanResponse(date, planned);
+    }
+
+    /**
+     * Compares the current schedule entries of a date with the wanted assignments without changing anything.
+     * Entries whose employee keeps the same shift are left alone, a changed shift becomes an in-place update
+     * of the managed entity, and only employees that are added or removed produce an insert or delete.
+     */
+    private static ScheduleDiff diffSchedule(LocalDate date, List<ScheduleEntry> current,
+                                             List<WishBookEntry> assignments) {
+        Map<Long, WishBookEntry> wanted = new HashMap<>();
+        assignments.forEach(wish -> wanted.put(wish.getEmployee().getId(), wish));
+
+        var schedule = new ArrayList<ScheduleEntry>(assignments.size());
+        var deletes = new ArrayList<ScheduleEntry>();
+        var updatedEntries = new ArrayList<ScheduleEntry>();
+        var updatedDefinitions = new ArrayList<ShiftDefinition>();
+        var updates = new ArrayList<ScheduleChange>();
+        int unchanged = 0;
+
+        for (ScheduleEntry entry : current) {
+            var wish = wanted.remove(entry.getEmployee().getId());
+            if (wish == null) {
+                deletes.add(entry);
+                continue;
+            }
+            schedule.add(entry);
+            if (entry.getShiftType().equals(wish.getShiftType())) {
+                unchanged++;
+            } else {
+                updatedEntries.add(entry);
+                updatedDefinitions.add(wish.getShiftDefinition());
+                updates.add(new ScheduleChange(entry.getId(), entry.getEmployee().getId(),
+                        entry.getShiftType(), wish.getShiftType()));
+            }
+        }
+
+        var inserts = assignments.stream()
+                .filter(wish -> wanted.containsKey(wish.getEmployee().getId()))
+                .map(wish -> toScheduleEntry(date, wish))
                 .toList();
+        schedule.addAll(inserts);
 
-        return scheduleEntryRepository.saveAll(scheduleEntries);
+        return new ScheduleDiff(date, inserts, updatedEntries, updatedDefinitions, updates, deletes, unchanged,
+                schedule);
     }
 
-    private void validateWishEntries(List<WishBookEntry> wishEntries, PlanningRequest request) {
-        // Validate that all wish book entries have the same date
-        boolean allSameDate = wishEntries.stream()
-                .allMatch(entry -> entry.getDate().equals(request.date()));
-        if (!allSameDate) {
-            throw new IllegalArgumentException("All wish book entries must have the same date.");
+    /**
+     * Writes the inserts and deletes of all diffs with one batched saveAll and one batched deleteAll.
+     * Updates are applied to the managed entities and flushed by dirty checking.
+     * A {@link ScheduleChangedEvent} is published for every date that actually changed.
+     */
+    private List<ScheduleChanges> writeSchedules(List<ScheduleDiff> diffs) {
+        for (ScheduleDiff diff : diffs) {
+            for (int i = 0; i < diff.updates().size(); i++) {
+                diff.updatedEntries().get(i).setShiftDefinition(diff.updatedDefinitions().get(i));
+            }
         }
+        var inserts = diffs.stream().flatMap(diff -> diff.inserts().stream()).toList();
+        var deletes = diffs.stream().flatMap(diff -> diff.deletes().stream()).toList();
 
-        Map<ShiftType, List<WishBookEntry>> entriesByShiftType = wishEntries.stream()
-                .collect(Collectors.groupingBy(WishBookEntry::getShiftType));
+        if (!deletes.isEmpty()) {
+            scheduleEntryRepository.deleteAll(deletes);
+        }
+        if (!inserts.isEmpty()) {
+            scheduleEntryRepository.saveAll(inserts);
+        }
 
-        // Validate that we have exactly 2 employees per shift type
-        for (ShiftType shiftType : ShiftType.values()) {
-            List<WishBookEntry> entries = entriesByShiftType.get(shiftType);
-            if (entries == null || entries.size() != 2) {
-                throw new IllegalArgumentException("Exactly 2 employees are required for each shift type: " + shiftType);
+        var allChanges = new ArrayList<ScheduleChanges>(diffs.size());
+        for (ScheduleDiff diff : diffs) {
+            var changes = diff.toChanges();
+            if (changes.hasChanges()) {
+                eventPublisher.publishEvent(new ScheduleChangedEvent(changes));
             }
+            allChanges.add(changes);
         }
+        return allChanges;
+    }
+
+    private static ScheduleEntry toScheduleEntry(LocalDate date, WishBookEntry wishEntry) {
+        return ScheduleEntry.builder()
+                .employee(wishEntry.getEmployee())
+                .date(date)
+                .shiftDefinition(wishEntry.getShiftDefinition())
+                .build();
+    }
+
+    static PlanValidationReport validateWishEntries(List<WishBookEntry> wishEntries, PlanningRequest request,
+                                                    ShiftCatalog catalog) {
+        return PLAN_VALIDATOR.validate(wishEntries, request.date(), catalog);
+    }
+
+    private record DayOutcome(LocalDate date, ShiftAssignmentSolver.Solution solution, String failure, long solveNanos) {
+    }
 
-        // Validate that no employee is assigned to more than one shift type
-        var employeeIds = wishEntries.stream()
-                .map(entry -> entry.getEmployee().getId())
-                .collect(Collectors.toSet());
+    private record ScheduleDiff(
+            LocalDate date,
+            List<ScheduleEntry> inserts,
+            List<ScheduleEntry> updatedEntries,
+            List<ShiftDefinition> updatedDefinitions,
+            List<ScheduleChange> updates,
+            List<ScheduleEntry> deletes,
+            int unchanged,
+            List<ScheduleEntry> schedule
+    ) {
 
-        long uniqueEmployeeCount = employeeIds.size();
-        if (uniqueEmployeeCount != wishEntries.size()) {
-            throw new IllegalArgumentException("An employee cannot be assigned to more than one shift type.");
+        ScheduleChanges toChanges() {
+            return new ScheduleChanges(date,
+                    inserts.stream()
+                            .map(entry -> new ScheduleChange(entry.getId(), entry.getEmployee().getId(), null,
+                                    entry.getShiftType()))
+                            .toList(),
+                    updates,
+                    deletes.stream()
+                            .map(entry -> new ScheduleChange(entry.getId(), entry.getEmployee().getId(),
+                                    entry.getShiftType(), null))
+                            .toList(),
+                    unchanged);
         }
     }
 }
@@ -0,0 +1,213 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.ScheduleExportRow;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes schedules of a date range as CSV or iCalendar straight to a writer.
+ * <p>
+ * Rows are read through a forward-only cursor with a fixed fetch size and written one at a time, so an
+ * export holds no more than one fetch of rows in memory however long the range is.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+    static final String CSV_HEADER = "date,employeeId,employeeName,shiftType,startTime,endTime";
+
+    private static final String CRLF = "\r\n";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final int ICAL_LINE_LIMIT = 75;
+    private static final DateTimeFormatter ICAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ShiftCatalogService shiftCatalogService;
+    private final OperationMetrics operationMetrics;
+
+    /**
+     * Writes every schedule entry between from and to as CSV, ordered by date, shift and employee name.
+     * Shifts that are no longer offered are written without start and end time.
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive, at most 366 days after from
+     * @param out the writer to write to; it is neither flushed nor closed
+     * @return the number of entries written
+     */
+    @Transactional(readOnly = true)
+    public long exportCsv(LocalDate from, LocalDate to, Writer out) {
+        DateRanges.check(from, to);
+        var catalog = shiftCatalogService.current();
+
+        return operationMetrics.record(OperationMetrics.EXPORT_SCHEDULE, () -> {
+            try (var rows = scheduleEntryRepository.streamExportRows(from, to)) {
+                out.write(CSV_HEADER);
+                out.write('\n');
+                long count = 0;
+                for (var iterator = rows.iterator(); iterator.hasNext(); count++) {
+                    writeCsvRow(iterator.next(), catalog, out);
+                }
+                return count;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Writes the shifts of one employee between from and to as an iCalendar feed with one event per shift.
+     * Events use the catalog hours as floating local times; a shift that is no longer offered becomes an
+     * all-day event. Event UIDs are derived from the schedule entry, so re-imported feeds update in place.
+     * @param employeeId the employee whose shifts to export
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive, at most 366 days after from
+     * @param out the writer to write to; it is neither flushed nor closed
+     * @return the number of events written
+     * @throws EntityNotFoundException if the employee does not exist
+     */
+    @Transactional(readOnly = true)
+    public long exportCalendar(Long employeeId, LocalDate from, LocalDate to, Writer out) {
+        DateRanges.check(from, to);
+        var employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new EntityNotFoundException("Employee " + employeeId + " does not exist."));
+        var catalog = shiftCatalogService.current();
+        var stamp = LocalDateTime.now(ZoneOffset.UTC).format(ICAL_DATE_TIME) + "Z";
+
+        return operationMetrics.record(OperationMetrics.EXPORT_SCHEDULE, () -> {
+            try (var rows = scheduleEntryRepository.streamExportRowsForEmployee(employeeId, from, to)) {
+                writeIcalLine(out, "BEGIN:VCALENDAR");
+                writeIcalLine(out, "VERSION:2.0");
+                writeIcalLine(out, "PRODID:-//Staff Planner//Schedule Export//EN");
+                writeIcalLine(out, "CALSCALE:GREGORIAN");
+                writeIcalLine(out, "X-WR-CALNAME:" + escapeText("Shifts of " + employee.getName()));
+                long count = 0;
+                for (var iterator = rows.iterator(); iterator.hasNext(); count++) {
+                    writeEvent(iterator.next(), catalog, stamp, out);
+                }
+                writeIcalLine(out, "END:VCALENDAR");
+                return count;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static void writeCsvRow(ScheduleExportRow row, ShiftCatalog catalog, Writer out) throws IOException {
+        var shift = catalog.shift(row.shiftType());
+        out.write(row.date().toString());
+        out.write(',');
+        out.write(String.valueOf(row.employeeId()));
+        out.write(',');
+        out.write(escapeCsv(row.employeeName()));
+        out.write(',');
+        out.write(row.shiftType().code());
+        out.write(',');
+        if (shift != null) {
+            out.write(shift.startTime().toString());
+        }
+        out.write(',');
+        if (shift != null) {
+            out.write(shift.endTime().toString());
+        }
+        out.write('\n');
+    }
+
+    private static void writeEvent(ScheduleExportRow row, ShiftCatalog catalog, String stamp, Writer out)
+            throws IOException {
+        var shift = catalog.shift(row.shiftType());
+        writeIcalLine(out, "BEGIN:VEVENT");
+        writeIcalLine(out, "UID:schedule-" + row.scheduleEntryId() + "@staff-planner");
+        writeIcalLine(out, "DTSTAMP:" + stamp);
+        if (shift != null) {
+            var start = row.date().atTime(shift.startTime());
+            var end = row.date().atTime(shift.endTime());
+            if (!end.isAfter(start)) {
+                // Shifts ending at or before their start run past midnight
+                end = end.plusDays(1);
+            }
+            writeIcalLine(out, "DTSTART:" + start.format(ICAL_DATE_TIME));
+            writeIcalLine(out, "DTEND:" + end.format(ICAL_DATE_TIME));
+        } else {
+            writeIcalLine(out, "DTSTART;VALUE=DATE:" + row.date().format(DateTimeFormatter.BASIC_ISO_DATE));
+            writeIcalLine(out, "DTEND;VALUE=DATE:" + row.date().plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+        }
+        writeIcalLine(out, "SUMMARY:" + escapeText(row.shiftType().code()));
+        writeIcalLine(out, "END:VEVENT");
+    }
+
+    /**
+     * Quotes a CSV field if it contains a separator, a quote or a line break. A field that a spreadsheet
+     * would run as a formula is prefixed with an apostrophe, so an employee name cannot inject one.
+     */
+    static String escapeCsv(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Escapes an iCalendar TEXT value (RFC 5545, section 3.3.11).
+     */
+    static String escapeText(String value) {
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    /**
+     * Writes a content line terminated by CRLF, folding it so that no physical line is longer than
+     * {@value #ICAL_LINE_LIMIT} UTF-8 octets. Lines are only folded between code points, so multi-byte
+     * characters and surrogate pairs are never split.
+     */
+    static void writeIcalLine(Writer out, String line) throws IOException {
+        int start = 0;
+        int octets = 0;
+        int limit = ICAL_LINE_LIMIT;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > limit) {
+                out.write(line, start, i - start);
+                out.write(CRLF);
+                out.write(' ');
+                start = i;
+                octets = 0;
+                // Continuation lines start with the folding space
+                limit = ICAL_LINE_LIMIT - 1;
+            }
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.write(line, start, line.length() - start);
+        out.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
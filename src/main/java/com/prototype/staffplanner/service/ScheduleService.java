@@ -1,47 +1,163 @@
 package com.prototype.staffplanner.service;
 
+import com.prototype.staffplanner.config.CacheConfig;
 import com.prototype.staffplanner.dto.ScheduleResponse;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.dto.ScheduleRow;
+import com.prototype.staffplanner.event.ScheduleChangedEvent;
 import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.repository.ScheduleEntryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
 
     private final ScheduleEntryRepository scheduleEntryRepository;
+    private final OperationMetrics operationMetrics;
+    private final ShiftCatalogService shiftCatalogService;
 
     /**
      * Retrieves the schedule for a specific date.
+     * Results are cached per date until a plan for that date is committed. Concurrent misses for the
+     * same date are collapsed into one load that all waiting callers share. Loads are timed as
+     * {@value OperationMetrics#LOAD_SCHEDULE}; cache hits are counted by the cache metrics instead.
      * @param date the date for which to retrieve the schedule
      * @return a ScheduleResponse containing the schedule entries grouped by shift type
      */
+    @Cacheable(cacheNames = CacheConfig.SCHEDULES_CACHE, sync = true)
+    @Transactional(readOnly = true)
     public ScheduleResponse getScheduleForDate(LocalDate date) {
-        // Fetch schedule entries for the given date
-        var scheduleEntries = scheduleEntryRepository.findByDate(date);
-
-        Map<ShiftType, List<ScheduleEntry>> entriesByShift = scheduleEntries.stream()
-                .collect(Collectors.groupingBy(ScheduleEntry::getShiftType));
-
-        // Create ShiftInfo objects for each ShiftType
-        var shiftInfos = Arrays.stream(ShiftType.values())
-                .map(shiftType -> {
-                    var employeeNames = entriesByShift.getOrDefault(shiftType, List.of())
-                            .stream()
-                            .map(entry -> entry.getEmployee().getName())
-                            .toList();
-                    return new ScheduleResponse.ShiftInfo(shiftType, employeeNames);
-                })
-                .toList();
-
-        return new ScheduleResponse(date, shiftInfos);
+        return operationMetrics.record(OperationMetrics.LOAD_SCHEDULE, () -> {
+            // Fetch schedule entries for the given date
+            var scheduleEntries = scheduleEntryRepository.findByDate(date);
+
+            return toScheduleResponse(date, scheduleEntries, shiftCatalogService.current());
+        });
+    }
+
+    /**
+     * Retrieves the schedules for every date of a range with a single query.
+     * Employee names are selected together with the entries, so no employee is loaded lazily.
+     * @param from the first date, inclusive
+     * @param to the last date, inclusive
+     * @return one ScheduleResponse per date, including dates without any schedule entries
+     */
+    public List<ScheduleResponse> getScheduleForRange(LocalDate from, LocalDate to) {
+        var dates = DateRanges.between(from, to);
+
+        return toScheduleResponses(dates, scheduleEntryRepository.findRowsByDateBetween(from, to),
+                shiftCatalogService.current());
+    }
+
+    /**
+     * Groups the schedule entries of one date by shift id, keeping every offered shift in the response.
+     */
+    static ScheduleResponse toScheduleResponse(LocalDate date, List<ScheduleEntry> scheduleEntries,
+                                               ShiftCatalog catalog) {
+        var names = new ShiftNames(catalog);
+        for (ScheduleEntry entry : scheduleEntries) {
+            names.add(entry.getShiftType(), entry.getEmployee().getName());
+        }
+
+        return new ScheduleResponse(date, names.toShiftInfos());
+    }
+
+    /**
+     * Builds one response per date from schedule rows of those dates.
+     * @param dates consecutive dates, in order
+     * @param rows the rows of the range, in any order
+     */
+    static List<ScheduleResponse> toScheduleResponses(List<LocalDate> dates, List<ScheduleRow> rows,
+                                                      ShiftCatalog catalog) {
+        LocalDate from = dates.getFirst();
+
+        // Names per day offset, filled in one pass over the rows
+        var namesByDay = new ShiftNames[dates.size()];
+        for (int day = 0; day < dates.size(); day++) {
+            namesByDay[day] = new ShiftNames(catalog);
+        }
+        for (ScheduleRow row : rows) {
+            namesByDay[(int) ChronoUnit.DAYS.between(from, row.date())].add(row.shiftType(), row.employeeName());
+        }
+
+        var schedules = new ArrayList<ScheduleResponse>(dates.size());
+        for (int day = 0; day < dates.size(); day++) {
+            schedules.add(new ScheduleResponse(dates.get(day), namesByDay[day].toShiftInfos()));
+        }
+        return schedules;
+    }
+
+    /**
+     * Drops the cached schedule of a date once the transaction that changed it has committed,
+     * so readers never cache or see a plan that might still roll back.
+     * @param event the committed schedule change
+     */
+    @TransactionalEventListener
+    @CacheEvict(cacheNames = CacheConfig.SCHEDULES_CACHE, key = "#event.date()")
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        // Eviction is handled by @CacheEvict
+    }
+
+    /**
+     * The employee names of one date per shift: offered shifts in an array indexed by shift id, shift types
+     * that are no longer offered in a map that stays empty unless such entries exist.
+     */
+    private static final class ShiftNames {
+
+        private final ShiftCatalog catalog;
+        private final List<String>[] namesByShift;
+        private Map<ShiftType, List<String>> namesNotOffered;
+
+        @SuppressWarnings("unchecked")
+        ShiftNames(ShiftCatalog catalog) {
+            this.catalog = catalog;
+            this.namesByShift = new List[catalog.idCount()];
+        }
+
+        void add(ShiftType shiftType, String employeeName) {
+            int shift = catalog.id(shiftType);
+            if (shift != -1) {
+                if (namesByShift[shift] == null) {
+                    namesByShift[shift] = new ArrayList<>();
+                }
+                namesByShift[shift].add(employeeName);
+                return;
+            }
+            if (namesNotOffered == null) {
+                namesNotOffered = new TreeMap<>();
+            }
+            namesNotOffered.computeIfAbsent(shiftType, type -> new ArrayList<>()).add(employeeName);
+        }
+
+        /**
+         * Lists every offered shift, with an empty name list if nobody is assigned. A shift type that is no
+         * longer offered is still listed after them while employees are assigned to it, without a time range.
+         */
+        List<ScheduleResponse.ShiftInfo> toShiftInfos() {
+            var shiftInfos = new ArrayList<ScheduleResponse.ShiftInfo>(namesByShift.length);
+            for (ShiftCatalog.Shift shift : catalog.shifts()) {
+                var employeeNames = namesByShift[shift.id()];
+                shiftInfos.add(new ScheduleResponse.ShiftInfo(shift.shiftType(), shift.timeRange(),
+                        employeeNames == null ? List.of() : List.copyOf(employeeNames)));
+            }
+            if (namesNotOffered != null) {
+                namesNotOffered.forEach((shiftType, employeeNames) ->
+                        shiftInfos.add(new ScheduleResponse.ShiftInfo(shiftType, null, List.copyOf(employeeNames))));
+            }
+            return shiftInfos;
+        }
     }
 }
@@ -0,0 +1,195 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Picks schedule assignments from the wish book entries of a single date.
+ * <p>
+ * The problem is modelled as a flow network: source → employee (capacity 1, so nobody works two shifts),
+ * employee → shift for every wish (capacity 1) and shift → sink (capacity = required headcount).
+ * A maximum flow saturating every shift edge is a valid plan. Edmonds-Karp finds it in
+ * O(flow · edges), and the flow is bounded by the total headcount, so even hundreds of
+ * candidate wishes are solved in well under a millisecond.
+ */
+final class ShiftAssignmentSolver {
+
+    private ShiftAssignmentSolver() {
+    }
+
+    /**
+     * Solves the assignment for one date.
+     *
+     * @param wishes the candidate wish book entries, all for the same date
+     * @param catalog the offered shifts and how many employees each needs; wishes for other shifts are ignored
+     * @return the chosen wishes and how many employees each shift received
+     */
+    static Solution solve(List<WishBookEntry> wishes, ShiftCatalog catalog) {
+        int shiftCount = catalog.idCount();
+        int[] required = new int[shiftCount];
+        for (ShiftCatalog.Shift shift : catalog.shifts()) {
+            required[shift.id()] = shift.requiredHeadcount();
+        }
+
+        Map<Long, Integer> employeeIndex = new HashMap<>();
+        for (WishBookEntry wish : wishes) {
+            employeeIndex.putIfAbsent(wish.getEmployee().getId(), employeeIndex.size());
+        }
+
+        int source = 0;
+        int firstEmployee = 1;
+        int firstShift = firstEmployee + employeeIndex.size();
+        int sink = firstShift + shiftCount;
+
+        var network = new FlowNetwork(sink + 1, employeeIndex.size() + wishes.size() + shiftCount);
+        for (int employee = 0; employee < employeeIndex.size(); employee++) {
+            network.addEdge(source, firstEmployee + employee, 1);
+        }
+
+        int[] wishEdges = new int[wishes.size()];
+        for (int i = 0; i < wishes.size(); i++) {
+            WishBookEntry wish = wishes.get(i);
+            int shift = catalog.id(wish.getShiftType());
+            if (shift == -1 || required[shift] == 0) {
+                wishEdges[i] = -1;
+                continue;
+            }
+            int employee = employeeIndex.get(wish.getEmployee().getId());
+            wishEdges[i] = network.addEdge(firstEmployee + employee, firstShift + shift, 1);
+        }
+
+        int[] shiftEdges = new int[shiftCount];
+        for (int shift = 0; shift < shiftCount; shift++) {
+            shiftEdges[shift] = network.addEdge(firstShift + shift, sink, required[shift]);
+        }
+
+        network.maxFlow(source, sink);
+
+        var assignments = new ArrayList<WishBookEntry>();
+        for (int i = 0; i < wishes.size(); i++) {
+            if (wishEdges[i] != -1 && network.flow(wishEdges[i]) > 0) {
+                assignments.add(wishes.get(i));
+            }
+        }
+
+        int[] staffed = new int[shiftCount];
+        for (int shift = 0; shift < shiftCount; shift++) {
+            staffed[shift] = network.flow(shiftEdges[shift]);
+        }
+
+        return new Solution(assignments, staffed, required, catalog);
+    }
+
+    /**
+     * The outcome of {@link #solve}: the chosen wishes and the headcount reached and required per shift id.
+     */
+    record Solution(List<WishBookEntry> assignments, int[] staffed, int[] required, ShiftCatalog catalog) {
+
+        boolean isComplete() {
+            return Arrays.equals(staffed, required);
+        }
+
+        int staffed(ShiftType shiftType) {
+            int shift = catalog.id(shiftType);
+            return shift == -1 ? 0 : staffed[shift];
+        }
+
+        /**
+         * The staffed and required headcount of every offered shift, for example {@code {EARLY_SHIFT=1/2}}.
+         */
+        String describeStaffing() {
+            var joiner = new StringJoiner(", ", "{", "}");
+            for (int shift = 0; shift < required.length; shift++) {
+                if (required[shift] > 0) {
+                    joiner.add(catalog.shiftType(shift) + "=" + staffed[shift] + "/" + required[shift]);
+                }
+            }
+            return joiner.toString();
+        }
+    }
+
+    /**
+     * Residual graph stored as parallel arrays; edge {@code e} and its reverse edge {@code e ^ 1}
+     * are always added together.
+     */
+    private static final class FlowNetwork {
+
+        private final int[] head;
+        private final int[] next;
+        private final int[] target;
+        private final int[] capacity;
+        private final int[] originalCapacity;
+        private int edgeCount;
+
+        FlowNetwork(int nodeCount, int edgeCapacity) {
+            head = new int[nodeCount];
+            Arrays.fill(head, -1);
+            next = new int[edgeCapacity * 2];
+            target = new int[edgeCapacity * 2];
+            capacity = new int[edgeCapacity * 2];
+            originalCapacity = new int[edgeCapacity * 2];
+        }
+
+        int addEdge(int from, int to, int edgeCapacity) {
+            int edge = edgeCount;
+            link(from, to, edgeCapacity);
+            link(to, from, 0);
+            return edge;
+        }
+
+        private void link(int from, int to, int edgeCapacity) {
+            target[edgeCount] = to;
+            capacity[edgeCount] = edgeCapacity;
+            originalCapacity[edgeCount] = edgeCapacity;
+            next[edgeCount] = head[from];
+            head[from] = edgeCount++;
+        }
+
+        int flow(int edge) {
+            return originalCapacity[edge] - capacity[edge];
+        }
+
+        void maxFlow(int source, int sink) {
+            int[] parentEdge = new int[head.length];
+            int[] queue = new int[head.length];
+
+            while (true) {
+                Arrays.fill(parentEdge, -1);
+                int queueHead = 0;
+                int queueTail = 0;
+                queue[queueTail++] = source;
+
+                while (queueHead < queueTail && parentEdge[sink] == -1) {
+                    int node = queue[queueHead++];
+                    for (int edge = head[node]; edge != -1; edge = next[edge]) {
+                        int to = target[edge];
+                        if (capacity[edge] > 0 && to != source && parentEdge[to] == -1) {
+                            parentEdge[to] = edge;
+                            queue[queueTail++] = to;
+                        }
+                    }
+                }
+
+                if (parentEdge[sink] == -1) {
+                    return;
+                }
+
+                int bottleneck = Integer.MAX_VALUE;
+                for (int node = sink; node != source; node = target[parentEdge[node] ^ 1]) {
+                    bottleneck = Math.min(bottleneck, capacity[parentEdge[node]]);
+                }
+                for (int node = sink; node != source; node = target[parentEdge[node] ^ 1]) {
+                    capacity[parentEdge[node]] -= bottleneck;
+                    capacity[parentEdge[node] ^ 1] += bottleneck;
+                }
+            }
+        }
+    }
+}
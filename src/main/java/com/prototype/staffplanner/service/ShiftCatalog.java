@@ -0,0 +1,151 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the shifts a store offers.
+ * <p>
+ * Every offered shift is addressed by a small integer id, its position in the catalog ordered by start time,
+ * so planning and schedule assembly keep per-shift data in plain arrays of {@link #idCount()} slots instead of
+ * hashing shift types. Ids are only meaningful within one catalog; shift types that are not offered have none.
+ * The catalog also knows the stored definition of every shift type, offered or not, which wishes and schedule
+ * entries refer to.
+ */
+public final class ShiftCatalog {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final List<Shift> shifts;
+    private final Map<ShiftType, Shift> shiftsByType;
+    private final Map<ShiftType, Long> definitionIds;
+
+    private ShiftCatalog(Collection<ShiftDefinition> offered, Map<ShiftType, Long> definitionIds) {
+        var ordered = new ArrayList<>(offered);
+        ordered.sort(Comparator.comparing(ShiftDefinition::getStartTime).thenComparing(ShiftDefinition::getShiftType));
+        var shiftList = new ArrayList<Shift>(ordered.size());
+        shiftsByType = new HashMap<>();
+        for (ShiftDefinition definition : ordered) {
+            var shift = new Shift(shiftList.size(), definition.getShiftType(), definition.getStartTime(),
+                    definition.getEndTime(), definition.getRequiredHeadcount());
+            shiftList.add(shift);
+            shiftsByType.put(shift.shiftType(), shift);
+        }
+        shifts = List.copyOf(shiftList);
+        this.definitionIds = Map.copyOf(definitionIds);
+    }
+
+    /**
+     * Builds a catalog from the stored shift definitions; those that are not offered only contribute their id.
+     */
+    public static ShiftCatalog of(Collection<ShiftDefinition> definitions) {
+        var definitionIds = new HashMap<ShiftType, Long>();
+        for (ShiftDefinition definition : definitions) {
+            if (definition.getId() != null) {
+                definitionIds.put(definition.getShiftType(), definition.getId());
+            }
+        }
+        return new ShiftCatalog(definitions.stream().filter(ShiftDefinition::isOffered).toList(), definitionIds);
+    }
+
+    /**
+     * The shifts every store starts with: an early and a late shift, staffed by two employees each. The
+     * V2 migration seeds the same definitions into a new store.
+     */
+    public static ShiftCatalog defaults() {
+        return new ShiftCatalog(List.of(
+                definition(ShiftType.EARLY_SHIFT, LocalTime.of(7, 0), LocalTime.of(15, 30), 2),
+                definition(ShiftType.LATE_SHIFT, LocalTime.of(11, 30), LocalTime.of(20, 0), 2)), Map.of());
+    }
+
+    private static ShiftDefinition definition(ShiftType shiftType, LocalTime startTime, LocalTime endTime,
+                                              int requiredHeadcount) {
+        return ShiftDefinition.builder()
+                .shiftType(shiftType)
+                .startTime(startTime)
+                .endTime(endTime)
+                .requiredHeadcount(requiredHeadcount)
+                .build();
+    }
+
+    /**
+     * The number of id slots, which is the size of any array indexed by shift id.
+     */
+    public int idCount() {
+        return shifts.size();
+    }
+
+    /**
+     * The id of an offered shift type, or -1 if the store does not offer it.
+     */
+    public int id(ShiftType shiftType) {
+        var shift = shiftsByType.get(shiftType);
+        return shift == null ? -1 : shift.id();
+    }
+
+    public ShiftType shiftType(int id) {
+        return shifts.get(id).shiftType();
+    }
+
+    /**
+     * The offered shifts, in id order.
+     */
+    public List<Shift> shifts() {
+        return shifts;
+    }
+
+    public boolean isOffered(ShiftType shiftType) {
+        return shiftsByType.containsKey(shiftType);
+    }
+
+    /**
+     * The offered shift of a type, or {@code null} if the store does not offer it.
+     */
+    public Shift shift(ShiftType shiftType) {
+        return shiftsByType.get(shiftType);
+    }
+
+    /**
+     * The number of employees a shift type needs each day; 0 if it is not offered.
+     */
+    public int required(ShiftType shiftType) {
+        var shift = shiftsByType.get(shiftType);
+        return shift == null ? 0 : shift.requiredHeadcount();
+    }
+
+    /**
+     * The id of the stored definition of a shift type, offered or not, or {@code null} if it was never defined.
+     */
+    public Long definitionId(ShiftType shiftType) {
+        return definitionIds.get(shiftType);
+    }
+
+    /**
+     * Working hours formatted as {@code HH:mm - HH:mm}.
+     */
+    static String timeRange(LocalTime startTime, LocalTime endTime) {
+        return TIME_FORMAT.format(startTime) + " - " + TIME_FORMAT.format(endTime);
+    }
+
+    /**
+     * One offered shift.
+     */
+    public record Shift(int id, ShiftType shiftType, LocalTime startTime, LocalTime endTime, int requiredHeadcount) {
+
+        /**
+         * The working hours formatted as {@code HH:mm - HH:mm}.
+         */
+        public String timeRange() {
+            return ShiftCatalog.timeRange(startTime, endTime);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.config.CacheConfig;
+import com.prototype.staffplanner.dto.ShiftDefinitionRequest;
+import com.prototype.staffplanner.dto.ShiftDefinitionResponse;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.ShiftDefinitionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Owns the {@link ShiftCatalog} the planner, the validator and the schedule responses read.
+ * <p>
+ * The catalog is loaded from the stored {@link ShiftDefinition}s when the bean is initialized, before the web
+ * server accepts requests; the default shifts of a new store are seeded by a migration. After a definition
+ * change commits, a new catalog is built and published with a single volatile write, so readers always see one
+ * complete catalog and never take a lock. Cached schedules are dropped on every swap because they carry the shift times.
+ * <p>
+ * Shift types are data: defining a shift with a new code adds it to the catalog. Wishes and schedule entries
+ * refer to the definition of their shift type, which is why removing a shift only stops offering it.
+ */
+@Slf4j
+@Service
+public class ShiftCatalogService {
+
+    private final ShiftDefinitionRepository shiftDefinitionRepository;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transaction;
+
+    private volatile ShiftCatalog catalog;
+
+    public ShiftCatalogService(ShiftDefinitionRepository shiftDefinitionRepository,
+                               CacheManager cacheManager,
+                               PlatformTransactionManager transactionManager) {
+        this.shiftDefinitionRepository = shiftDefinitionRepository;
+        this.cacheManager = cacheManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * The catalog in effect right now. Callers should read it once per operation.
+     */
+    public ShiftCatalog current() {
+        return catalog;
+    }
+
+    /**
+     * Loads the catalog from the migrated store.
+     */
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    public List<ShiftDefinitionResponse> getShifts() {
+        return catalog.shifts().stream()
+                .map(ShiftCatalogService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Creates or replaces the definition of a shift type, which may be a new one, and offers it again if it was
+     * removed. The new catalog is in effect once the change commits.
+     * <p>
+     * An existing definition is locked while it changes, so concurrent changes of it apply one after the other.
+     * Two requests creating the same new shift type race on its unique code; the loser's transaction rolls back
+     * and is retried once, which then finds and updates the winner's definition.
+     */
+    public ShiftDefinitionResponse defineShift(ShiftType shiftType, ShiftDefinitionRequest request) {
+        if (!request.endTime().isAfter(request.startTime())) {
+            throw new IllegalArgumentException("A shift must end after it starts.");
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> saveDefinition(shiftType, request));
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Shift type {} was created concurrently, updating it instead", shiftType);
+            transaction.executeWithoutResult(status -> saveDefinition(shiftType, request));
+        }
+        return new ShiftDefinitionResponse(shiftType, request.startTime(), request.endTime(),
+                ShiftCatalog.timeRange(request.startTime(), request.endTime()), request.requiredHeadcount());
+    }
+
+    private void saveDefinition(ShiftType shiftType, ShiftDefinitionRequest request) {
+        var definition = shiftDefinitionRepository.findForUpdateByShiftType(shiftType)
+                .orElseGet(() -> ShiftDefinition.builder().shiftType(shiftType).build());
+        definition.setStartTime(request.startTime());
+        definition.setEndTime(request.endTime());
+        definition.setRequiredHeadcount(request.requiredHeadcount());
+        definition.setOffered(true);
+        // Flush right away so a concurrently created definition fails here rather than at commit
+        shiftDefinitionRepository.saveAndFlush(definition);
+
+        reloadAfterCommit();
+    }
+
+    /**
+     * Stops offering a shift type. Its definition is kept, since existing wishes and schedule entries of it refer
+     * to it, but it is no longer planned.
+     *
+     * @throws EntityNotFoundException if the shift type is not offered
+     */
+    @Transactional
+    public void removeShift(ShiftType shiftType) {
+        var definition = shiftDefinitionRepository.findForUpdateByShiftType(shiftType)
+                .filter(ShiftDefinition::isOffered)
+                .orElseThrow(() -> new EntityNotFoundException("Shift type " + shiftType + " is not offered."));
+        definition.setOffered(false);
+
+        reloadAfterCommit();
+    }
+
+    /**
+     * The definition a new wish or schedule entry of a shift type refers to, offered or not. A known definition
+     * is returned as a reference without loading it.
+     *
+     * @throws IllegalArgumentException if the shift type was never defined
+     */
+    public ShiftDefinition getDefinition(ShiftType shiftType) {
+        var definitionId = catalog.definitionId(shiftType);
+        if (definitionId != null) {
+            return shiftDefinitionRepository.getReferenceById(definitionId);
+        }
+        // Defined after the catalog was loaded, for example by another instance
+        return shiftDefinitionRepository.findByShiftType(shiftType)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown shift type '" + shiftType + "'."));
+    }
+
+    /**
+     * Whether a shift type has a definition, offered or not, so wishes for it can be stored.
+     */
+    public boolean isDefined(ShiftType shiftType) {
+        return catalog.definitionId(shiftType) != null
+                || shiftDefinitionRepository.findByShiftType(shiftType).isPresent();
+    }
+
+    /**
+     * Builds a catalog from the committed definitions and swaps it in. Reloads are serialized so a reload
+     * that read older definitions can never overwrite the catalog of a later one.
+     */
+    public synchronized void reload() {
+        catalog = ShiftCatalog.of(shiftDefinitionRepository.findAll());
+        Optional.ofNullable(cacheManager.getCache(CacheConfig.SCHEDULES_CACHE)).ifPresent(Cache::clear);
+        log.info("Shift catalog loaded with {} shifts", catalog.shifts().size());
+    }
+
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    private static ShiftDefinitionResponse toResponse(ShiftCatalog.Shift shift) {
+        return new ShiftDefinitionResponse(shift.shiftType(), shift.startTime(), shift.endTime(),
+                shift.timeRange(), shift.requiredHeadcount());
+    }
+}
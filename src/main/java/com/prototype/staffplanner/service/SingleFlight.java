@@ -0,0 +1,69 @@
+package com.prototype.staffplanner.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one computation.
+ * <p>
+ * The first caller of a key runs the loader; callers that arrive while it is still running wait for
+ * and share its result (or its exception) instead of running the loader again. Nothing is kept once
+ * the computation finishes, so the next call for the key loads fresh data.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code loader} for {@code key}, or joins the computation already running for it.
+     *
+     * @return the result, and whether it was computed by another caller
+     */
+    Result<V> execute(K key, Supplier<V> loader) {
+        var call = new CompletableFuture<V>();
+        var running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            return new Result<>(join(running), true);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The value of a flight; {@code shared} is {@code true} when another caller computed it.
+     */
+    record Result<V>(V value, boolean shared) {
+    }
+}
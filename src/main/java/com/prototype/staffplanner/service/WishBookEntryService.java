@@ -1,50 +1,157 @@
 package com.prototype.staffplanner.service;
 
+import com.prototype.staffplanner.dto.AvailabilityRow;
+import com.prototype.staffplanner.dto.WishBookBulkItemResult;
+import com.prototype.staffplanner.dto.WishBookBulkResponse;
 import com.prototype.staffplanner.dto.WishBookEntryResponse;
+import com.prototype.staffplanner.dto.WishBookKey;
 import com.prototype.staffplanner.dto.WishBookRequest;
-import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.model.WishBookEntry;
 import com.prototype.staffplanner.repository.EmployeeRepository;
 import com.prototype.staffplanner.repository.WishBookEntryRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class WishBookEntryService {
 
     private final WishBookEntryRepository wishBookEntryRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectory employeeDirectory;
+    private final OperationMetrics operationMetrics;
+    private final AvailabilityIndex availabilityIndex;
+    private final ShiftCatalogService shiftCatalogService;
+    private final TransactionTemplate transaction;
+
+    public WishBookEntryService(WishBookEntryRepository wishBookEntryRepository,
+                                EmployeeRepository employeeRepository,
+                                EmployeeDirectory employeeDirectory,
+                                OperationMetrics operationMetrics,
+                                AvailabilityIndex availabilityIndex,
+                                ShiftCatalogService shiftCatalogService,
+                                PlatformTransactionManager transactionManager) {
+        this.wishBookEntryRepository = wishBookEntryRepository;
+        this.employeeRepository = employeeRepository;
+        this.employeeDirectory = employeeDirectory;
+        this.operationMetrics = operationMetrics;
+        this.availabilityIndex = availabilityIndex;
+        this.shiftCatalogService = shiftCatalogService;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * Adds a new wish book entry for an employee.
      * If the employee does not exist, it creates a new employee record.
+     * The employee is resolved through the {@link EmployeeDirectory} before the entry's transaction starts, so
+     * a known name loads no employee row and concurrent requests for the same new name all reuse one employee
+     * without waiting for each other's transactions. A new employee is kept even if the entry is then rejected.
+     * The saved wish is added to the {@link AvailabilityIndex}.
      *
      * @param request the wish book request containing employee name, date, and shift type
      * @return the saved WishBookEntry
+     * @throws IllegalArgumentException if the shift type was never defined
      */
-    @Transactional
     public WishBookEntryResponse addWishBookEntry(WishBookRequest request) {
-        // Check if the employee exists, if not, create a new one
-        var employee = employeeRepository.findByName(request.employeeName())
-                .orElseGet(() -> employeeRepository.save(
-                        Employee.builder()
-                                .name(request.employeeName())
-                                .build()
-                ));
-
-        var entry = WishBookEntry.builder()
-                .employee(employee)
-                .date(request.date())
-                .shiftType(request.shiftType())
-                .build();
-
-        entry = wishBookEntryRepository.save(entry);
-
-        return new WishBookEntryResponse(entry.getEmployee().getName(),
-                entry.getDate(),
-                entry.getShiftType());
+        return operationMetrics.record(OperationMetrics.ADD_WISH, () -> {
+            var shiftDefinition = shiftCatalogService.getDefinition(request.shiftType());
+            var employeeId = employeeDirectory.resolveId(request.employeeName());
+
+            return transaction.execute(status -> {
+                var entry = WishBookEntry.builder()
+                        .employee(employeeRepository.getReferenceById(employeeId))
+                        .date(request.date())
+                        .shiftDefinition(shiftDefinition)
+                        .build();
+
+                // Flush right away so a duplicate entry fails here rather than at commit
+                entry = wishBookEntryRepository.saveAndFlush(entry);
+                availabilityIndex.record(List.of(new AvailabilityRow(employeeId, request.employeeName(),
+                        entry.getDate(), request.shiftType())));
+
+                return new WishBookEntryResponse(request.employeeName(),
+                        entry.getDate(),
+                        request.shiftType());
+            });
+        });
+    }
+
+    /**
+     * Adds many wish book entries in one transaction.
+     * All employee names are resolved together through the {@link EmployeeDirectory} before the transaction
+     * starts, which creates missing employees in a short transaction of their own, and the entries are then
+     * written with one saveAll call. Entries that already
+     * exist, or that appear twice in the same request, are reported as duplicates instead of failing the whole
+     * batch. The created wishes are added to the {@link AvailabilityIndex} once the transaction commits.
+     *
+     * @param requests the wish book requests to add
+     * @return a per-item result in request order, together with created and duplicate counts
+     * @throws IllegalArgumentException if a shift type was never defined
+     */
+    public WishBookBulkResponse addWishBookEntries(List<WishBookRequest> requests) {
+        Map<ShiftType, ShiftDefinition> definitions = new HashMap<>();
+        for (WishBookRequest request : requests) {
+            definitions.computeIfAbsent(request.shiftType(), shiftCatalogService::getDefinition);
+        }
+        var idsByName = employeeDirectory.resolveIds(requests.stream()
+                .map(WishBookRequest::employeeName)
+                .toList());
+        return transaction.execute(status -> writeWishBookEntries(requests, definitions, idsByName));
+    }
+
+    private WishBookBulkResponse writeWishBookEntries(List<WishBookRequest> requests,
+                                                      Map<ShiftType, ShiftDefinition> definitions,
+                                                      Map<String, Long> idsByName) {
+        var knownKeys = findExistingKeys(requests, idsByName.values());
+
+        var results = new ArrayList<WishBookBulkItemResult>(requests.size());
+        var newEntries = new ArrayList<WishBookEntry>(requests.size());
+        var newRows = new ArrayList<AvailabilityRow>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var employeeId = idsByName.get(request.employeeName());
+            var response = new WishBookEntryResponse(request.employeeName(), request.date(), request.shiftType());
+
+            if (!knownKeys.add(new WishBookKey(employeeId, request.date(), request.shiftType()))) {
+                results.add(WishBookBulkItemResult.duplicate(i, response));
+                continue;
+            }
+
+            newEntries.add(WishBookEntry.builder()
+                    .employee(employeeRepository.getReferenceById(employeeId))
+                    .date(request.date())
+                    .shiftDefinition(definitions.get(request.shiftType()))
+                    .build());
+            newRows.add(new AvailabilityRow(employeeId, request.employeeName(), request.date(), request.shiftType()));
+            results.add(WishBookBulkItemResult.created(i, response));
+        }
+
+        wishBookEntryRepository.saveAll(newEntries);
+        availabilityIndex.record(newRows);
+
+        return new WishBookBulkResponse(newEntries.size(), requests.size() - newEntries.size(), results);
     }
 
+    private Set<WishBookKey> findExistingKeys(List<WishBookRequest> requests, Collection<Long> employeeIds) {
+        Collection<LocalDate> dates = requests.stream()
+                .map(WishBookRequest::date)
+                .collect(Collectors.toSet());
+        Collection<ShiftType> shiftTypes = requests.stream()
+                .map(WishBookRequest::shiftType)
+                .collect(Collectors.toSet());
+
+        return new HashSet<>(wishBookEntryRepository.findKeys(Set.copyOf(employeeIds), dates, shiftTypes));
+    }
 }
@@ -0,0 +1,200 @@
+package com.prototype.staffplanner.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.WishBookImportEvent;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.WishBookImportFormat;
+import com.prototype.staffplanner.model.ShiftType;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Imports wish book entries from a CSV or NDJSON stream of any size.
+ * <p>
+ * The input is read one line at a time and written in batches of a fixed size, each through
+ * {@link WishBookEntryService#addWishBookEntries} in its own transaction, so memory use is bounded by the batch
+ * size rather than the file size, and a failure only loses the current batch. Reading and writing are both
+ * blocking: the client is only read from as fast as batches commit, which gives natural backpressure.
+ * <p>
+ * Lines that cannot be parsed or name a shift type that was never defined are reported and skipped; existing
+ * wishes are counted as duplicates. After every
+ * batch a progress event is emitted, and the final event is a summary with the throughput in rows per second.
+ */
+@Slf4j
+@Service
+public class WishBookImportService {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final WishBookEntryService wishBookEntryService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final OperationMetrics operationMetrics;
+    private final ShiftCatalogService shiftCatalogService;
+    private final int batchSize;
+
+    public WishBookImportService(WishBookEntryService wishBookEntryService,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 OperationMetrics operationMetrics,
+                                 ShiftCatalogService shiftCatalogService,
+                                 @Value("${staff-planner.wishbook-import.batch-size:1000}") int batchSize) {
+        this.wishBookEntryService = wishBookEntryService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.operationMetrics = operationMetrics;
+        this.shiftCatalogService = shiftCatalogService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads every line of {@code input} and imports the wish book entries it contains.
+     *
+     * @param input the file content; read to the end but not closed
+     * @param format how each line is encoded
+     * @param events receives the error, progress and summary events as they happen
+     * @return the summary, which is also the last event passed to {@code events}
+     * @throws IOException if reading the input fails; batches committed until then stay imported
+     */
+    public WishBookImportEvent importEntries(Reader input, WishBookImportFormat format,
+                                             Consumer<WishBookImportEvent> events) throws IOException {
+        var parser = new WishBookLineParser(format, objectMapper, validator);
+        var run = new ImportRun(events, System.nanoTime());
+        var reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input, 64 * 1024);
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                line = line.substring(1);
+            }
+            if (line.isBlank() || (lineNumber == 1 && parser.isHeader(line))) {
+                continue;
+            }
+
+            run.rows++;
+            try {
+                var request = parser.parse(line);
+                if (!run.definedShiftTypes.computeIfAbsent(request.shiftType(), shiftCatalogService::isDefined)) {
+                    throw new IllegalArgumentException("Unknown shift type '" + request.shiftType() + "'.");
+                }
+                run.add(request, lineNumber);
+            } catch (IllegalArgumentException ex) {
+                run.error(lineNumber, ex.getMessage());
+            }
+            if (run.batch.size() == batchSize) {
+                flush(run);
+            }
+        }
+        flush(run);
+
+        long elapsedNanos = System.nanoTime() - run.started;
+        long rowsPerSecond = elapsedNanos == 0 ? 0 : run.rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        var summary = WishBookImportEvent.summary(run.rows, run.created, run.duplicates, run.errors,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond);
+        log.info("Imported wish book entries: {} rows, {} created, {} duplicates, {} errors, {} rows/s",
+                run.rows, run.created, run.duplicates, run.errors, rowsPerSecond);
+        events.accept(summary);
+        return summary;
+    }
+
+    /**
+     * Writes the pending batch. A wish inserted concurrently by another request between the duplicate check and
+     * the insert fails the batch on the unique constraint; the batch is then retried once, which finds that wish
+     * as a duplicate. If the retry fails too, the lines of the batch are reported as not imported.
+     */
+    private void flush(ImportRun run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        var requests = List.copyOf(run.batch);
+        try {
+            record(run, requests);
+        } catch (DataIntegrityViolationException first) {
+            try {
+                record(run, requests);
+            } catch (DataIntegrityViolationException retry) {
+                long firstLine = run.batchLines[0];
+                long lastLine = run.batchLines[requests.size() - 1];
+                run.errors += requests.size();
+                operationMetrics.importedRows("error", requests.size());
+                run.report(WishBookImportEvent.error(firstLine, "Lines " + firstLine + " to " + lastLine
+                        + " were not imported: they conflicted with concurrent changes twice."));
+            }
+        }
+        run.batch.clear();
+        run.events.accept(WishBookImportEvent.progress(run.rows, run.created, run.duplicates, run.errors,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - run.started)));
+    }
+
+    private void record(ImportRun run, List<WishBookRequest> requests) {
+        var response = wishBookEntryService.addWishBookEntries(requests);
+        run.created += response.created();
+        run.duplicates += response.duplicates();
+        operationMetrics.importedRows("created", response.created());
+        operationMetrics.importedRows("duplicate", response.duplicates());
+    }
+
+    /**
+     * Counters and the pending batch of one import.
+     */
+    private final class ImportRun {
+
+        private final Consumer<WishBookImportEvent> events;
+        private final long started;
+        private final List<WishBookRequest> batch = new ArrayList<>(batchSize);
+        private final long[] batchLines = new long[batchSize];
+        private final Map<ShiftType, Boolean> definedShiftTypes = new HashMap<>();
+        private long rows;
+        private long created;
+        private long duplicates;
+        private long errors;
+        private long reportedErrors;
+
+        private ImportRun(Consumer<WishBookImportEvent> events, long started) {
+            this.events = events;
+            this.started = started;
+        }
+
+        private void add(WishBookRequest request, long lineNumber) {
+            batchLines[batch.size()] = lineNumber;
+            batch.add(request);
+        }
+
+        private void error(long lineNumber, String message) {
+            errors++;
+            operationMetrics.importedRows("error", 1);
+            report(WishBookImportEvent.error(lineNumber, message));
+        }
+
+        /**
+         * Passes an error on unless {@value #MAX_REPORTED_ERRORS} errors were reported already; later ones are
+         * only counted, so a file in the wrong format cannot produce a response larger than itself.
+         */
+        private void report(WishBookImportEvent error) {
+            reportedErrors++;
+            if (reportedErrors <= MAX_REPORTED_ERRORS) {
+                events.accept(error);
+            } else if (reportedErrors == MAX_REPORTED_ERRORS + 1) {
+                events.accept(WishBookImportEvent.error(null,
+                        "More than " + MAX_REPORTED_ERRORS + " errors; further errors are only counted."));
+            }
+        }
+    }
+}
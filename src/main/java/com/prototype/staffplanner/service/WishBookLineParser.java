@@ -0,0 +1,137 @@
+package com.prototype.staffplanner.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.WishBookImportFormat;
+import com.prototype.staffplanner.model.ShiftType;
+import jakarta.validation.Validator;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Turns one line of an import file into a {@link WishBookRequest}, validated with the same constraints as the
+ * JSON endpoints. A line that cannot be used is rejected with an {@link IllegalArgumentException} whose message
+ * is reported back to the client for that line.
+ */
+final class WishBookLineParser {
+
+    static final List<String> CSV_HEADER = List.of("employeeName", "date", "shiftType");
+
+    private final WishBookImportFormat format;
+    private final ObjectReader jsonReader;
+    private final Validator validator;
+
+    WishBookLineParser(WishBookImportFormat format, ObjectMapper objectMapper, Validator validator) {
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(WishBookRequest.class);
+        this.validator = validator;
+    }
+
+    /**
+     * Whether the line is the optional CSV header naming the columns.
+     */
+    boolean isHeader(String line) {
+        if (format != WishBookImportFormat.CSV) {
+            return false;
+        }
+        var fields = splitCsv(line);
+        return fields.size() == CSV_HEADER.size() && fields.getFirst().equalsIgnoreCase(CSV_HEADER.getFirst());
+    }
+
+    WishBookRequest parse(String line) {
+        var request = format == WishBookImportFormat.CSV ? parseCsv(line) : parseJson(line);
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        return request;
+    }
+
+    private WishBookRequest parseJson(String line) {
+        try {
+            return jsonReader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static WishBookRequest parseCsv(String line) {
+        var fields = splitCsv(line);
+        if (fields.size() != CSV_HEADER.size()) {
+            throw new IllegalArgumentException("Expected " + CSV_HEADER.size() + " fields (" + String.join(",", CSV_HEADER)
+                    + ") but found " + fields.size() + ".");
+        }
+        return new WishBookRequest(emptyToNull(fields.get(0)), parseDate(fields.get(1)), parseShiftType(fields.get(2)));
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid date '" + value + "', expected yyyy-MM-dd.");
+        }
+    }
+
+    private static ShiftType parseShiftType(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return ShiftType.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown shift type '" + value + "'.");
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits a CSV line into trimmed fields. Fields may be enclosed in double quotes, with {@code ""} standing
+     * for a quote inside them; quoted line breaks are not supported, since the file is read line by line.
+     */
+    static List<String> splitCsv(String line) {
+        var fields = new ArrayList<String>(CSV_HEADER.size());
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field.");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
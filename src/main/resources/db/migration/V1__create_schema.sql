@@ -0,0 +1,56 @@
+-- Initial schema, matching the JPA mappings in com.prototype.staffplanner.model.
+-- Sequences step by 50 to match the allocationSize of the entity id generators.
+
+create sequence employee_seq start with 1 increment by 50;
+create sequence wish_book_entries_seq start with 1 increment by 50;
+create sequence schedule_entries_seq start with 1 increment by 50;
+create sequence shift_definitions_seq start with 1 increment by 50;
+
+create table employee (
+    id       bigint       not null,
+    name     varchar(255) not null,
+    is_admin boolean      not null default false,
+    constraint pk_employee primary key (id),
+    constraint uk_employee_name unique (name)
+);
+
+-- Removing a shift only clears offered, so the definition stays in place for the entries that refer to it.
+create table shift_definitions (
+    id                 bigint      not null,
+    shift_type         varchar(32) not null,
+    start_time         time        not null,
+    end_time           time        not null,
+    required_headcount integer     not null,
+    offered            boolean     not null default true,
+    constraint pk_shift_definitions primary key (id),
+    constraint uk_shift_definitions_shift_type unique (shift_type)
+);
+
+create table wish_book_entries (
+    id                  bigint not null,
+    employee_id         bigint not null,
+    date                date   not null,
+    shift_definition_id bigint not null,
+    constraint pk_wish_book_entries primary key (id),
+    constraint uk_wish_book_entries_employee_date_shift unique (employee_id, date, shift_definition_id),
+    constraint fk_wish_book_entries_employee foreign key (employee_id) references employee (id),
+    constraint fk_wish_book_entries_shift_definition
+        foreign key (shift_definition_id) references shift_definitions (id)
+);
+
+create table schedule_entries (
+    id                  bigint not null,
+    employee_id         bigint not null,
+    date                date   not null,
+    shift_definition_id bigint not null,
+    constraint pk_schedule_entries primary key (id),
+    constraint uk_schedule_entries_employee_date unique (employee_id, date),
+    constraint fk_schedule_entries_employee foreign key (employee_id) references employee (id),
+    constraint fk_schedule_entries_shift_definition
+        foreign key (shift_definition_id) references shift_definitions (id)
+);
+
+-- Planning and schedule views look entries up by date (findByDate, findByDateBetween, findByDateIn,
+-- deleteByDate). Per-employee range lookups use the unique indexes above, which lead with employee_id.
+create index idx_wish_book_entries_date on wish_book_entries (date);
+create index idx_schedule_entries_date on schedule_entries (date);
@@ -0,0 +1,11 @@
+-- The shifts every store starts with, matching ShiftCatalog.defaults(): an early and a late shift, staffed by two
+-- employees each. Seeding them here rather than at application startup means they exist before the first request
+-- is served, and instances that start together cannot race on the insert. A store that already has definitions
+-- keeps them.
+insert into shift_definitions (id, shift_type, start_time, end_time, required_headcount, offered)
+select next value for shift_definitions_seq, defaults.shift_type, defaults.start_time, defaults.end_time,
+       defaults.required_headcount, true
+from (values ('EARLY_SHIFT', time '07:00:00', time '15:30:00', 2),
+             ('LATE_SHIFT', time '11:30:00', time '20:00:00', 2))
+         as defaults (shift_type, start_time, end_time, required_headcount)
+where not exists (select 1 from shift_definitions);
@@ -0,0 +1,88 @@
+package com.prototype.staffplanner.controller;
+
+import com.prototype.staffplanner.dto.AvailabilityResponse;
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.AvailabilityIndex;
+import com.prototype.staffplanner.service.AvailabilityIndexUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AvailabilityController.class)
+class AvailabilityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AvailabilityIndex availabilityIndex;
+
+    @Test
+    void findAvailable_DefaultMatch_UsesAll() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 30);
+        when(availabilityIndex.findAvailable(from, to, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL))
+                .thenReturn(new AvailabilityResponse(from, to, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL, 1,
+                        List.of(new EmployeeRef(1L, "John Doe"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/availability")
+                        .param("from", "2025-06-01")
+                        .param("to", "2025-06-30")
+                        .param("shiftType", "LATE_SHIFT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.employees[0].name").value("John Doe"));
+    }
+
+    @Test
+    void findAvailable_MatchAny_PassesMatchToIndex() throws Exception {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 6, 1);
+        when(availabilityIndex.findAvailable(date, date, ShiftType.EARLY_SHIFT, AvailabilityMatch.ANY))
+                .thenReturn(new AvailabilityResponse(date, date, ShiftType.EARLY_SHIFT, AvailabilityMatch.ANY, 0, List.of()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/availability")
+                        .param("from", "2025-06-01")
+                        .param("to", "2025-06-01")
+                        .param("shiftType", "EARLY_SHIFT")
+                        .param("match", "ANY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.match").value("ANY"))
+                .andExpect(jsonPath("$.count").value(0));
+    }
+
+    @Test
+    void findAvailable_IndexNotBuiltYet_ReturnsServiceUnavailableWithRetryAfter() throws Exception {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 6, 1);
+        when(availabilityIndex.findAvailable(date, date, ShiftType.EARLY_SHIFT, AvailabilityMatch.ALL))
+                .thenThrow(new AvailabilityIndexUnavailableException("The availability index is still being built",
+                        Duration.ofSeconds(5)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/availability")
+                        .param("from", "2025-06-01")
+                        .param("to", "2025-06-01")
+                        .param("shiftType", "EARLY_SHIFT"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.title").value("Availability Index Not Ready"));
+    }
+}
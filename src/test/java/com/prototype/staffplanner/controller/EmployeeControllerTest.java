@@ -0,0 +1,82 @@
+package com.prototype.staffplanner.controller;
+
+import com.prototype.staffplanner.dto.EmployeeScheduleResponse;
+import com.prototype.staffplanner.dto.EmployeeWishesResponse;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.EmployeeService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeController.class)
+class EmployeeControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 6, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeService employeeService;
+
+    @Test
+    void getSchedule_KnownEmployee_ReturnsShifts() throws Exception {
+        // Arrange
+        when(employeeService.getSchedule(1L, FROM, TO)).thenReturn(new EmployeeScheduleResponse(1L, "John Doe", FROM, TO,
+                List.of(new EmployeeScheduleResponse.Shift(FROM, ShiftType.EARLY_SHIFT, "07:00 - 15:30"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/1/schedule").param("from", "2025-06-01").param("to", "2025-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeName").value("John Doe"))
+                .andExpect(jsonPath("$.shifts[0].date").value("2025-06-01"))
+                .andExpect(jsonPath("$.shifts[0].timeRange").value("07:00 - 15:30"));
+    }
+
+    @Test
+    void getSchedule_UnknownEmployee_ReturnsNotFound() throws Exception {
+        // Arrange
+        when(employeeService.getSchedule(99L, FROM, TO)).thenThrow(new EntityNotFoundException("Employee 99 does not exist."));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/99/schedule").param("from", "2025-06-01").param("to", "2025-06-30"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Employee 99 does not exist."));
+    }
+
+    @Test
+    void getWishes_KnownEmployee_ReturnsWishes() throws Exception {
+        // Arrange
+        when(employeeService.getWishes(1L, FROM, TO)).thenReturn(new EmployeeWishesResponse(1L, "John Doe", FROM, TO,
+                List.of(new EmployeeWishesResponse.Wish(7L, FROM, ShiftType.LATE_SHIFT))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/1/wishes").param("from", "2025-06-01").param("to", "2025-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wishes[0].wishBookEntryId").value(7))
+                .andExpect(jsonPath("$.wishes[0].shiftType").value("LATE_SHIFT"));
+    }
+
+    @Test
+    void getWishes_ReversedRange_ReturnsBadRequest() throws Exception {
+        // Arrange
+        when(employeeService.getWishes(1L, TO, FROM))
+                .thenThrow(new IllegalArgumentException("The end date must not be before the start date."));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/1/wishes").param("from", "2025-06-30").param("to", "2025-06-01"))
+                .andExpect(status().isBadRequest());
+    }
+}
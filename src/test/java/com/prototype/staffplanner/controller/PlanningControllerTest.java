@@ -1,10 +1,20 @@
 package com.prototype.staffplanner.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.FairPlanResponse;
+import com.prototype.staffplanner.dto.FairPlanningRequest;
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.HorizonPlanningRequest;
+import com.prototype.staffplanner.dto.PlanResponse;
+import com.prototype.staffplanner.dto.PlanSimulationRequest;
+import com.prototype.staffplanner.dto.PlanSimulationResponse;
 import com.prototype.staffplanner.dto.PlanningRequest;
-import com.prototype.staffplanner.enums.ShiftType;
-import com.prototype.staffplanner.model.Employee;
-import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.FairPlanningService;
+import com.prototype.staffplanner.service.PlanRule;
+import com.prototype.staffplanner.service.PlanValidationException;
+import com.prototype.staffplanner.service.PlanValidationReport;
+import com.prototype.staffplanner.service.PlanViolation;
 import com.prototype.staffplanner.service.PlanningService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,9 +24,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -33,43 +45,42 @@ class PlanningControllerTest {
     @MockitoBean
     private PlanningService planningService;
 
+    @MockitoBean
+    private FairPlanningService fairPlanningService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private PlanningRequest validRequest;
-    private List<ScheduleEntry> expectedSchedule;
+    private PlanResponse expectedPlan;
 
     @BeforeEach
     void setUp() {
         validRequest = new PlanningRequest(LocalDate.of(2025, 6, 15), Arrays.asList(1L, 2L, 3L, 4L));
 
-        Employee emp1 = Employee.builder().id(1L).name("John Doe").build();
-        Employee emp2 = Employee.builder().id(2L).name("Jane Smith").build();
-        Employee emp3 = Employee.builder().id(3L).name("Bob Johnson").build();
-        Employee emp4 = Employee.builder().id(4L).name("Alice Wilson").build();
-
-        expectedSchedule = Arrays.asList(
-                ScheduleEntry.builder().id(1L).employee(emp1).date(LocalDate.of(2025, 6, 15)).shiftType(ShiftType.EARLY_SHIFT).build(),
-                ScheduleEntry.builder().id(2L).employee(emp2).date(LocalDate.of(2025, 6, 15)).shiftType(ShiftType.EARLY_SHIFT).build(),
-                ScheduleEntry.builder().id(3L).employee(emp3).date(LocalDate.of(2025, 6, 15)).shiftType(ShiftType.LATE_SHIFT).build(),
-                ScheduleEntry.builder().id(4L).employee(emp4).date(LocalDate.of(2025, 6, 15)).shiftType(ShiftType.LATE_SHIFT).build()
-        );
+        expectedPlan = new PlanResponse(LocalDate.of(2025, 6, 15), Arrays.asList(
+                new PlanResponse.Assignment(1L, 1L, "John Doe", ShiftType.EARLY_SHIFT),
+                new PlanResponse.Assignment(2L, 2L, "Jane Smith", ShiftType.EARLY_SHIFT),
+                new PlanResponse.Assignment(3L, 3L, "Bob Johnson", ShiftType.LATE_SHIFT),
+                new PlanResponse.Assignment(4L, 4L, "Alice Wilson", ShiftType.LATE_SHIFT)
+        ));
     }
 
     @Test
     void createPlan_ValidRequest_ReturnsOk() throws Exception {
         // Arrange
-        when(planningService.createPlan(any(PlanningRequest.class))).thenReturn(expectedSchedule);
+        when(planningService.createPlan(any(PlanningRequest.class))).thenReturn(expectedPlan);
 
         // Act & Assert
         mockMvc.perform(post("/api/planning/create")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(4))
-                .andExpect(jsonPath("$[0].employee.name").value("John Doe"))
-                .andExpect(jsonPath("$[0].shiftType").value("EARLY_SHIFT"));
+                .andExpect(jsonPath("$.date").value("2025-06-15"))
+                .andExpect(jsonPath("$.assignments.length()").value(4))
+                .andExpect(jsonPath("$.assignments[0].employeeName").value("John Doe"))
+                .andExpect(jsonPath("$.assignments[0].shiftType").value("EARLY_SHIFT"))
+                .andExpect(jsonPath("$.assignments[0].employee").doesNotExist());
     }
 
     @Test
@@ -133,4 +144,138 @@ class PlanningControllerTest {
                         .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void createAutoPlan_ValidDate_ReturnsOk() throws Exception {
+        // Arrange
+        when(planningService.createAutoPlan(LocalDate.of(2025, 6, 15))).thenReturn(expectedPlan);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/auto/2025-06-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments.length()").value(4))
+                .andExpect(jsonPath("$.assignments[2].shiftType").value("LATE_SHIFT"));
+    }
+
+    @Test
+    void createAutoPlan_NotEnoughWishes_ReturnsBadRequest() throws Exception {
+        // Arrange
+        when(planningService.createAutoPlan(any(LocalDate.class)))
+                .thenThrow(new IllegalArgumentException("Not enough available employees to staff every shift type"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/auto/2025-06-15"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createPlan_BrokenRules_ReturnsEveryViolation() throws Exception {
+        // Arrange
+        when(planningService.createPlan(any(PlanningRequest.class))).thenThrow(new PlanValidationException(
+                new PlanValidationReport(List.of(
+                        new PlanViolation(PlanRule.SAME_DATE, "All wish book entries must have the same date."),
+                        new PlanViolation(PlanRule.SHIFT_HEADCOUNT, "Exactly 2 employees are required for each shift type: LATE_SHIFT")))));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.violations.length()").value(2))
+                .andExpect(jsonPath("$.violations[0].rule").value("SAME_DATE"))
+                .andExpect(jsonPath("$.violations[1].rule").value("SHIFT_HEADCOUNT"));
+    }
+
+    @Test
+    void createHorizonPlan_ValidRange_ReturnsPerDayResults() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 6, 15);
+        LocalDate to = LocalDate.of(2025, 6, 16);
+        HorizonPlanResponse response = new HorizonPlanResponse(from, to, 1, 1, 3, List.of(
+                new HorizonPlanResponse.DayResult(from, HorizonPlanResponse.Status.PLANNED, 4, 120, null, null),
+                new HorizonPlanResponse.DayResult(to, HorizonPlanResponse.Status.FAILED, 0, 80, "Not enough available employees", null)
+        ));
+        when(planningService.createHorizonPlan(from, to)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/horizon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HorizonPlanningRequest(from, to))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedDays").value(1))
+                .andExpect(jsonPath("$.failedDays").value(1))
+                .andExpect(jsonPath("$.days[0].status").value("PLANNED"))
+                .andExpect(jsonPath("$.days[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.days[1].solveMicros").value(80));
+    }
+
+    @Test
+    void createHorizonPlan_MissingEndDate_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/horizon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HorizonPlanningRequest(LocalDate.of(2025, 6, 15), null))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createFairPlan_WithBudget_ReturnsScoreAndLoads() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = LocalDate.of(2025, 7, 2);
+        FairPlanResponse response = new FairPlanResponse(from, to, 2, 0,
+                new FairPlanResponse.Score(40, 52, 1, 2, 1), 4, 120_000, 250,
+                List.of(new HorizonPlanResponse.DayResult(from, HorizonPlanResponse.Status.PLANNED, 4, 0, null, null),
+                        new HorizonPlanResponse.DayResult(to, HorizonPlanResponse.Status.PLANNED, 4, 0, null, null)),
+                List.of(new FairPlanResponse.EmployeeLoad(1L, "Alice", 2, Map.of(ShiftType.EARLY_SHIFT, 1, ShiftType.LATE_SHIFT, 1))));
+        when(fairPlanningService.createFairPlan(from, to, Duration.ofMillis(250))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/fair")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new FairPlanningRequest(from, to, 250L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedDays").value(2))
+                .andExpect(jsonPath("$.score.value").value(40))
+                .andExpect(jsonPath("$.score.maxDays").value(2))
+                .andExpect(jsonPath("$.employees[0].shifts.EARLY_SHIFT").value(1));
+    }
+
+    @Test
+    void createFairPlan_BudgetTooLarge_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/fair")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new FairPlanningRequest(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 2), 60_000L))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void simulatePlan_InvalidSelection_ReturnsOkWithViolations() throws Exception {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 6, 15);
+        PlanSimulationRequest request = new PlanSimulationRequest(date, List.of(1L, 2L));
+        when(planningService.simulatePlan(request)).thenReturn(new PlanSimulationResponse(date, false,
+                List.of(new PlanViolation(PlanRule.SHIFT_HEADCOUNT, "LATE_SHIFT needs 2 employees")),
+                List.of(new PlanResponse.Assignment(null, 1L, "John Doe", ShiftType.EARLY_SHIFT)), null));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid").value(false))
+                .andExpect(jsonPath("$.violations[0].rule").value("SHIFT_HEADCOUNT"))
+                .andExpect(jsonPath("$.assignments[0].employeeName").value("John Doe"));
+    }
+
+    @Test
+    void simulatePlan_MissingDate_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PlanSimulationRequest(null, List.of(1L)))))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+package com.prototype.staffplanner.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.HorizonPlanningRequest;
+import com.prototype.staffplanner.dto.PlanningJobResponse;
+import com.prototype.staffplanner.enums.PlanningJobStatus;
+import com.prototype.staffplanner.service.PlanningJobRejectedException;
+import com.prototype.staffplanner.service.PlanningJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PlanningJobController.class)
+class PlanningJobControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 6, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private PlanningJobService planningJobService;
+
+    @Test
+    void submitHorizonPlan_Queued_ReturnsAcceptedWithLocation() throws Exception {
+        // Arrange
+        var job = job(PlanningJobStatus.QUEUED);
+        when(planningJobService.submitHorizonPlan(FROM, TO)).thenReturn(job);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/jobs/horizon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HorizonPlanningRequest(FROM, TO))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/api/planning/jobs/" + job.id()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void submitHorizonPlan_QueueFull_ReturnsTooManyRequests() throws Exception {
+        // Arrange
+        when(planningJobService.submitHorizonPlan(FROM, TO))
+                .thenThrow(new PlanningJobRejectedException("The planning queue is full", Duration.ofSeconds(5)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/planning/jobs/horizon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HorizonPlanningRequest(FROM, TO))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(jsonPath("$.title").value("Planning Queue Full"));
+    }
+
+    @Test
+    void getJob_UnknownId_ReturnsNotFound() throws Exception {
+        // Arrange
+        var id = UUID.randomUUID();
+        when(planningJobService.getJob(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/planning/jobs/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getResult_StillRunning_ReturnsConflictWithStatus() throws Exception {
+        // Arrange
+        var job = job(PlanningJobStatus.RUNNING);
+        when(planningJobService.getResult(job.id())).thenReturn(Optional.empty());
+        when(planningJobService.getJob(job.id())).thenReturn(Optional.of(job));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/planning/jobs/{id}/result", job.id()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.progressPercent").value(40));
+    }
+
+    @Test
+    void cancel_RunningJob_ReturnsAccepted() throws Exception {
+        // Arrange
+        var job = job(PlanningJobStatus.RUNNING);
+        when(planningJobService.cancel(job.id())).thenReturn(Optional.of(job));
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/planning/jobs/{id}", job.id()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(job.id().toString()));
+    }
+
+    private static PlanningJobResponse job(PlanningJobStatus status) {
+        return new PlanningJobResponse(UUID.randomUUID(), status, FROM, TO, 30, 12, 40, false,
+                Instant.parse("2025-05-01T08:00:00Z"), null, null, null);
+    }
+}
@@ -1,7 +1,8 @@
 package com.prototype.staffplanner.controller;
 
 import com.prototype.staffplanner.dto.ScheduleResponse;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.ScheduleExportService;
 import com.prototype.staffplanner.service.ScheduleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,12 +11,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.Writer;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -30,6 +35,9 @@ class ScheduleControllerTest {
     @MockitoBean
     private ScheduleService scheduleService;
 
+    @MockitoBean
+    private ScheduleExportService scheduleExportService;
+
     private ScheduleResponse expectedResponse;
 
     @BeforeEach
@@ -37,9 +45,9 @@ class ScheduleControllerTest {
         LocalDate testDate = LocalDate.of(2025, 6, 15);
 
         ScheduleResponse.ShiftInfo earlyShift = new ScheduleResponse.ShiftInfo(
-                ShiftType.EARLY_SHIFT, Arrays.asList("John Doe", "Jane Smith"));
+                ShiftType.EARLY_SHIFT, "07:00 - 15:30", Arrays.asList("John Doe", "Jane Smith"));
         ScheduleResponse.ShiftInfo lateShift = new ScheduleResponse.ShiftInfo(
-                ShiftType.LATE_SHIFT, Arrays.asList("Bob Johnson", "Alice Wilson"));
+                ShiftType.LATE_SHIFT, "11:30 - 20:00", Arrays.asList("Bob Johnson", "Alice Wilson"));
 
         expectedResponse = new ScheduleResponse(testDate, Arrays.asList(earlyShift, lateShift));
     }
@@ -67,8 +75,10 @@ class ScheduleControllerTest {
     void getSchedule_EmptySchedule_ReturnsEmptyShifts() throws Exception {
         // Arrange
         LocalDate testDate = LocalDate.of(2025, 6, 16);
-        ScheduleResponse.ShiftInfo emptyEarlyShift = new ScheduleResponse.ShiftInfo(ShiftType.EARLY_SHIFT, List.of());
-        ScheduleResponse.ShiftInfo emptyLateShift = new ScheduleResponse.ShiftInfo(ShiftType.LATE_SHIFT, List.of());
+        ScheduleResponse.ShiftInfo emptyEarlyShift = new ScheduleResponse.ShiftInfo(
+                ShiftType.EARLY_SHIFT, "07:00 - 15:30", List.of());
+        ScheduleResponse.ShiftInfo emptyLateShift = new ScheduleResponse.ShiftInfo(
+                ShiftType.LATE_SHIFT, "11:30 - 20:00", List.of());
         ScheduleResponse emptyResponse = new ScheduleResponse(testDate, Arrays.asList(emptyEarlyShift, emptyLateShift));
 
         when(scheduleService.getScheduleForDate(any(LocalDate.class))).thenReturn(emptyResponse);
@@ -94,8 +104,10 @@ class ScheduleControllerTest {
     void getSchedule_FutureDate_ReturnsSchedule() throws Exception {
         // Arrange
         LocalDate futureDate = LocalDate.of(2025, 12, 25);
-        ScheduleResponse.ShiftInfo earlyShift = new ScheduleResponse.ShiftInfo(ShiftType.EARLY_SHIFT, List.of("Employee1"));
-        ScheduleResponse.ShiftInfo lateShift = new ScheduleResponse.ShiftInfo(ShiftType.LATE_SHIFT, List.of("Employee2"));
+        ScheduleResponse.ShiftInfo earlyShift = new ScheduleResponse.ShiftInfo(
+                ShiftType.EARLY_SHIFT, "07:00 - 15:30", List.of("Employee1"));
+        ScheduleResponse.ShiftInfo lateShift = new ScheduleResponse.ShiftInfo(
+                ShiftType.LATE_SHIFT, "11:30 - 20:00", List.of("Employee2"));
         ScheduleResponse futureResponse = new ScheduleResponse(futureDate, Arrays.asList(earlyShift, lateShift));
 
         when(scheduleService.getScheduleForDate(any(LocalDate.class))).thenReturn(futureResponse);
@@ -105,4 +117,83 @@ class ScheduleControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.date").value("2025-12-25"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getScheduleRange_ValidRange_ReturnsOneSchedulePerDate() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 6, 15);
+        LocalDate to = LocalDate.of(2025, 6, 16);
+        ScheduleResponse nextDay = new ScheduleResponse(to, List.of(
+                new ScheduleResponse.ShiftInfo(ShiftType.EARLY_SHIFT, "07:00 - 15:30", List.of()),
+                new ScheduleResponse.ShiftInfo(ShiftType.LATE_SHIFT, "11:30 - 20:00", List.of())));
+        when(scheduleService.getScheduleForRange(from, to)).thenReturn(List.of(expectedResponse, nextDay));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/schedule").param("from", "2025-06-15").param("to", "2025-06-16"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].date").value("2025-06-15"))
+                .andExpect(jsonPath("$[0].shifts[0].employeeNames[0]").value("John Doe"))
+                .andExpect(jsonPath("$[1].date").value("2025-06-16"))
+                .andExpect(jsonPath("$[1].shifts[1].employeeNames").isEmpty());
+    }
+
+    @Test
+    void getScheduleRange_ReversedRange_ReturnsBadRequest() throws Exception {
+        // Arrange
+        when(scheduleService.getScheduleForRange(any(LocalDate.class), any(LocalDate.class)))
+                .thenThrow(new IllegalArgumentException("The end date must not be before the start date."));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/schedule").param("from", "2025-06-16").param("to", "2025-06-15"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportCsv_ValidRange_StreamsCsvAttachment() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 6, 15);
+        LocalDate to = LocalDate.of(2025, 6, 16);
+        when(scheduleExportService.exportCsv(eq(from), eq(to), any(Writer.class))).thenAnswer(invocation -> {
+            invocation.getArgument(2, Writer.class).write("date,employeeId,employeeName,shiftType,startTime,endTime\n");
+            return 0L;
+        });
+
+        // Act & Assert
+        mockMvc.perform(get("/api/schedule/export.csv").param("from", "2025-06-15").param("to", "2025-06-16"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"schedule-2025-06-15-2025-06-16.csv\""))
+                .andExpect(content().string("date,employeeId,employeeName,shiftType,startTime,endTime\n"));
+    }
+
+    @Test
+    void exportCsv_ReversedRange_ReturnsBadRequest() throws Exception {
+        // Arrange
+        when(scheduleExportService.exportCsv(any(LocalDate.class), any(LocalDate.class), any(Writer.class)))
+                .thenThrow(new IllegalArgumentException("The end date must not be before the start date."));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/schedule/export.csv").param("from", "2025-06-16").param("to", "2025-06-15"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("The end date must not be before the start date."));
+    }
+
+    @Test
+    void exportCalendar_KnownEmployee_StreamsCalendar() throws Exception {
+        // Arrange
+        when(scheduleExportService.exportCalendar(eq(7L), any(LocalDate.class), any(LocalDate.class), any(Writer.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, Writer.class).write("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n");
+                    return 0L;
+                });
+
+        // Act & Assert
+        mockMvc.perform(get("/api/schedule/export/employees/7.ics").param("from", "2025-06-15").param("to", "2025-06-16"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"shifts-7.ics\""))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.prototype.staffplanner.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.ShiftDefinitionRequest;
+import com.prototype.staffplanner.dto.ShiftDefinitionResponse;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.ShiftCatalogService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ShiftController.class)
+class ShiftControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ShiftCatalogService shiftCatalogService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void getShifts_ReturnsOfferedShifts() throws Exception {
+        // Arrange
+        when(shiftCatalogService.getShifts()).thenReturn(List.of(new ShiftDefinitionResponse(ShiftType.EARLY_SHIFT,
+                LocalTime.of(7, 0), LocalTime.of(15, 30), "07:00 - 15:30", 2)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/shifts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].shiftType").value("EARLY_SHIFT"))
+                .andExpect(jsonPath("$[0].timeRange").value("07:00 - 15:30"))
+                .andExpect(jsonPath("$[0].requiredHeadcount").value(2));
+    }
+
+    @Test
+    void defineShift_ValidRequest_ReturnsDefinition() throws Exception {
+        // Arrange
+        var request = new ShiftDefinitionRequest(LocalTime.of(6, 0), LocalTime.of(14, 0), 3);
+        when(shiftCatalogService.defineShift(eq(ShiftType.EARLY_SHIFT), any(ShiftDefinitionRequest.class)))
+                .thenReturn(new ShiftDefinitionResponse(ShiftType.EARLY_SHIFT, LocalTime.of(6, 0), LocalTime.of(14, 0),
+                        "06:00 - 14:00", 3));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/shifts/EARLY_SHIFT")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.timeRange").value("06:00 - 14:00"))
+                .andExpect(jsonPath("$.requiredHeadcount").value(3));
+    }
+
+    @Test
+    void defineShift_ZeroHeadcount_ReturnsBadRequest() throws Exception {
+        // Arrange
+        var request = new ShiftDefinitionRequest(LocalTime.of(6, 0), LocalTime.of(14, 0), 0);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/shifts/EARLY_SHIFT")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void removeShift_ReturnsNoContent() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/shifts/LATE_SHIFT"))
+                .andExpect(status().isNoContent());
+        verify(shiftCatalogService).removeShift(ShiftType.LATE_SHIFT);
+    }
+
+    @Test
+    void removeShift_NotOffered_ReturnsNotFound() throws Exception {
+        // Arrange
+        doThrow(new EntityNotFoundException("Shift type NIGHT_SHIFT is not offered."))
+                .when(shiftCatalogService).removeShift(ShiftType.valueOf("NIGHT_SHIFT"));
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/shifts/NIGHT_SHIFT"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Shift type NIGHT_SHIFT is not offered."));
+    }
+}
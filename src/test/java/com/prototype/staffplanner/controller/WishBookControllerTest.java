@@ -1,10 +1,16 @@
 package com.prototype.staffplanner.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.WishBookBulkItemResult;
+import com.prototype.staffplanner.dto.WishBookBulkRequest;
+import com.prototype.staffplanner.dto.WishBookBulkResponse;
 import com.prototype.staffplanner.dto.WishBookEntryResponse;
+import com.prototype.staffplanner.dto.WishBookImportEvent;
 import com.prototype.staffplanner.dto.WishBookRequest;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.enums.WishBookImportFormat;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.service.WishBookEntryService;
+import com.prototype.staffplanner.service.WishBookImportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,10 +20,14 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +40,9 @@ class WishBookControllerTest {
     @MockitoBean
     private WishBookEntryService wishBookEntryService;
 
+    @MockitoBean
+    private WishBookImportService wishBookImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -122,4 +135,86 @@ class WishBookControllerTest {
                         .content(objectMapper.writeValueAsString(validRequest)))
                 .andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void addWishBookEntries_ValidRequest_ReturnsPerItemResults() throws Exception {
+        // Arrange
+        WishBookBulkResponse bulkResponse = new WishBookBulkResponse(1, 1, List.of(
+                WishBookBulkItemResult.created(0, expectedResponse),
+                WishBookBulkItemResult.duplicate(1, expectedResponse)
+        ));
+        when(wishBookEntryService.addWishBookEntries(any())).thenReturn(bulkResponse);
+
+        WishBookBulkRequest bulkRequest = new WishBookBulkRequest(List.of(validRequest, validRequest));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.results[1].entry.employeeName").value("John Doe"));
+    }
+
+    @Test
+    void addWishBookEntries_EmptyEntries_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WishBookBulkRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void addWishBookEntries_InvalidItem_ReturnsBadRequest() throws Exception {
+        // Arrange - second item has no shift type
+        WishBookRequest invalidRequest = new WishBookRequest("Jane Smith", LocalDate.of(2025, 6, 15), null);
+        WishBookBulkRequest bulkRequest = new WishBookBulkRequest(List.of(validRequest, invalidRequest));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors['entries[1].shiftType']").exists());
+    }
+
+    @Test
+    void importEntries_Csv_StreamsEventsAsNdjson() throws Exception {
+        // Arrange
+        String csv = "employeeName,date,shiftType\nJohn Doe,2025-06-15,EARLY_SHIFT\nBob,yesterday,LATE_SHIFT\n";
+        when(wishBookImportService.importEntries(any(), eq(WishBookImportFormat.CSV), any())).thenAnswer(invocation -> {
+            Consumer<WishBookImportEvent> events = invocation.getArgument(2);
+            var summary = WishBookImportEvent.summary(2, 1, 0, 1, 5, 400);
+            events.accept(WishBookImportEvent.error(3L, "Invalid date 'yesterday', expected yyyy-MM-dd."));
+            events.accept(WishBookImportEvent.progress(2, 1, 0, 1, 4));
+            events.accept(summary);
+            return summary;
+        });
+
+        // Act & Assert
+        mockMvc.perform(post("/api/wishbook/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                        {"type":"ERROR","line":3,"message":"Invalid date 'yesterday', expected yyyy-MM-dd."}
+                        {"type":"PROGRESS","rows":2,"created":1,"duplicates":0,"errors":1,"elapsedMillis":4}
+                        {"type":"SUMMARY","rows":2,"created":1,"duplicates":0,"errors":1,"elapsedMillis":5,"rowsPerSecond":400}
+                        """));
+    }
+
+    @Test
+    void importEntries_UnsupportedContentType_ReturnsUnsupportedMediaType() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/wishbook/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<wishes/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
@@ -0,0 +1,70 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.AvailabilityIndex;
+import com.prototype.staffplanner.service.WishBookEntryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AvailabilityIndexIntegrationTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 11, 3);
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private WishBookEntryService wishBookEntryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void addWishes_IndexedIncrementallyAndRebuiltFromDatabase() {
+        // Arrange
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", FIRST_DATE, ShiftType.LATE_SHIFT),
+                new WishBookRequest("John Doe", FIRST_DATE.plusDays(1), ShiftType.LATE_SHIFT),
+                new WishBookRequest("Jane Smith", FIRST_DATE, ShiftType.LATE_SHIFT)
+        ));
+        wishBookEntryService.addWishBookEntry(new WishBookRequest("Jane Smith", FIRST_DATE.plusDays(1), ShiftType.EARLY_SHIFT));
+
+        // Act
+        var incremental = availabilityIndex.findAvailable(FIRST_DATE, FIRST_DATE.plusDays(1), ShiftType.LATE_SHIFT, AvailabilityMatch.ALL);
+        availabilityIndex.rebuild();
+        var rebuilt = availabilityIndex.findAvailable(FIRST_DATE, FIRST_DATE.plusDays(1), ShiftType.LATE_SHIFT, AvailabilityMatch.ALL);
+
+        // Assert
+        assertEquals(List.of("John Doe"), incremental.employees().stream().map(EmployeeRef::name).toList());
+        assertEquals(incremental.employees(), rebuilt.employees());
+        assertEquals(2, availabilityIndex.findAvailable(FIRST_DATE, FIRST_DATE.plusDays(1), ShiftType.LATE_SHIFT,
+                AvailabilityMatch.ANY).count());
+    }
+
+    @Test
+    void addWishes_RolledBack_NotIndexed() {
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            wishBookEntryService.addWishBookEntries(List.of(new WishBookRequest("John Doe", FIRST_DATE, ShiftType.EARLY_SHIFT)));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(0, availabilityIndex.findAvailable(FIRST_DATE, FIRST_DATE, ShiftType.EARLY_SHIFT, AvailabilityMatch.ANY).count());
+    }
+}
@@ -0,0 +1,110 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.dto.PlanningRequest;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import com.prototype.staffplanner.service.PlanningService;
+import com.prototype.staffplanner.service.WishBookEntryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConcurrentPlanningIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 25;
+    private static final int EMPLOYEES = 6;
+
+    @Autowired
+    private PlanningService planningService;
+
+    @Autowired
+    private WishBookEntryService wishBookEntryService;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Test
+    void createPlan_SameDateInParallel_NoConflictsOrRetries() throws Exception {
+        // Arrange - six employees wish both shifts; every call plans a different valid selection of them
+        LocalDate date = LocalDate.of(2025, 10, 1);
+        LocalDate otherDate = date.plusDays(1);
+        long[][] early = new long[2][EMPLOYEES];
+        long[][] late = new long[2][EMPLOYEES];
+        for (int employee = 0; employee < EMPLOYEES; employee++) {
+            for (int day = 0; day < 2; day++) {
+                for (ShiftType shiftType : List.of(ShiftType.EARLY_SHIFT, ShiftType.LATE_SHIFT)) {
+                    wishBookEntryService.addWishBookEntry(
+                            new WishBookRequest("Employee " + employee, date.plusDays(day), shiftType));
+                }
+            }
+        }
+        for (int day = 0; day < 2; day++) {
+            for (WishBookEntry wish : wishBookEntryRepository.findByDate(date.plusDays(day))) {
+                int employee = Integer.parseInt(wish.getEmployee().getName().substring("Employee ".length()));
+                (wish.getShiftType().equals(ShiftType.EARLY_SHIFT) ? early : late)[day][employee] = wish.getId();
+            }
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            // Act - half the threads plan one date, half the other, all at once
+            List<Future<?>> calls = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                int day = thread % 2;
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        int k = offset + round;
+                        var ids = List.of(
+                                early[day][k % EMPLOYEES], early[day][(k + 1) % EMPLOYEES],
+                                late[day][(k + 2) % EMPLOYEES], late[day][(k + 3) % EMPLOYEES]);
+                        try {
+                            planningService.createPlan(new PlanningRequest(date.plusDays(day), ids));
+                        } catch (RuntimeException ex) {
+                            failures.add(ex);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> call : calls) {
+                call.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(List.of(), List.copyOf(failures));
+        assertEquals(4, scheduleEntryRepository.findByDate(date).size());
+        assertEquals(4, scheduleEntryRepository.findByDate(otherDate).size());
+    }
+}
@@ -0,0 +1,165 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import com.prototype.staffplanner.service.WishBookEntryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConcurrentWishBookIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int NEW_EMPLOYEES = 25;
+
+    @Autowired
+    private WishBookEntryService wishBookEntryService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void addWishBookEntry_SameNewNamesInParallel_NoConflicts() throws Exception {
+        // Every thread sends a wish for every new employee at the same moment, each on its own date
+        LocalDate firstDate = LocalDate.of(2025, 9, 1);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                LocalDate date = firstDate.plusDays(thread);
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    for (int employee = 0; employee < NEW_EMPLOYEES; employee++) {
+                        wishBookEntryService.addWishBookEntry(
+                                new WishBookRequest("Employee " + employee, date, ShiftType.EARLY_SHIFT));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // Any DataIntegrityViolationException would surface here as a failed call
+            for (Future<?> call : calls) {
+                call.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(NEW_EMPLOYEES, employeeRepository.count());
+        assertEquals((long) THREADS * NEW_EMPLOYEES, wishBookEntryRepository.count());
+    }
+
+    @Test
+    void addWishBookEntries_SameNewNamesInParallel_NoConflicts() throws Exception {
+        // Every thread sends one bulk request naming all new employees, in a different order per thread
+        LocalDate firstDate = LocalDate.of(2025, 9, 1);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                LocalDate date = firstDate.plusDays(thread);
+                List<WishBookRequest> requests = new ArrayList<>();
+                for (int employee = 0; employee < NEW_EMPLOYEES; employee++) {
+                    requests.add(new WishBookRequest("Employee " + employee, date, ShiftType.EARLY_SHIFT));
+                }
+                Collections.rotate(requests, thread);
+                calls.add(executor.submit(() -> {
+                    start.await();
+                    return wishBookEntryService.addWishBookEntries(requests);
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> call : calls) {
+                call.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(NEW_EMPLOYEES, employeeRepository.count());
+        assertEquals((long) THREADS * NEW_EMPLOYEES, wishBookEntryRepository.count());
+    }
+
+    @Test
+    void addWishBookEntry_EntryRejected_KeepsEmployeeForTheRetry() {
+        // Arrange - a wish without a date fails on insert after the new employee was resolved
+        WishBookRequest invalid = new WishBookRequest("Jane Smith", null, ShiftType.EARLY_SHIFT);
+
+        // Act
+        assertThrows(RuntimeException.class, () -> wishBookEntryService.addWishBookEntry(invalid));
+        long employeesAfterFailure = employeeRepository.count();
+        wishBookEntryService.addWishBookEntry(
+                new WishBookRequest("Jane Smith", LocalDate.of(2025, 9, 1), ShiftType.EARLY_SHIFT));
+
+        // Assert - the employee was committed on its own, and the retry reuses it
+        assertEquals(1, employeesAfterFailure);
+        assertEquals(1, employeeRepository.count());
+        assertEquals(1, wishBookEntryRepository.count());
+    }
+
+    @Test
+    void addWishBookEntries_NewEmployeesCommitted_DoNotWaitForTheBatch() throws Exception {
+        // Arrange - a bulk request creates an employee while another request is still inside its transaction
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("Jane Smith", LocalDate.of(2025, 9, 1), ShiftType.EARLY_SHIFT)));
+        CountDownLatch inTransaction = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> batch = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                wishBookEntryService.addWishBookEntries(List.of(
+                        new WishBookRequest("Max Muster", LocalDate.of(2025, 9, 1), ShiftType.EARLY_SHIFT)));
+                inTransaction.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(inTransaction.await(10, TimeUnit.SECONDS));
+
+            // Act - the same name again, from outside that still open transaction
+            var response = wishBookEntryService.addWishBookEntries(List.of(
+                    new WishBookRequest("Max Muster", LocalDate.of(2025, 9, 2), ShiftType.EARLY_SHIFT)));
+
+            // Assert
+            assertEquals(1, response.created());
+            release.countDown();
+            batch.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(2, employeeRepository.count());
+    }
+}
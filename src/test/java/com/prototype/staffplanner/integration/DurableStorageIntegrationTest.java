@@ -0,0 +1,52 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.StaffPlannerApplication;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.service.AvailabilityIndex;
+import com.prototype.staffplanner.service.WishBookEntryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurableStorageIntegrationTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 15);
+
+    @TempDir
+    private Path storageDirectory;
+
+    @Test
+    void prodProfile_WishesSurviveRestart() {
+        // Arrange
+        try (var context = start()) {
+            context.getBean(WishBookEntryService.class)
+                    .addWishBookEntry(new WishBookRequest("John Doe", DATE, ShiftType.EARLY_SHIFT));
+        }
+
+        // Act
+        try (var context = start()) {
+            var available = context.getBean(AvailabilityIndex.class)
+                    .findAvailable(DATE, DATE, ShiftType.EARLY_SHIFT, AvailabilityMatch.ALL);
+
+            // Assert
+            assertEquals(1, available.count());
+            assertEquals("John Doe", available.employees().getFirst().name());
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(StaffPlannerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run("--staff-planner.storage.directory=" + storageDirectory, "--STAFF_PLANNER_DB_PASSWORD=test");
+    }
+}
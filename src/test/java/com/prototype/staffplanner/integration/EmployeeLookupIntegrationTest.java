@@ -0,0 +1,131 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.ShiftDefinitionRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EmployeeLookupIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private ShiftDefinitionRepository shiftDefinitionRepository;
+
+    private Employee john;
+
+    @BeforeEach
+    void setUp() {
+        john = employeeRepository.save(Employee.builder().name("John Doe").build());
+        var jane = employeeRepository.save(Employee.builder().name("Jane Smith").build());
+        var early = shiftDefinitionRepository.findByShiftType(ShiftType.EARLY_SHIFT).orElseThrow();
+        var late = shiftDefinitionRepository.findByShiftType(ShiftType.LATE_SHIFT).orElseThrow();
+
+        scheduleEntryRepository.saveAll(List.of(
+                ScheduleEntry.builder().employee(john).date(FROM.plusDays(2)).shiftDefinition(late).build(),
+                ScheduleEntry.builder().employee(john).date(FROM).shiftDefinition(early).build(),
+                ScheduleEntry.builder().employee(john).date(FROM.plusDays(30)).shiftDefinition(early).build(),
+                ScheduleEntry.builder().employee(jane).date(FROM).shiftDefinition(late).build()));
+        wishBookEntryRepository.saveAll(List.of(
+                WishBookEntry.builder().employee(john).date(FROM).shiftDefinition(late).build(),
+                WishBookEntry.builder().employee(john).date(FROM).shiftDefinition(early).build(),
+                WishBookEntry.builder().employee(jane).date(FROM).shiftDefinition(early).build()));
+    }
+
+    @Test
+    void getSchedule_Range_ReturnsOnlyTheEmployeesShiftsInDateOrder() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/{id}/schedule", john.getId())
+                        .param("from", FROM.toString())
+                        .param("to", FROM.plusDays(6).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employeeName").value("John Doe"))
+                .andExpect(jsonPath("$.shifts.length()").value(2))
+                .andExpect(jsonPath("$.shifts[0].date").value("2025-06-01"))
+                .andExpect(jsonPath("$.shifts[0].timeRange").value("07:00 - 15:30"))
+                .andExpect(jsonPath("$.shifts[1].date").value("2025-06-03"))
+                .andExpect(jsonPath("$.shifts[1].shiftType").value("LATE_SHIFT"));
+    }
+
+    @Test
+    void getWishes_Range_ReturnsTheEmployeesWishesOrderedByDateAndShift() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/{id}/wishes", john.getId())
+                        .param("from", FROM.toString())
+                        .param("to", FROM.plusDays(6).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.wishes.length()").value(2))
+                .andExpect(jsonPath("$.wishes[0].shiftType").value("EARLY_SHIFT"))
+                .andExpect(jsonPath("$.wishes[0].wishBookEntryId").isNumber())
+                .andExpect(jsonPath("$.wishes[1].shiftType").value("LATE_SHIFT"));
+    }
+
+    @Test
+    void getSchedule_UnknownEmployee_ReturnsNotFound() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/employees/{id}/schedule", Long.MAX_VALUE)
+                        .param("from", FROM.toString())
+                        .param("to", FROM.toString()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Not Found"));
+    }
+
+    @Test
+    void employeeRangeQueries_UseTheEmployeeDateIndexes() {
+        // Act
+        var schedulePlan = explain("""
+                select * from schedule_entries where employee_id = 1 and date between date '2025-06-01' and date '2025-06-30'
+                """);
+        var wishPlan = explain("""
+                select * from wish_book_entries where employee_id = 1 and date between date '2025-06-01' and date '2025-06-30'
+                """);
+
+        // Assert
+        assertTrue(schedulePlan.contains("UK_SCHEDULE_ENTRIES_EMPLOYEE_DATE"), schedulePlan);
+        assertTrue(wishPlan.contains("UK_WISH_BOOK_ENTRIES_EMPLOYEE_DATE_SHIFT"), wishPlan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class).toUpperCase();
+    }
+}
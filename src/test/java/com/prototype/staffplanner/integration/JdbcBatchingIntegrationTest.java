@@ -0,0 +1,148 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.ShiftDefinitionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class JdbcBatchingIntegrationTest {
+
+    private static final int ENTRY_COUNT = 500;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Autowired
+    private ShiftDefinitionRepository shiftDefinitionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void saveAll_ScheduleEntries_UsesOneRoundTripPerBatch() {
+        Employee employee = employeeRepository.save(Employee.builder().name("John Doe").build());
+        LocalDate firstDate = LocalDate.of(2025, 1, 1);
+        var early = shiftDefinitionRepository.findByShiftType(ShiftType.EARLY_SHIFT).orElseThrow();
+        var late = shiftDefinitionRepository.findByShiftType(ShiftType.LATE_SHIFT).orElseThrow();
+
+        var entries = IntStream.range(0, ENTRY_COUNT)
+                .mapToObj(day -> ScheduleEntry.builder()
+                        .employee(employee)
+                        .date(firstDate.plusDays(day))
+                        .shiftDefinition(day % 2 == 0 ? early : late)
+                        .build())
+                .toList();
+
+        statementCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> scheduleEntryRepository.saveAll(entries));
+
+        // One executeBatch per batch_size inserts, plus one sequence call per pooled block of ids
+        int expectedInsertBatches = (ENTRY_COUNT + batchSize - 1) / batchSize;
+        int expectedSequenceCalls = expectedInsertBatches + 1;
+
+        assertEquals(expectedInsertBatches, statementCounter.batches.get());
+        assertTrue(statementCounter.single.get() <= expectedSequenceCalls,
+                "Expected at most " + expectedSequenceCalls + " sequence calls but saw " + statementCounter.single.get());
+        assertEquals(ENTRY_COUNT, scheduleEntryRepository.count());
+    }
+
+    /**
+     * Counts JDBC round trips by wrapping every statement handed out by the application DataSource.
+     */
+    static class StatementCounter {
+
+        final AtomicInteger batches = new AtomicInteger();
+        final AtomicInteger single = new AtomicInteger();
+
+        void reset() {
+            batches.set(0);
+            single.set(0);
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(dataSource, (method, result) -> method.equals("getConnection")
+                    ? proxy(result, (connectionMethod, statement) ->
+                            connectionMethod.startsWith("prepare") || connectionMethod.equals("createStatement")
+                                    ? proxy(statement, (statementMethod, value) -> value, this::count)
+                                    : statement, name -> { })
+                    : result, name -> { });
+        }
+
+        private void count(String method) {
+            if (method.equals("executeBatch")) {
+                batches.incrementAndGet();
+            } else if (method.startsWith("execute")) {
+                single.incrementAndGet();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(T target, BiFunction<String, Object, Object> wrapResult, Consumer<String> onCall) {
+            Class<?>[] interfaces = ClassUtils.getAllInterfaces(target);
+            return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+                onCall.accept(method.getName());
+                try {
+                    return wrapResult.apply(method.getName(), method.invoke(target, args));
+                } catch (InvocationTargetException ex) {
+                    throw ex.getTargetException();
+                }
+            });
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor(ObjectProvider<StatementCounter> counter) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counter.getObject().wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.prototype.staffplanner.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.PlanningRequest;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Test
+    void prometheusEndpoint_AfterOperations_ExposesTimersAndRejections() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 10, 1);
+        for (String name : List.of("John Doe", "Jane Smith", "Bob Johnson")) {
+            mockMvc.perform(post("/api/wishbook/entry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new WishBookRequest(name, testDate, ShiftType.EARLY_SHIFT))))
+                    .andExpect(status().isOk());
+        }
+        List<Long> wishIds = wishBookEntryRepository.findAll().stream().map(WishBookEntry::getId).toList();
+
+        mockMvc.perform(post("/api/planning/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PlanningRequest(testDate, wishIds))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/schedule/" + testDate))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("staffplanner_wishbook_add_seconds_bucket{outcome=\"success\"")))
+                .andExpect(content().string(containsString("staffplanner_plan_create_seconds_count{outcome=\"rejected\"} 1")))
+                .andExpect(content().string(containsString("staffplanner_plan_rejections_total{rule=\"shift-headcount\"} 1.0")))
+                .andExpect(content().string(containsString("staffplanner_schedule_load_seconds_count{outcome=\"success\"} 1")));
+    }
+}
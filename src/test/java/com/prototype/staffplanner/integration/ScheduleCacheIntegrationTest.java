@@ -0,0 +1,148 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.config.CacheConfig;
+import com.prototype.staffplanner.dto.PlanningRequest;
+import com.prototype.staffplanner.dto.ScheduleResponse;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import com.prototype.staffplanner.service.PlanningService;
+import com.prototype.staffplanner.service.ScheduleService;
+import com.prototype.staffplanner.service.WishBookEntryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ScheduleCacheIntegrationTest {
+
+    @Autowired
+    private WishBookEntryService wishBookEntryService;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private PlanningService planningService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void getScheduleForDate_ReplanCommitted_EvictsOnlyThatDate() {
+        LocalDate testDate = LocalDate.of(2025, 8, 1);
+        LocalDate otherDate = LocalDate.of(2025, 8, 2);
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Alice Wilson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Carol White", testDate, ShiftType.LATE_SHIFT)
+        ));
+        Map<String, Long> wishIds = transactionTemplate.execute(status -> wishBookEntryRepository.findByDate(testDate).stream()
+                .collect(Collectors.toMap(wish -> wish.getEmployee().getName(), WishBookEntry::getId)));
+
+        planningService.createPlan(new PlanningRequest(testDate, List.of(
+                wishIds.get("John Doe"), wishIds.get("Jane Smith"), wishIds.get("Bob Johnson"), wishIds.get("Alice Wilson"))));
+
+        // Repeated reads are served from the cache
+        double hitsBefore = cacheGets("hit");
+        ScheduleResponse first = scheduleService.getScheduleForDate(testDate);
+        ScheduleResponse otherDay = scheduleService.getScheduleForDate(otherDate);
+        assertSame(first, scheduleService.getScheduleForDate(testDate));
+        assertEquals(hitsBefore + 1, cacheGets("hit"));
+
+        // A committed replan evicts the date it changed and nothing else
+        planningService.createPlan(new PlanningRequest(testDate, List.of(
+                wishIds.get("John Doe"), wishIds.get("Jane Smith"), wishIds.get("Bob Johnson"), wishIds.get("Carol White"))));
+
+        ScheduleResponse replanned = scheduleService.getScheduleForDate(testDate);
+        assertNotSame(first, replanned);
+        assertTrue(lateShift(replanned).contains("Carol White"));
+        assertFalse(lateShift(replanned).contains("Alice Wilson"));
+        assertSame(otherDay, scheduleService.getScheduleForDate(otherDate));
+    }
+
+    @Test
+    void getScheduleForDate_RejectedPlan_KeepsCachedSchedule() {
+        LocalDate testDate = LocalDate.of(2025, 8, 3);
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.LATE_SHIFT)
+        ));
+        ScheduleResponse cached = scheduleService.getScheduleForDate(testDate);
+
+        assertThrows(IllegalArgumentException.class, () -> planningService.createAutoPlan(testDate));
+
+        assertSame(cached, scheduleService.getScheduleForDate(testDate));
+    }
+
+    @Test
+    void getScheduleForDate_ConcurrentMisses_LoadOnceAndShareResult() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 8, 4);
+        int callers = 32;
+        double missesBefore = cacheGets("miss");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<ScheduleResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return scheduleService.getScheduleForDate(testDate);
+                }));
+            }
+            start.countDown();
+
+            ScheduleResponse first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<ScheduleResponse> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(missesBefore + 1, cacheGets("miss"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> lateShift(ScheduleResponse schedule) {
+        return schedule.getShifts().stream()
+                .filter(shift -> shift.getShiftType().equals(ShiftType.LATE_SHIFT))
+                .findFirst()
+                .orElseThrow()
+                .getEmployeeNames();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.SCHEDULES_CACHE)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
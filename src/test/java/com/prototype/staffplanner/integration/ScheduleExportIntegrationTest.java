@@ -0,0 +1,117 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.ShiftDefinitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ScheduleExportIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final int DAYS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Autowired
+    private ShiftDefinitionRepository shiftDefinitionRepository;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        // Four employees a day over four months: more rows than one fetch of the export cursor
+        employees = employeeRepository.saveAll(List.of(
+                Employee.builder().name("Anna").build(),
+                Employee.builder().name("Ben").build(),
+                Employee.builder().name("Carla, Jr.").build(),
+                Employee.builder().name("Dan").build()));
+        var early = shiftDefinitionRepository.findByShiftType(ShiftType.EARLY_SHIFT).orElseThrow();
+        var late = shiftDefinitionRepository.findByShiftType(ShiftType.LATE_SHIFT).orElseThrow();
+        var entries = new ArrayList<ScheduleEntry>();
+        for (int day = 0; day < DAYS; day++) {
+            for (int i = 0; i < employees.size(); i++) {
+                entries.add(ScheduleEntry.builder()
+                        .employee(employees.get(i))
+                        .date(FROM.plusDays(day))
+                        .shiftDefinition(i < 2 ? early : late)
+                        .build());
+            }
+        }
+        scheduleEntryRepository.saveAll(entries);
+    }
+
+    @Test
+    void exportCsv_WholeRange_StreamsEveryEntryInOrder() throws Exception {
+        // Act
+        var csv = mockMvc.perform(get("/api/schedule/export.csv")
+                        .param("from", FROM.toString())
+                        .param("to", FROM.plusDays(DAYS - 1).toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        var lines = csv.lines().toList();
+        assertEquals(1 + DAYS * employees.size(), lines.size());
+        assertEquals("date,employeeId,employeeName,shiftType,startTime,endTime", lines.get(0));
+        assertEquals("2025-01-01," + employees.get(0).getId() + ",Anna,EARLY_SHIFT,07:00,15:30", lines.get(1));
+        assertEquals("2025-01-01," + employees.get(2).getId() + ",\"Carla, Jr.\",LATE_SHIFT,11:30,20:00", lines.get(3));
+        assertTrue(lines.getLast().startsWith(FROM.plusDays(DAYS - 1) + ","));
+    }
+
+    @Test
+    void exportCalendar_Employee_StreamsOneEventPerShift() throws Exception {
+        // Arrange
+        var employee = employees.get(2);
+
+        // Act
+        var ics = mockMvc.perform(get("/api/schedule/export/employees/{id}.ics", employee.getId())
+                        .param("from", FROM.toString())
+                        .param("to", FROM.plusDays(9).toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        var lines = List.of(ics.split("\r\n"));
+        assertEquals(10, lines.stream().filter("BEGIN:VEVENT"::equals).count());
+        assertTrue(lines.contains("DTSTART:20250101T113000"));
+        assertTrue(lines.contains("DTEND:20250110T200000"));
+    }
+
+    @Test
+    void exportCalendar_UnknownEmployee_ReturnsNotFound() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/schedule/export/employees/{id}.ics", Long.MAX_VALUE)
+                        .param("from", FROM.toString())
+                        .param("to", FROM.toString()))
+                .andExpect(status().isNotFound());
+    }
+}
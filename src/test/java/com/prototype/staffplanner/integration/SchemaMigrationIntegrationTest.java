@@ -0,0 +1,101 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.prototype.staffplanner.integration.SchemaMigrationIntegrationTest$StatementRecorder")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @BeforeEach
+    void setUp() {
+        StatementRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void migrations_AppliedOnStartup() {
+        // Act
+        var versions = jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\" where \"success\" and \"version\" is not null order by \"installed_rank\"",
+                String.class);
+
+        // Assert
+        assertEquals(List.of("1", "2"), versions);
+    }
+
+    @Test
+    void wishBookFindByDate_UsesDateIndex() {
+        // Act
+        wishBookEntryRepository.findByDate(LocalDate.of(2025, 6, 15));
+
+        // Assert
+        var plan = explainLastStatement();
+        assertTrue(plan.contains("IDX_WISH_BOOK_ENTRIES_DATE"), plan);
+    }
+
+    @Test
+    void scheduleFindByDate_UsesDateIndex() {
+        // Act
+        scheduleEntryRepository.findByDate(LocalDate.of(2025, 6, 15));
+
+        // Assert
+        var plan = explainLastStatement();
+        assertTrue(plan.contains("IDX_SCHEDULE_ENTRIES_DATE"), plan);
+    }
+
+    @Test
+    void scheduleFindRowsByDateBetween_UsesDateIndex() {
+        // Act
+        scheduleEntryRepository.findRowsByDateBetween(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+        // Assert
+        var plan = explainLastStatement();
+        assertTrue(plan.contains("IDX_SCHEDULE_ENTRIES_DATE"), plan);
+    }
+
+    /**
+     * Explains the last statement Hibernate ran, with its parameters bound to a date.
+     */
+    private String explainLastStatement() {
+        var sql = StatementRecorder.STATEMENTS.getLast();
+        var parameters = sql.chars().filter(c -> c == '?').mapToObj(c -> LocalDate.of(2025, 6, 15)).toArray();
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, parameters).toUpperCase();
+    }
+
+    public static class StatementRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.prototype.staffplanner.integration;
+
+import com.prototype.staffplanner.dto.PlanResponse;
+import com.prototype.staffplanner.dto.ScheduleResponse;
+import com.prototype.staffplanner.dto.ShiftDefinitionRequest;
+import com.prototype.staffplanner.dto.ShiftDefinitionResponse;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.ShiftDefinitionRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import com.prototype.staffplanner.service.PlanningService;
+import com.prototype.staffplanner.service.ScheduleService;
+import com.prototype.staffplanner.service.ShiftCatalogService;
+import com.prototype.staffplanner.service.WishBookEntryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ShiftCatalogIntegrationTest {
+
+    @Autowired
+    private ShiftCatalogService shiftCatalogService;
+
+    @Autowired
+    private ShiftDefinitionRepository shiftDefinitionRepository;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private WishBookEntryService wishBookEntryService;
+
+    @Autowired
+    private PlanningService planningService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Test
+    void startup_SeedsDefaultShiftsAndLoadsCatalog() {
+        assertEquals(2, shiftDefinitionRepository.count());
+        assertNotNull(shiftCatalogService.current().definitionId(ShiftType.EARLY_SHIFT));
+        assertEquals("07:00 - 15:30", shiftCatalogService.current().shift(ShiftType.EARLY_SHIFT).timeRange());
+        assertEquals(2, shiftCatalogService.current().required(ShiftType.LATE_SHIFT));
+    }
+
+    @Test
+    void defineShift_HigherHeadcount_PlansWithNewCatalogWithoutRestart() {
+        // Arrange
+        LocalDate testDate = LocalDate.of(2025, 10, 1);
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Alice Wilson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Carol White", testDate, ShiftType.LATE_SHIFT)
+        ));
+        ScheduleResponse before = scheduleService.getScheduleForDate(testDate);
+
+        // Act
+        shiftCatalogService.defineShift(ShiftType.LATE_SHIFT,
+                new ShiftDefinitionRequest(LocalTime.of(12, 0), LocalTime.of(21, 0), 3));
+        PlanResponse plan = planningService.createAutoPlan(testDate);
+
+        // Assert
+        assertEquals(5, plan.assignments().size());
+        ScheduleResponse after = scheduleService.getScheduleForDate(testDate);
+        assertNotSame(before, after);
+        var lateShift = after.getShifts().stream()
+                .filter(shift -> shift.getShiftType().equals(ShiftType.LATE_SHIFT))
+                .findFirst().orElseThrow();
+        assertEquals("12:00 - 21:00", lateShift.getTimeRange());
+        assertEquals(3, lateShift.getEmployeeNames().size());
+    }
+
+    @Test
+    void removeShift_NoLongerPlannedOrListed() {
+        // Arrange
+        LocalDate testDate = LocalDate.of(2025, 10, 2);
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT)
+        ));
+
+        // Act
+        shiftCatalogService.removeShift(ShiftType.LATE_SHIFT);
+        PlanResponse plan = planningService.createAutoPlan(testDate);
+
+        // Assert
+        assertEquals(2, plan.assignments().size());
+        assertTrue(plan.assignments().stream().allMatch(a -> a.shiftType().equals(ShiftType.EARLY_SHIFT)));
+        assertEquals(List.of(ShiftType.EARLY_SHIFT), scheduleService.getScheduleForDate(testDate).getShifts().stream()
+                .map(ScheduleResponse.ShiftInfo::getShiftType).toList());
+    }
+
+    @Test
+    void defineShift_NewCode_IsOfferedAndAcceptsWishes() {
+        // Arrange
+        LocalDate testDate = LocalDate.of(2025, 10, 3);
+        ShiftType nightShift = ShiftType.valueOf("NIGHT_SHIFT");
+
+        // Act
+        shiftCatalogService.defineShift(nightShift,
+                new ShiftDefinitionRequest(LocalTime.of(21, 0), LocalTime.of(23, 30), 1));
+        wishBookEntryService.addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Alice Wilson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Carol White", testDate, nightShift)
+        ));
+        PlanResponse plan = planningService.createAutoPlan(testDate);
+
+        // Assert
+        assertEquals(3, shiftDefinitionRepository.count());
+        assertEquals(1, shiftCatalogService.current().required(nightShift));
+        assertEquals(List.of("Carol White"), plan.assignments().stream()
+                .filter(assignment -> assignment.shiftType().equals(nightShift))
+                .map(PlanResponse.Assignment::employeeName).toList());
+    }
+
+    @Test
+    void addWishBookEntry_UndefinedCode_IsRejected() {
+        // Arrange
+        var request = new WishBookRequest("John Doe", LocalDate.of(2025, 10, 4), ShiftType.valueOf("NIGHT_SHIFT"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> wishBookEntryService.addWishBookEntry(request));
+    }
+
+    @Test
+    void removeShift_KeepsDefinitionAndWishes() {
+        // Arrange
+        LocalDate testDate = LocalDate.of(2025, 10, 5);
+        wishBookEntryService.addWishBookEntry(new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT));
+
+        // Act
+        shiftCatalogService.removeShift(ShiftType.LATE_SHIFT);
+
+        // Assert
+        assertEquals(2, shiftDefinitionRepository.count());
+        assertFalse(shiftCatalogService.current().isOffered(ShiftType.LATE_SHIFT));
+        assertEquals(List.of(ShiftType.LATE_SHIFT), wishBookEntryRepository.findByDate(testDate).stream()
+                .map(WishBookEntry::getShiftType).toList());
+    }
+
+    @Test
+    void defineShift_ConcurrentPutsOfNewCode_CreateOneDefinition() throws Exception {
+        // Arrange
+        ShiftType nightShift = ShiftType.valueOf("NIGHT_SHIFT");
+        var request = new ShiftDefinitionRequest(LocalTime.of(21, 0), LocalTime.of(23, 30), 1);
+        var start = new CountDownLatch(1);
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<ShiftDefinitionResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return shiftCatalogService.defineShift(nightShift, request);
+                }));
+            }
+            start.countDown();
+            for (Future<ShiftDefinitionResponse> result : results) {
+                assertEquals(nightShift, result.get(30, TimeUnit.SECONDS).shiftType());
+            }
+        }
+
+        // Assert
+        assertEquals(3, shiftDefinitionRepository.count());
+        assertTrue(shiftCatalogService.current().isOffered(nightShift));
+    }
+}
@@ -1,11 +1,16 @@
 package com.prototype.staffplanner.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.HorizonPlanningRequest;
+import com.prototype.staffplanner.dto.PlanSimulationRequest;
 import com.prototype.staffplanner.dto.PlanningRequest;
+import com.prototype.staffplanner.dto.WishBookBulkRequest;
 import com.prototype.staffplanner.dto.WishBookRequest;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.model.WishBookEntry;
 import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
 import com.prototype.staffplanner.repository.WishBookEntryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +25,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -45,6 +53,9 @@ class StaffPlannerIntegrationTest {
     @Autowired
     private WishBookEntryRepository wishBookEntryRepository;
 
+    @Autowired
+    private ScheduleEntryRepository scheduleEntryRepository;
+
     @BeforeEach
     void setUp() {
         // Clean up database before each test
@@ -96,8 +107,9 @@ class StaffPlannerIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(planningRequest)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(4));
+                .andExpect(jsonPath("$.date").value(testDate.toString()))
+                .andExpect(jsonPath("$.assignments.length()").value(4))
+                .andExpect(jsonPath("$.assignments[0].employeeName").isNotEmpty());
 
         // Step 5: View schedule
         mockMvc.perform(get("/api/schedule/" + testDate))
@@ -176,4 +188,164 @@ class StaffPlannerIntegrationTest {
                 .andExpect(jsonPath("$.shifts[0].employeeNames").isEmpty())
                 .andExpect(jsonPath("$.shifts[1].employeeNames").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void addWishBookEntries_BulkWithExistingEntry_CreatesRestAndReportsDuplicate() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 6, 18);
+        WishBookRequest existingWish = new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT);
+
+        mockMvc.perform(post("/api/wishbook/entry")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(existingWish)))
+                .andExpect(status().isOk());
+
+        WishBookBulkRequest bulkRequest = new WishBookBulkRequest(List.of(
+                existingWish,
+                new WishBookRequest("John Doe", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT)
+        ));
+
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("DUPLICATE"));
+
+        assert wishBookEntryRepository.findByDate(testDate).size() == 4;
+        assert employeeRepository.count() == 3;
+    }
+
+    @Test
+    void createAutoPlan_AllWishesForDate_StaffsBothShifts() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 6, 19);
+
+        WishBookBulkRequest bulkRequest = new WishBookBulkRequest(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("John Doe", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Alice Wilson", testDate, ShiftType.LATE_SHIFT)
+        ));
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/planning/auto/" + testDate))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignments.length()").value(4));
+
+        mockMvc.perform(get("/api/schedule/" + testDate))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shifts[?(@.shiftType=='EARLY_SHIFT')].employeeNames.length()").value(2))
+                .andExpect(jsonPath("$.shifts[?(@.shiftType=='LATE_SHIFT')].employeeNames.length()").value(2));
+    }
+
+    @Test
+    void createHorizonPlan_WeekWithOneUnstaffedDay_SavesOtherDays() throws Exception {
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = from.plusDays(6);
+
+        // Every day but the last one gets four matching wishes
+        List<WishBookRequest> wishes = from.datesUntil(to).flatMap(date -> Stream.of(
+                new WishBookRequest("John Doe", date, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", date, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", date, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Alice Wilson", date, ShiftType.LATE_SHIFT)
+        )).toList();
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new WishBookBulkRequest(wishes))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/planning/horizon")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HorizonPlanningRequest(from, to))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedDays").value(6))
+                .andExpect(jsonPath("$.failedDays").value(1))
+                .andExpect(jsonPath("$.days[6].status").value("FAILED"));
+
+        mockMvc.perform(get("/api/schedule/" + from.plusDays(3)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.shifts[?(@.shiftType=='LATE_SHIFT')].employeeNames.length()").value(2));
+
+        mockMvc.perform(get("/api/schedule").param("from", from.toString()).param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(7))
+                .andExpect(jsonPath("$[0].shifts[0].employeeNames.length()").value(2))
+                .andExpect(jsonPath("$[6].shifts[0].employeeNames").isEmpty());
+    }
+
+    @Test
+    void createPlan_Replanning_KeepsUnchangedRows() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 6, 21);
+        WishBookBulkRequest bulkRequest = new WishBookBulkRequest(List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Alice Wilson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Carol White", testDate, ShiftType.LATE_SHIFT)
+        ));
+        mockMvc.perform(post("/api/wishbook/entries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isOk());
+
+        Map<String, Long> wishIds = wishBookEntryRepository.findByDate(testDate).stream()
+                .collect(Collectors.toMap(wish -> wish.getEmployee().getName(), WishBookEntry::getId));
+
+        // First plan with Alice, then replan swapping Alice for Carol
+        PlanningRequest firstPlan = new PlanningRequest(testDate, List.of(
+                wishIds.get("John Doe"), wishIds.get("Jane Smith"), wishIds.get("Bob Johnson"), wishIds.get("Alice Wilson")));
+        mockMvc.perform(post("/api/planning/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstPlan)))
+                .andExpect(status().isOk());
+        Map<String, Long> firstIds = scheduleEntryRepository.findByDate(testDate).stream()
+                .collect(Collectors.toMap(entry -> entry.getEmployee().getName(), ScheduleEntry::getId));
+
+        PlanningRequest secondPlan = new PlanningRequest(testDate, List.of(
+                wishIds.get("John Doe"), wishIds.get("Jane Smith"), wishIds.get("Bob Johnson"), wishIds.get("Carol White")));
+        mockMvc.perform(post("/api/planning/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(secondPlan)))
+                .andExpect(status().isOk());
+        Map<String, Long> secondIds = scheduleEntryRepository.findByDate(testDate).stream()
+                .collect(Collectors.toMap(entry -> entry.getEmployee().getName(), ScheduleEntry::getId));
+
+        assert secondIds.size() == 4;
+        assert secondIds.get("John Doe").equals(firstIds.get("John Doe"));
+        assert secondIds.get("Bob Johnson").equals(firstIds.get("Bob Johnson"));
+        assert !secondIds.containsKey("Alice Wilson");
+        assert secondIds.containsKey("Carol White");
+    }
+
+    @Test
+    void simulatePlan_ValidDate_LeavesScheduleUntouched() throws Exception {
+        LocalDate testDate = LocalDate.of(2025, 6, 17);
+        for (WishBookRequest wish : List.of(
+                new WishBookRequest("John Doe", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Jane Smith", testDate, ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Bob Johnson", testDate, ShiftType.LATE_SHIFT),
+                new WishBookRequest("Alice Wilson", testDate, ShiftType.LATE_SHIFT))) {
+            mockMvc.perform(post("/api/wishbook/entry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(wish)))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/planning/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PlanSimulationRequest(testDate, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid").value(true))
+                .andExpect(jsonPath("$.assignments.length()").value(4))
+                .andExpect(jsonPath("$.changes.inserted.length()").value(4));
+
+        assert scheduleEntryRepository.findByDate(testDate).isEmpty();
+    }
+}
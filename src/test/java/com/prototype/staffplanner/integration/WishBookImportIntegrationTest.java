@@ -0,0 +1,105 @@
+package com.prototype.staffplanner.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.staffplanner.dto.WishBookImportEvent;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import com.prototype.staffplanner.service.AvailabilityIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "staff-planner.wishbook-import.batch-size=500")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class WishBookImportIntegrationTest {
+
+    private static final int EMPLOYEES = 100;
+    private static final int DAYS = 12;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 11, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Test
+    void importEntries_LargeCsvTwice_CreatesThenReportsDuplicates() throws Exception {
+        // Arrange - 100 employees wishing the early shift on 12 days, plus one bad line
+        var csv = new StringBuilder("employeeName,date,shiftType\n");
+        for (int day = 0; day < DAYS; day++) {
+            for (int employee = 0; employee < EMPLOYEES; employee++) {
+                csv.append("Employee ").append(employee).append(',').append(FIRST_DATE.plusDays(day)).append(",EARLY_SHIFT\n");
+            }
+        }
+        csv.append("Employee 0,2025-11-01,NIGHT_SHIFT\n");
+
+        // Act
+        List<WishBookImportEvent> first = importCsv(csv.toString());
+        List<WishBookImportEvent> second = importCsv(csv.toString());
+
+        // Assert
+        var firstSummary = first.getLast();
+        assertEquals(WishBookImportEvent.Type.SUMMARY, firstSummary.type());
+        assertEquals(EMPLOYEES * DAYS + 1, firstSummary.rows());
+        assertEquals(EMPLOYEES * DAYS, firstSummary.created());
+        assertEquals(1, firstSummary.errors());
+        assertEquals(3, first.stream().filter(event -> event.type() == WishBookImportEvent.Type.PROGRESS).count());
+        assertEquals(List.of((long) EMPLOYEES * DAYS + 2), first.stream()
+                .filter(event -> event.type() == WishBookImportEvent.Type.ERROR)
+                .map(WishBookImportEvent::line)
+                .toList());
+
+        assertEquals(0, second.getLast().created());
+        assertEquals(EMPLOYEES * DAYS, second.getLast().duplicates());
+
+        assertEquals(EMPLOYEES, employeeRepository.count());
+        assertEquals(EMPLOYEES * DAYS, wishBookEntryRepository.count());
+        assertEquals(EMPLOYEES, availabilityIndex.findAvailable(FIRST_DATE, FIRST_DATE.plusDays(DAYS - 1),
+                ShiftType.EARLY_SHIFT, AvailabilityMatch.ALL).count());
+    }
+
+    private List<WishBookImportEvent> importCsv(String csv) throws Exception {
+        var body = mockMvc.perform(post("/api/wishbook/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return Arrays.stream(body.split("\n"))
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, WishBookImportEvent.class);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .toList();
+    }
+}
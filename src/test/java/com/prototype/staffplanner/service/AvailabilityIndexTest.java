@@ -0,0 +1,198 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.AvailabilityResponse;
+import com.prototype.staffplanner.dto.AvailabilityRow;
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.enums.AvailabilityMatch;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityIndexTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 16);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+
+    @Mock
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AvailabilityIndex availabilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = newIndex(Duration.ofSeconds(5));
+        // John works late all three days, Jane on Monday and Wednesday, Bob only wishes early shifts
+        when(wishBookEntryRepository.streamAvailabilityRows()).thenAnswer(invocation -> Stream.of(
+                row(1L, "John Doe", MONDAY, ShiftType.LATE_SHIFT),
+                row(1L, "John Doe", TUESDAY, ShiftType.LATE_SHIFT),
+                row(1L, "John Doe", WEDNESDAY, ShiftType.LATE_SHIFT),
+                row(2L, "Jane Smith", MONDAY, ShiftType.LATE_SHIFT),
+                row(2L, "Jane Smith", WEDNESDAY, ShiftType.LATE_SHIFT),
+                row(3L, "Bob Johnson", MONDAY, ShiftType.EARLY_SHIFT)
+        ));
+        availabilityIndex.rebuild();
+    }
+
+    @Test
+    void findAvailable_MatchAll_ReturnsEmployeesAvailableEveryDay() {
+        // Act
+        AvailabilityResponse response = availabilityIndex.findAvailable(MONDAY, WEDNESDAY, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL);
+
+        // Assert
+        assertEquals(List.of(new EmployeeRef(1L, "John Doe")), response.employees());
+        assertEquals(1, response.count());
+    }
+
+    @Test
+    void findAvailable_MatchAny_ReturnsEmployeesAvailableSomeDay() {
+        // Act
+        AvailabilityResponse response = availabilityIndex.findAvailable(TUESDAY, WEDNESDAY, ShiftType.LATE_SHIFT, AvailabilityMatch.ANY);
+
+        // Assert
+        assertEquals(List.of(new EmployeeRef(1L, "John Doe"), new EmployeeRef(2L, "Jane Smith")), response.employees());
+    }
+
+    @Test
+    void findAvailable_DateWithoutWishes_MatchAllIsEmpty() {
+        // Act
+        AvailabilityResponse response = availabilityIndex.findAvailable(MONDAY, WEDNESDAY.plusDays(1), ShiftType.LATE_SHIFT, AvailabilityMatch.ALL);
+
+        // Assert
+        assertTrue(response.employees().isEmpty());
+    }
+
+    @Test
+    void record_OutsideTransaction_AddsWishImmediately() {
+        // Act
+        availabilityIndex.record(List.of(row(3L, "Bob Johnson", TUESDAY, ShiftType.EARLY_SHIFT)));
+
+        // Assert
+        AvailabilityResponse response = availabilityIndex.findAvailable(MONDAY, TUESDAY, ShiftType.EARLY_SHIFT, AvailabilityMatch.ALL);
+        assertEquals(List.of(new EmployeeRef(3L, "Bob Johnson")), response.employees());
+        assertEquals(3, availabilityIndex.employeeCount());
+    }
+
+    @Test
+    void findAvailable_BeforeFirstBuild_WaitsForIt() throws Exception {
+        // Arrange
+        var unbuilt = newIndex(Duration.ofSeconds(5));
+        var query = CompletableFuture.supplyAsync(
+                () -> unbuilt.findAvailable(MONDAY, WEDNESDAY, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL));
+
+        // Act
+        Thread.sleep(100);
+        boolean answeredBeforeBuild = query.isDone();
+        unbuilt.rebuild();
+
+        // Assert
+        assertFalse(answeredBeforeBuild);
+        assertEquals(List.of(new EmployeeRef(1L, "John Doe")), query.get(5, TimeUnit.SECONDS).employees());
+    }
+
+    @Test
+    void findAvailable_FirstBuildNotDoneInTime_ThrowsUnavailable() {
+        // Arrange
+        var unbuilt = newIndex(Duration.ofMillis(50));
+
+        // Act & Assert
+        var ex = assertThrows(AvailabilityIndexUnavailableException.class,
+                () -> unbuilt.findAvailable(MONDAY, WEDNESDAY, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL));
+        assertEquals(AvailabilityIndex.RETRY_AFTER, ex.getRetryAfter());
+    }
+
+    @Test
+    void buildInBackground_FirstAttemptFails_RetriesUntilBuilt() {
+        // Arrange
+        var unbuilt = newIndex(Duration.ofSeconds(5));
+        when(wishBookEntryRepository.streamAvailabilityRows())
+                .thenThrow(new CannotCreateTransactionException("Database not reachable"))
+                .thenAnswer(invocation -> Stream.of(row(1L, "John Doe", MONDAY, ShiftType.LATE_SHIFT)));
+
+        // Act
+        unbuilt.buildInBackground();
+        AvailabilityResponse response = unbuilt.findAvailable(MONDAY, MONDAY, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL);
+
+        // Assert
+        assertEquals(List.of(new EmployeeRef(1L, "John Doe")), response.employees());
+        unbuilt.stopBuilding();
+    }
+
+    @Test
+    void rebuild_WishRecordedDuringScan_IsNotBlockedAndKept() throws Exception {
+        // Arrange - the scan stops after its first row until the test lets it go on
+        var scanStarted = new CountDownLatch(1);
+        var finishScan = new CountDownLatch(1);
+        when(wishBookEntryRepository.streamAvailabilityRows()).thenAnswer(invocation -> Stream.of(
+                        row(1L, "John Doe", MONDAY, ShiftType.LATE_SHIFT),
+                        row(2L, "Jane Smith", MONDAY, ShiftType.LATE_SHIFT))
+                .peek(row -> {
+                    if (row.employeeId() == 1L) {
+                        scanStarted.countDown();
+                        awaitUninterruptibly(finishScan);
+                    }
+                }));
+        var rebuild = CompletableFuture.runAsync(availabilityIndex::rebuild);
+        assertTrue(scanStarted.await(5, TimeUnit.SECONDS));
+
+        // Act - record and query while the scan is running
+        var recorded = CompletableFuture.runAsync(
+                () -> availabilityIndex.record(List.of(row(4L, "Alice Wilson", MONDAY, ShiftType.LATE_SHIFT))));
+        recorded.get(5, TimeUnit.SECONDS);
+        AvailabilityResponse duringScan = availabilityIndex.findAvailable(MONDAY, MONDAY, ShiftType.LATE_SHIFT,
+                AvailabilityMatch.ALL);
+        finishScan.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        // Assert - served from the old tables during the scan, and the recorded wish survives the swap
+        assertTrue(duringScan.employees().contains(new EmployeeRef(4L, "Alice Wilson")));
+        AvailabilityResponse afterScan = availabilityIndex.findAvailable(MONDAY, MONDAY, ShiftType.LATE_SHIFT,
+                AvailabilityMatch.ALL);
+        assertEquals(List.of(new EmployeeRef(1L, "John Doe"), new EmployeeRef(2L, "Jane Smith"),
+                new EmployeeRef(4L, "Alice Wilson")), afterScan.employees());
+    }
+
+    @Test
+    void findAvailable_ReversedRange_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityIndex.findAvailable(TUESDAY, MONDAY, ShiftType.LATE_SHIFT, AvailabilityMatch.ALL));
+    }
+
+    private AvailabilityIndex newIndex(Duration waitTimeout) {
+        return new AvailabilityIndex(wishBookEntryRepository, transactionManager, waitTimeout, Duration.ofMillis(10));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static AvailabilityRow row(Long employeeId, String name, LocalDate date, ShiftType shiftType) {
+        return new AvailabilityRow(employeeId, name, date, shiftType);
+    }
+}
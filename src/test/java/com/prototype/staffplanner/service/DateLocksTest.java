@@ -0,0 +1,104 @@
+package com.prototype.staffplanner.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateLocksTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 6, 15);
+
+    private final DateLocks dateLocks = new DateLocks(Duration.ofMillis(50));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lockUntilCompletion_HeldUntilTransactionCompletes() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        dateLocks.lockUntilCompletion(List.of(DATE, DATE.plusDays(1)));
+
+        // Assert
+        assertTrue(dateLocks.isLocked(DATE));
+        assertTrue(dateLocks.isLocked(DATE.plusDays(1)));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertFalse(dateLocks.isLocked(DATE));
+        assertFalse(dateLocks.isLocked(DATE.plusDays(1)));
+    }
+
+    @Test
+    void lockUntilCompletion_SameDateInOtherTransaction_TimesOut() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        dateLocks.lockUntilCompletion(List.of(DATE));
+
+        // Act
+        var sameDate = inOtherTransaction(DATE);
+        var otherDate = inOtherTransaction(DATE.plusDays(1));
+
+        // Assert
+        assertInstanceOf(CannotAcquireLockException.class, sameDate);
+        assertNull(otherDate);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertNull(inOtherTransaction(DATE));
+    }
+
+    @Test
+    void lockUntilCompletion_DatesOneStripeCycleApart_ShareALock() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        dateLocks.lockUntilCompletion(List.of(DATE));
+
+        // Assert
+        assertTrue(dateLocks.isLocked(DATE.plusDays(DateLocks.STRIPES)));
+        assertFalse(dateLocks.isLocked(DATE.plusDays(DateLocks.STRIPES - 1)));
+    }
+
+    @Test
+    void lockUntilCompletion_NoTransaction_Throws() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> dateLocks.lockUntilCompletion(List.of(DATE)));
+        assertFalse(dateLocks.isLocked(DATE));
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    /**
+     * Locks a date in a transaction on another thread and completes it; returns the failure, if any.
+     */
+    private RuntimeException inOtherTransaction(LocalDate date) throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                dateLocks.lockUntilCompletion(List.of(date));
+                complete(TransactionSynchronization.STATUS_COMMITTED);
+                return null;
+            } catch (RuntimeException ex) {
+                TransactionSynchronizationManager.clearSynchronization();
+                return ex;
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,230 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.EmployeeRef;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeDirectoryTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmployeeDirectory employeeDirectory;
+
+    @BeforeEach
+    void setUp() {
+        employeeDirectory = new EmployeeDirectory(employeeRepository, transactionManager, 2, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void warmUp_LoadsUpToMaximumSize() {
+        // Arrange
+        when(employeeRepository.findRefs(PageRequest.of(0, 2)))
+                .thenReturn(List.of(new EmployeeRef(1L, "John Doe"), new EmployeeRef(2L, "Jane Smith")));
+
+        // Act
+        employeeDirectory.warmUp();
+
+        // Assert
+        assertEquals(Optional.of(1L), employeeDirectory.findId("John Doe"));
+        assertEquals(Optional.of(2L), employeeDirectory.findId("Jane Smith"));
+        verify(employeeRepository, never()).findIdByName(any());
+    }
+
+    @Test
+    void findId_Miss_QueriesOnceThenServesFromCache() {
+        // Arrange
+        when(employeeRepository.findIdByName("John Doe")).thenReturn(Optional.of(1L));
+
+        // Act
+        Optional<Long> first = employeeDirectory.findId("John Doe");
+        Optional<Long> second = employeeDirectory.findId("John Doe");
+
+        // Assert
+        assertEquals(Optional.of(1L), first);
+        assertEquals(Optional.of(1L), second);
+        verify(employeeRepository, times(1)).findIdByName("John Doe");
+    }
+
+    @Test
+    void findId_UnknownName_IsNotCached() {
+        // Arrange
+        when(employeeRepository.findIdByName("John Doe")).thenReturn(Optional.empty());
+
+        // Act
+        employeeDirectory.findId("John Doe");
+        Optional<Long> result = employeeDirectory.findId("John Doe");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(employeeRepository, times(2)).findIdByName("John Doe");
+    }
+
+    @Test
+    void resolveId_NewNameOutsideTransaction_CreatesEmployeeInItsOwnTransaction() {
+        // Arrange
+        when(employeeRepository.findRefsByNameIn(List.of("Jane Smith"))).thenReturn(List.of());
+        when(employeeRepository.saveAllAndFlush(any()))
+                .thenReturn(List.of(Employee.builder().id(2L).name("Jane Smith").build()));
+
+        // Act
+        Long id = employeeDirectory.resolveId("Jane Smith");
+
+        // Assert
+        assertEquals(2L, id);
+        assertEquals(Optional.of(2L), employeeDirectory.findId("Jane Smith"));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager).commit(any());
+        verify(employeeRepository).saveAllAndFlush(argThat(employees ->
+                ((List<Employee>) employees).getFirst().getName().equals("Jane Smith")));
+    }
+
+    @Test
+    void resolveId_CreatedByAnotherInstance_ReturnsCommittedId() {
+        // Arrange - the insert loses the race on the unique name and the winner's row is read back
+        when(employeeRepository.findRefsByNameIn(List.of("Jane Smith")))
+                .thenReturn(List.of(), List.of(), List.of(new EmployeeRef(7L, "Jane Smith")));
+        when(employeeRepository.saveAllAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation"));
+
+        // Act
+        Long id = employeeDirectory.resolveId("Jane Smith");
+
+        // Assert
+        assertEquals(7L, id);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void resolveIds_MixedNames_QueriesUncachedNamesOnceAndCreatesTheRest() {
+        // Arrange
+        when(employeeRepository.findIdByName("John Doe")).thenReturn(Optional.of(1L));
+        employeeDirectory.findId("John Doe");
+        when(employeeRepository.findRefsByNameIn(List.of("Jane Smith", "Max Muster")))
+                .thenReturn(List.of(new EmployeeRef(2L, "Jane Smith")));
+        when(employeeRepository.findRefsByNameIn(List.of("Max Muster"))).thenReturn(List.of());
+        when(employeeRepository.saveAllAndFlush(any()))
+                .thenReturn(List.of(Employee.builder().id(3L).name("Max Muster").build()));
+
+        // Act
+        Map<String, Long> ids = employeeDirectory.resolveIds(
+                List.of("John Doe", "Jane Smith", "Max Muster", "Jane Smith"));
+
+        // Assert
+        assertEquals(Map.of("John Doe", 1L, "Jane Smith", 2L, "Max Muster", 3L), ids);
+        verify(employeeRepository).saveAllAndFlush(argThat(employees -> ((List<?>) employees).size() == 1));
+        verify(employeeRepository, never()).findRefsByNameIn(List.of("John Doe", "Jane Smith", "Max Muster"));
+    }
+
+    @Test
+    void resolveIds_NewNameInsideTransaction_CommitsItAndReleasesTheNameRightAway() throws Exception {
+        // Arrange
+        when(employeeRepository.findRefsByNameIn(List.of("Jane Smith"))).thenReturn(List.of());
+        when(employeeRepository.saveAllAndFlush(any()))
+                .thenReturn(List.of(Employee.builder().id(2L).name("Jane Smith").build()));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            Map<String, Long> ids = employeeDirectory.resolveIds(List.of("Jane Smith"));
+
+            // Assert - inserted in its own transaction, so the caller's transaction holds no lock on the name
+            assertEquals(Map.of("Jane Smith", 2L), ids);
+            verify(transactionManager).getTransaction(argThat(definition ->
+                    definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+            verify(transactionManager).commit(any());
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+            assertEquals(Map.of("Jane Smith", 2L), resolveOnOtherThread("Jane Smith"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void resolveIds_NameLockedByAnotherCaller_GivesUpAfterTimeout() throws Exception {
+        // Arrange - the other caller's insert blocks until the test lets it finish
+        when(employeeRepository.findRefsByNameIn(List.of("Jane Smith"))).thenReturn(List.of());
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeRepository.saveAllAndFlush(any())).thenAnswer(invocation -> {
+            inserting.countDown();
+            release.await();
+            return List.of(Employee.builder().id(2L).name("Jane Smith").build());
+        });
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            var other = executor.submit(() -> employeeDirectory.resolveIds(List.of("Jane Smith")));
+            inserting.await();
+
+            // Act & Assert
+            assertThrows(CannotAcquireLockException.class, () -> employeeDirectory.resolveIds(List.of("Jane Smith")));
+            release.countDown();
+            assertEquals(Map.of("Jane Smith", 2L), other.get());
+        }
+    }
+
+    private Map<String, Long> resolveOnOtherThread(String name) throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            return executor.submit(() -> employeeDirectory.resolveIds(List.of(name))).get();
+        } catch (ExecutionException ex) {
+            throw (Exception) ex.getCause();
+        }
+    }
+
+    @Test
+    void resolveId_KnownName_DoesNotInsert() {
+        // Arrange
+        when(employeeRepository.findRefsByNameIn(List.of("John Doe")))
+                .thenReturn(List.of(new EmployeeRef(1L, "John Doe")));
+
+        // Act
+        Long id = employeeDirectory.resolveId("John Doe");
+
+        // Assert
+        assertEquals(1L, id);
+        verify(employeeRepository, never()).saveAllAndFlush(any());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void findId_ManyEmployees_StaysBounded() {
+        // Arrange
+        when(employeeRepository.findIdByName(any())).thenReturn(Optional.of(1L));
+
+        // Act
+        for (int i = 1; i <= 100; i++) {
+            employeeDirectory.findId("Employee " + i);
+        }
+
+        // Assert
+        assertTrue(employeeDirectory.size() <= 2, "Directory grew to " + employeeDirectory.size());
+    }
+}
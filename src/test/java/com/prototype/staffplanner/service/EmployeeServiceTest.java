@@ -0,0 +1,115 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.EmployeeScheduleResponse;
+import com.prototype.staffplanner.dto.EmployeeWishesResponse;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeServiceTest {
+
+    private static final ShiftDefinition EARLY = ShiftDefinition.builder().shiftType(ShiftType.EARLY_SHIFT).build();
+    private static final ShiftDefinition LATE = ShiftDefinition.builder().shiftType(ShiftType.LATE_SHIFT).build();
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Mock
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
+    @InjectMocks
+    private EmployeeService employeeService;
+
+    private final LocalDate from = LocalDate.of(2025, 6, 1);
+    private final LocalDate to = LocalDate.of(2025, 6, 30);
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = Employee.builder().id(1L).name("John Doe").build();
+        lenient().when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+    }
+
+    @Test
+    void getSchedule_Entries_MapsShiftsWithCatalogHours() {
+        // Arrange
+        var catalog = ShiftCatalog.of(List.of(ShiftDefinition.builder()
+                .shiftType(ShiftType.EARLY_SHIFT)
+                .startTime(LocalTime.of(7, 0))
+                .endTime(LocalTime.of(15, 30))
+                .requiredHeadcount(2)
+                .build()));
+        when(shiftCatalogService.current()).thenReturn(catalog);
+        when(scheduleEntryRepository.findByEmployeeIdAndDateBetweenOrderByDate(1L, from, to)).thenReturn(List.of(
+                ScheduleEntry.builder().id(1L).employee(employee).date(from).shiftDefinition(EARLY).build(),
+                ScheduleEntry.builder().id(2L).employee(employee).date(to).shiftDefinition(LATE).build()));
+
+        // Act
+        EmployeeScheduleResponse result = employeeService.getSchedule(1L, from, to);
+
+        // Assert
+        assertEquals("John Doe", result.employeeName());
+        assertEquals(List.of(
+                new EmployeeScheduleResponse.Shift(from, ShiftType.EARLY_SHIFT, "07:00 - 15:30"),
+                new EmployeeScheduleResponse.Shift(to, ShiftType.LATE_SHIFT, null)), result.shifts());
+    }
+
+    @Test
+    void getSchedule_UnknownEmployee_ThrowsNotFound() {
+        // Arrange
+        when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> employeeService.getSchedule(99L, from, to));
+        verifyNoInteractions(scheduleEntryRepository);
+    }
+
+    @Test
+    void getSchedule_ReversedRange_ThrowsWithoutQuerying() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getSchedule(1L, to, from));
+        verifyNoInteractions(employeeRepository, scheduleEntryRepository);
+    }
+
+    @Test
+    void getWishes_Entries_MapsWishesWithIds() {
+        // Arrange
+        when(wishBookEntryRepository.findByEmployeeIdAndDateBetweenOrderByDateAscShiftDefinitionShiftTypeAsc(1L, from,
+                to)).thenReturn(List.of(
+                WishBookEntry.builder().id(5L).employee(employee).date(from).shiftDefinition(LATE).build()));
+
+        // Act
+        EmployeeWishesResponse result = employeeService.getWishes(1L, from, to);
+
+        // Assert
+        assertEquals(1L, result.employeeId());
+        assertEquals(List.of(new EmployeeWishesResponse.Wish(5L, from, ShiftType.LATE_SHIFT)), result.wishes());
+    }
+}
@@ -0,0 +1,136 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.FairPlanResponse;
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.ScheduleChanges;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FairPlanningServiceTest {
+
+    @Mock
+    private WishBookEntryRepository wishBookEntryRepository;
+
+    @Mock
+    private PlanningService planningService;
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
+    private FairPlanningService fairPlanningService;
+
+    @BeforeEach
+    void setUp() {
+        fairPlanningService = new FairPlanningService(wishBookEntryRepository, planningService, shiftCatalogService,
+                2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fairPlanningService.shutdown();
+    }
+
+    @Test
+    void createFairPlan_OneDayShort_SavesOtherDaysAndReportsScore() {
+        // Arrange - six employees wish both shifts on the first two days; nobody wishes the third day
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        LocalDate to = from.plusDays(2);
+        List<WishBookEntry> wishes = new ArrayList<>();
+        long wishId = 1;
+        for (long id = 1; id <= 6; id++) {
+            Employee employee = Employee.builder().id(id).name("Employee " + id).build();
+            for (LocalDate date : List.of(from, from.plusDays(1))) {
+                for (ShiftType shiftType : List.of(ShiftType.EARLY_SHIFT, ShiftType.LATE_SHIFT)) {
+                    wishes.add(WishBookEntry.builder()
+                            .id(wishId++).employee(employee).date(date).shiftDefinition(definitionOf(shiftType))
+                            .build());
+                }
+            }
+        }
+        when(shiftCatalogService.current()).thenReturn(ShiftCatalog.defaults());
+        when(wishBookEntryRepository.findByDateBetween(from, to)).thenReturn(wishes);
+        when(planningService.applyAssignments(any())).thenAnswer(invocation -> {
+            Map<LocalDate, List<WishBookEntry>> assignments = invocation.getArgument(0);
+            Map<LocalDate, ScheduleChanges> changes = new HashMap<>();
+            assignments.keySet().forEach(date ->
+                    changes.put(date, new ScheduleChanges(date, List.of(), List.of(), List.of(), 4)));
+            return changes;
+        });
+
+        // Act
+        FairPlanResponse response = fairPlanningService.createFairPlan(from, to, Duration.ofMillis(100));
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<LocalDate, List<WishBookEntry>>> written = ArgumentCaptor.forClass(Map.class);
+        verify(planningService).applyAssignments(written.capture());
+        assertEquals(2, written.getValue().size());
+        assertTrue(written.getValue().values().stream().allMatch(assignments -> assignments.size() == 4));
+
+        assertEquals(2, response.plannedDays());
+        assertEquals(1, response.failedDays());
+        assertEquals(HorizonPlanResponse.Status.FAILED, response.days().get(2).status());
+        assertEquals(4, response.days().get(0).changes().unchanged());
+        assertEquals(6, response.employees().size());
+        // 8 slots over 6 employees: four work twice, two once
+        assertEquals(1, response.score().minDays());
+        assertEquals(2, response.score().maxDays());
+        assertTrue(response.score().value() <= response.score().initialValue());
+    }
+
+    @Test
+    void createFairPlan_OptimizerBusy_RejectsInsteadOfQueueing() throws Exception {
+        // Arrange - the only admitted plan stops while it loads its wishes
+        LocalDate from = LocalDate.of(2025, 7, 1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch finishLoading = new CountDownLatch(1);
+        when(shiftCatalogService.current()).thenReturn(ShiftCatalog.defaults());
+        when(wishBookEntryRepository.findByDateBetween(from, from)).thenAnswer(invocation -> {
+            loading.countDown();
+            finishLoading.await();
+            return List.of();
+        });
+        var first = CompletableFuture.supplyAsync(
+                () -> fairPlanningService.createFairPlan(from, from, Duration.ofMillis(10)));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Act
+        var rejected = assertThrows(PlanningJobRejectedException.class,
+                () -> fairPlanningService.createFairPlan(from, from, Duration.ofMillis(10)));
+        finishLoading.countDown();
+
+        // Assert - the slot is free again once the first plan is done
+        assertEquals(Duration.ofSeconds(5), rejected.getRetryAfter());
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).failedDays());
+        assertEquals(1, fairPlanningService.createFairPlan(from, from, Duration.ofMillis(10)).failedDays());
+    }
+
+    private static ShiftDefinition definitionOf(ShiftType shiftType) {
+        return ShiftDefinition.builder().shiftType(shiftType).build();
+    }
+}
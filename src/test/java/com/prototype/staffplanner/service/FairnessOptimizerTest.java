@@ -0,0 +1,243 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FairnessOptimizerTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 6, 1);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private long nextWishId = 1;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void optimize_EveryoneWishesEverything_SpreadsDaysAndShiftsEvenly() {
+        // Arrange - 4 employees wish both shifts on 4 days, each shift needs one employee
+        ShiftCatalog catalog = catalog(1);
+        List<Employee> employees = employees(4);
+        List<LocalDate> dates = dates(4);
+        List<WishBookEntry> wishes = new ArrayList<>();
+        for (LocalDate date : dates) {
+            for (Employee employee : employees) {
+                wishes.add(wish(employee, date, ShiftType.EARLY_SHIFT));
+                wishes.add(wish(employee, date, ShiftType.LATE_SHIFT));
+            }
+        }
+
+        // Act
+        FairnessOptimizer.Result result = FairnessOptimizer.optimize(dates, wishes, catalog, Duration.ofMillis(300), 2,
+                42, executor);
+
+        // Assert - two days each, one early and one late: 4 * 2² + 8 * 1² = 24
+        assertPlanIsValid(result, catalog);
+        assertEquals(24, result.score());
+        assertTrue(result.score() <= result.initialScore());
+        for (int employee = 0; employee < employees.size(); employee++) {
+            assertEquals(2, result.daysByEmployee()[employee]);
+        }
+        assertEquals(2, result.restarts());
+    }
+
+    @Test
+    void optimize_DayCannotBeStaffed_ReportsFailureAndPlansOtherDays() {
+        // Arrange - the second day only has one candidate
+        ShiftCatalog catalog = ShiftCatalog.defaults();
+        List<Employee> employees = employees(4);
+        List<LocalDate> dates = dates(2);
+        List<WishBookEntry> wishes = new ArrayList<>(List.of(
+                wish(employees.get(0), dates.get(0), ShiftType.EARLY_SHIFT),
+                wish(employees.get(1), dates.get(0), ShiftType.EARLY_SHIFT),
+                wish(employees.get(2), dates.get(0), ShiftType.LATE_SHIFT),
+                wish(employees.get(3), dates.get(0), ShiftType.LATE_SHIFT),
+                wish(employees.get(0), dates.get(1), ShiftType.LATE_SHIFT)));
+
+        // Act
+        FairnessOptimizer.Result result = FairnessOptimizer.optimize(dates, wishes, catalog, Duration.ofMillis(50), 1,
+                7, executor);
+
+        // Assert
+        assertEquals(List.of(dates.get(0)), List.copyOf(result.assignments().keySet()));
+        assertTrue(result.failures().get(dates.get(1)).contains("Not enough available employees"));
+        assertPlanIsValid(result, catalog);
+    }
+
+    @Test
+    void optimize_MonthFor300Employees_StaysWithinBudget() {
+        // Arrange - 300 employees, each wishing a few random-looking shifts per week; 20 slots per shift and day
+        ShiftCatalog catalog = catalog(20);
+        List<Employee> employees = employees(300);
+        List<LocalDate> dates = dates(31);
+        List<WishBookEntry> wishes = new ArrayList<>();
+        for (int day = 0; day < dates.size(); day++) {
+            for (int e = 0; e < employees.size(); e++) {
+                if ((e * 7 + day * 3) % 5 < 2) {
+                    wishes.add(wish(employees.get(e), dates.get(day),
+                            (e + day) % 2 == 0 ? ShiftType.EARLY_SHIFT : ShiftType.LATE_SHIFT));
+                }
+                if ((e * 11 + day) % 4 == 0) {
+                    wishes.add(wish(employees.get(e), dates.get(day),
+                            (e + day) % 2 == 0 ? ShiftType.LATE_SHIFT : ShiftType.EARLY_SHIFT));
+                }
+            }
+        }
+        Duration budget = Duration.ofSeconds(1);
+
+        // Act
+        FairnessOptimizer.Result result = FairnessOptimizer.optimize(dates, wishes, catalog, budget, 2, 1, executor);
+
+        // Assert
+        assertEquals(31, result.assignments().size());
+        assertPlanIsValid(result, catalog);
+        assertTrue(result.score() < result.initialScore(), "The search did not improve the first plan");
+        assertTrue(result.elapsedNanos() < budget.plusSeconds(1).toNanos(), "The search overran its budget");
+        assertTrue(result.iterations() > 0);
+    }
+
+    @Test
+    void optimize_FixedSeed_ScoresStrictlyBelowMaxFlowBaseline() {
+        // Arrange - 6 employees wish both shifts on 6 days, one employee per shift
+        ShiftCatalog catalog = catalog(1);
+        List<Employee> employees = employees(6);
+        List<LocalDate> dates = dates(6);
+        List<WishBookEntry> wishes = new ArrayList<>();
+        for (LocalDate date : dates) {
+            for (Employee employee : employees) {
+                wishes.add(wish(employee, date, ShiftType.EARLY_SHIFT));
+                wishes.add(wish(employee, date, ShiftType.LATE_SHIFT));
+            }
+        }
+        long baseline = maxFlowScore(wishes, catalog);
+
+        // Act
+        FairnessOptimizer.Result result = FairnessOptimizer.optimize(dates, wishes, catalog, Duration.ofMillis(200), 1,
+                42, executor);
+
+        // Assert - the search starts from the max-flow plan and ends strictly fairer
+        assertPlanIsValid(result, catalog);
+        assertEquals(baseline, result.initialScore());
+        assertTrue(result.score() < baseline, "Score " + result.score() + " is not below the baseline " + baseline);
+    }
+
+    @Test
+    void optimize_SparseWishesOfManyEmployees_PlansWithoutDenseTables() {
+        // Arrange - a year of 10,000 employees of whom only a handful wish any given day
+        ShiftCatalog catalog = catalog(1);
+        List<Employee> employees = employees(10_000);
+        List<LocalDate> dates = dates(366);
+        List<WishBookEntry> wishes = new ArrayList<>();
+        for (int day = 0; day < dates.size(); day++) {
+            for (int i = 0; i < 4; i++) {
+                Employee employee = employees.get((day * 4 + i) * 7 % employees.size());
+                wishes.add(wish(employee, dates.get(day), ShiftType.EARLY_SHIFT));
+                wishes.add(wish(employee, dates.get(day), ShiftType.LATE_SHIFT));
+            }
+        }
+
+        // Act
+        FairnessOptimizer.Result result = FairnessOptimizer.optimize(dates, wishes, catalog, Duration.ofMillis(100), 2,
+                3, executor);
+
+        // Assert
+        assertEquals(366, result.assignments().size());
+        assertPlanIsValid(result, catalog);
+    }
+
+    /**
+     * The score of the plan that solving every date on its own with {@link ShiftAssignmentSolver} gives.
+     */
+    private static long maxFlowScore(List<WishBookEntry> wishes, ShiftCatalog catalog) {
+        Map<Long, Integer> days = new HashMap<>();
+        Map<String, Integer> shifts = new HashMap<>();
+        wishes.stream()
+                .collect(Collectors.groupingBy(WishBookEntry::getDate))
+                .values()
+                .forEach(dayWishes -> {
+                    for (WishBookEntry wish : ShiftAssignmentSolver.solve(dayWishes, catalog).assignments()) {
+                        days.merge(wish.getEmployee().getId(), 1, Integer::sum);
+                        shifts.merge(wish.getEmployee().getId() + "/" + wish.getShiftType(), 1, Integer::sum);
+                    }
+                });
+        long score = 0;
+        for (int count : days.values()) {
+            score += (long) count * count;
+        }
+        for (int count : shifts.values()) {
+            score += (long) count * count;
+        }
+        return score;
+    }
+
+    private void assertPlanIsValid(FairnessOptimizer.Result result, ShiftCatalog catalog) {
+        result.assignments().forEach((date, assignments) -> {
+            assertTrue(assignments.stream().allMatch(wish -> wish.getDate().equals(date)));
+            var employeeIds = new HashSet<Long>();
+            assertTrue(assignments.stream().allMatch(wish -> employeeIds.add(wish.getEmployee().getId())),
+                    "An employee works two shifts on " + date);
+            Map<ShiftType, Long> perShift = assignments.stream()
+                    .collect(Collectors.groupingBy(WishBookEntry::getShiftType, Collectors.counting()));
+            for (ShiftCatalog.Shift shift : catalog.shifts()) {
+                assertEquals(shift.requiredHeadcount(), perShift.getOrDefault(shift.shiftType(), 0L).intValue());
+            }
+        });
+    }
+
+    private static ShiftCatalog catalog(int requiredPerShift) {
+        return ShiftCatalog.of(List.of(
+                definition(ShiftType.EARLY_SHIFT, LocalTime.of(7, 0), LocalTime.of(15, 30), requiredPerShift),
+                definition(ShiftType.LATE_SHIFT, LocalTime.of(11, 30), LocalTime.of(20, 0), requiredPerShift)));
+    }
+
+    private static ShiftDefinition definition(ShiftType shiftType, LocalTime start, LocalTime end, int required) {
+        return ShiftDefinition.builder()
+                .shiftType(shiftType).startTime(start).endTime(end).requiredHeadcount(required).build();
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            employees.add(Employee.builder().id(id).name("Employee " + id).build());
+        }
+        return employees;
+    }
+
+    private static List<LocalDate> dates(int count) {
+        return FIRST_DATE.datesUntil(FIRST_DATE.plusDays(count)).toList();
+    }
+
+    private WishBookEntry wish(Employee employee, LocalDate date, ShiftType shiftType) {
+        return WishBookEntry.builder()
+                .id(nextWishId++)
+                .employee(employee)
+                .date(date)
+                .shiftDefinition(definitionOf(shiftType))
+                .build();
+    }
+
+    private static ShiftDefinition definitionOf(ShiftType shiftType) {
+        return ShiftDefinition.builder().shiftType(shiftType).build();
+    }
+}
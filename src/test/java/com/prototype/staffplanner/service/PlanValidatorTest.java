@@ -0,0 +1,104 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanValidatorTest {
+
+    private final LocalDate date = LocalDate.of(2025, 6, 15);
+    private final PlanValidator validator = PlanValidator.standard();
+
+    @Test
+    void validate_ValidPlan_ReturnsValidReport() {
+        // Arrange
+        List<WishBookEntry> entries = List.of(
+                wish(1L, date, ShiftType.EARLY_SHIFT),
+                wish(2L, date, ShiftType.EARLY_SHIFT),
+                wish(3L, date, ShiftType.LATE_SHIFT),
+                wish(4L, date, ShiftType.LATE_SHIFT));
+
+        // Act
+        PlanValidationReport report = validator.validate(entries, date, ShiftCatalog.defaults());
+
+        // Assert
+        assertTrue(report.isValid());
+        assertSame(PlanValidationReport.VALID, report);
+    }
+
+    @Test
+    void validate_EveryShiftUnderstaffed_ReportsEachShiftType() {
+        // Act
+        PlanValidationReport report = validator.validate(List.of(), date, ShiftCatalog.defaults());
+
+        // Assert
+        assertEquals(ShiftCatalog.defaults().shifts().size(), report.violations().size());
+        assertTrue(report.violations().stream().allMatch(v -> v.rule() == PlanRule.SHIFT_HEADCOUNT));
+        assertTrue(report.summary().contains("EARLY_SHIFT"));
+        assertTrue(report.summary().contains("LATE_SHIFT"));
+    }
+
+    @Test
+    void validate_ShiftNotOffered_RejectsEntriesForIt() {
+        // Arrange - the store only offers an early shift staffed by one employee
+        ShiftCatalog earlyOnly = ShiftCatalog.of(List.of(ShiftDefinition.builder()
+                .shiftType(ShiftType.EARLY_SHIFT)
+                .startTime(LocalTime.of(6, 0))
+                .endTime(LocalTime.of(14, 0))
+                .requiredHeadcount(1)
+                .build()));
+        List<WishBookEntry> entries = List.of(
+                wish(1L, date, ShiftType.EARLY_SHIFT),
+                wish(2L, date, ShiftType.LATE_SHIFT));
+
+        // Act
+        PlanValidationReport report = validator.validate(entries, date, earlyOnly);
+
+        // Assert
+        assertEquals(List.of("Shift type LATE_SHIFT is not offered."),
+                report.violations().stream().map(PlanViolation::message).toList());
+    }
+
+    @Test
+    void validate_CustomCheck_RunsAfterCollectingFacts() {
+        // Arrange - a rule that caps the number of entries per plan
+        PlanValidator.Check atMostThree = (facts, violations) -> {
+            if (facts.entries() > 3) {
+                violations.add(new PlanViolation(PlanRule.SHIFT_HEADCOUNT, "Too many entries."));
+            }
+        };
+        PlanValidator custom = new PlanValidator(List.of(PlanValidator.sameDate(), atMostThree));
+        List<WishBookEntry> entries = List.of(
+                wish(1L, date, ShiftType.EARLY_SHIFT),
+                wish(2L, date.plusDays(1), ShiftType.EARLY_SHIFT),
+                wish(3L, date, ShiftType.LATE_SHIFT),
+                wish(4L, date, ShiftType.LATE_SHIFT));
+
+        // Act
+        PlanValidationReport report = custom.validate(entries, date, ShiftCatalog.defaults());
+
+        // Assert
+        assertEquals("All wish book entries must have the same date. Too many entries.", report.summary());
+    }
+
+    private static WishBookEntry wish(Long employeeId, LocalDate date, ShiftType shiftType) {
+        return WishBookEntry.builder()
+                .id(employeeId)
+                .employee(Employee.builder().id(employeeId).name("Employee " + employeeId).build())
+                .date(date)
+                .shiftDefinition(definitionOf(shiftType))
+                .build();
+    }
+
+    private static ShiftDefinition definitionOf(ShiftType shiftType) {
+        return ShiftDefinition.builder().shiftType(shiftType).build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.PlanningJobResponse;
+import com.prototype.staffplanner.enums.PlanningJobStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanningJobServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 6, 2);
+
+    @Mock
+    private PlanningService planningService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlanningJobService planningJobService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        planningJobService = new PlanningJobService(planningService, meterRegistry, 1, 1, Duration.ofHours(1), Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        planningJobService.shutdown();
+    }
+
+    @Test
+    void submitHorizonPlan_Succeeds_ReportsProgressAndResult() throws Exception {
+        // Arrange
+        var plan = new HorizonPlanResponse(FROM, TO, 2, 0, 5, List.of());
+        when(planningService.createHorizonPlan(eq(FROM), eq(TO), any())).thenAnswer(invocation -> {
+            PlanningProgress progress = invocation.getArgument(2);
+            progress.started(2);
+            progress.dayPlanned();
+            progress.dayPlanned();
+            return plan;
+        });
+
+        // Act
+        var submitted = planningJobService.submitHorizonPlan(FROM, TO);
+        var finished = awaitFinished(submitted.id());
+
+        // Assert
+        assertEquals(PlanningJobStatus.QUEUED, submitted.status());
+        assertEquals(PlanningJobStatus.SUCCEEDED, finished.status());
+        assertEquals(2, finished.totalDays());
+        assertEquals(2, finished.plannedDays());
+        assertEquals(100, finished.progressPercent());
+        assertNotNull(finished.startedAt());
+        assertSame(plan, planningJobService.getResult(submitted.id()).orElseThrow());
+    }
+
+    @Test
+    void submitHorizonPlan_QueueFull_RejectsAndCancelsQueuedJobWithoutRunningIt() throws Exception {
+        // Arrange - the single planning thread is blocked and the single queue slot is taken
+        var release = new CountDownLatch(1);
+        var running = new CountDownLatch(1);
+        when(planningService.createHorizonPlan(eq(FROM), eq(TO), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new HorizonPlanResponse(FROM, TO, 2, 0, 5, List.of());
+        });
+        var first = planningJobService.submitHorizonPlan(FROM, TO);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        var queued = planningJobService.submitHorizonPlan(FROM, TO);
+
+        // Act
+        var rejected = assertThrows(PlanningJobRejectedException.class, () -> planningJobService.submitHorizonPlan(FROM, TO));
+        var cancelled = planningJobService.cancel(queued.id()).orElseThrow();
+        release.countDown();
+        awaitFinished(first.id());
+
+        // Assert
+        assertTrue(rejected.getRetryAfter().toSeconds() > 0);
+        assertEquals(1.0, meterRegistry.get(PlanningJobService.REJECTED_JOBS).counter().count());
+        assertEquals(PlanningJobStatus.CANCELLED, cancelled.status());
+        assertTrue(planningJobService.getResult(queued.id()).isEmpty());
+        verify(planningService, times(1)).createHorizonPlan(eq(FROM), eq(TO), any());
+    }
+
+    @Test
+    void cancel_RunningJob_StopsAtNextCheck() throws Exception {
+        // Arrange
+        var running = new CountDownLatch(1);
+        when(planningService.createHorizonPlan(eq(FROM), eq(TO), any())).thenAnswer(invocation -> {
+            PlanningProgress progress = invocation.getArgument(2);
+            progress.started(2);
+            running.countDown();
+            while (!progress.isCancelled()) {
+                Thread.onSpinWait();
+            }
+            throw new CancellationException("cancelled");
+        });
+        var submitted = planningJobService.submitHorizonPlan(FROM, TO);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // Act
+        var requested = planningJobService.cancel(submitted.id()).orElseThrow();
+        var finished = awaitFinished(submitted.id());
+
+        // Assert
+        assertTrue(requested.cancelRequested() || requested.status() == PlanningJobStatus.CANCELLED);
+        assertEquals(PlanningJobStatus.CANCELLED, finished.status());
+    }
+
+    @Test
+    void submitHorizonPlan_PlanRejected_FailsWithMessage() throws Exception {
+        // Arrange
+        when(planningService.createHorizonPlan(eq(FROM), eq(TO), any()))
+                .thenThrow(new IllegalArgumentException("No offered shifts."));
+
+        // Act
+        var finished = awaitFinished(planningJobService.submitHorizonPlan(FROM, TO).id());
+
+        // Assert
+        assertEquals(PlanningJobStatus.FAILED, finished.status());
+        assertEquals("No offered shifts.", finished.message());
+    }
+
+    @Test
+    void submitHorizonPlan_ReversedRange_ThrowsWithoutQueueing() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> planningJobService.submitHorizonPlan(TO, FROM));
+        verifyNoInteractions(planningService);
+    }
+
+    @Test
+    void getJob_UnknownId_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(planningJobService.getJob(UUID.randomUUID()).isEmpty());
+        assertTrue(planningJobService.cancel(UUID.randomUUID()).isEmpty());
+    }
+
+    private PlanningJobResponse awaitFinished(UUID id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            var job = planningJobService.getJob(id).orElseThrow();
+            if (job.status().isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Job " + id + " did not finish in time");
+        return null;
+    }
+}
@@ -1,22 +1,37 @@
 package com.prototype.staffplanner.service;
 
+import com.prototype.staffplanner.dto.HorizonPlanResponse;
+import com.prototype.staffplanner.dto.PlanResponse;
+import com.prototype.staffplanner.dto.PlanSimulationRequest;
+import com.prototype.staffplanner.dto.PlanSimulationResponse;
 import com.prototype.staffplanner.dto.PlanningRequest;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.dto.ScheduleChanges;
+import com.prototype.staffplanner.event.ScheduleChangedEvent;
 import com.prototype.staffplanner.model.Employee;
 import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.model.WishBookEntry;
 import com.prototype.staffplanner.repository.ScheduleEntryRepository;
 import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import io.micrometer.core.instrument.search.MeterNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,12 +40,29 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PlanningServiceTest {
 
+    private static final ShiftDefinition EARLY = ShiftDefinition.builder().shiftType(ShiftType.EARLY_SHIFT).build();
+    private static final ShiftDefinition LATE = ShiftDefinition.builder().shiftType(ShiftType.LATE_SHIFT).build();
+
     @Mock
     private WishBookEntryRepository wishBookEntryRepository;
 
     @Mock
     private ScheduleEntryRepository scheduleEntryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
+    @Mock
+    private DateLocks dateLocks;
+
     @InjectMocks
     private PlanningService planningService;
 
@@ -41,6 +73,7 @@ class PlanningServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(shiftCatalogService.current()).thenReturn(ShiftCatalog.defaults());
         testDate = LocalDate.of(2025, 6, 15);
 
         // Create employees
@@ -50,10 +83,10 @@ class PlanningServiceTest {
         employee4 = Employee.builder().id(4L).name("Alice Wilson").build();
 
         // Create wish book entries - 2 for early, 2 for late shift
-        wish1 = WishBookEntry.builder().id(1L).employee(employee1).date(testDate).shiftType(ShiftType.EARLY_SHIFT).build();
-        wish2 = WishBookEntry.builder().id(2L).employee(employee2).date(testDate).shiftType(ShiftType.EARLY_SHIFT).build();
-        wish3 = WishBookEntry.builder().id(3L).employee(employee3).date(testDate).shiftType(ShiftType.LATE_SHIFT).build();
-        wish4 = WishBookEntry.builder().id(4L).employee(employee4).date(testDate).shiftType(ShiftType.LATE_SHIFT).build();
+        wish1 = WishBookEntry.builder().id(1L).employee(employee1).date(testDate).shiftDefinition(EARLY).build();
+        wish2 = WishBookEntry.builder().id(2L).employee(employee2).date(testDate).shiftDefinition(EARLY).build();
+        wish3 = WishBookEntry.builder().id(3L).employee(employee3).date(testDate).shiftDefinition(LATE).build();
+        wish4 = WishBookEntry.builder().id(4L).employee(employee4).date(testDate).shiftDefinition(LATE).build();
 
         validRequest = new PlanningRequest(testDate, Arrays.asList(1L, 2L, 3L, 4L));
     }
@@ -66,23 +99,97 @@ class PlanningServiceTest {
                 .thenReturn(wishEntries);
 
         List<ScheduleEntry> expectedScheduleEntries = Arrays.asList(
-                ScheduleEntry.builder().employee(employee1).date(testDate).shiftType(ShiftType.EARLY_SHIFT).build(),
-                ScheduleEntry.builder().employee(employee2).date(testDate).shiftType(ShiftType.EARLY_SHIFT).build(),
-                ScheduleEntry.builder().employee(employee3).date(testDate).shiftType(ShiftType.LATE_SHIFT).build(),
-                ScheduleEntry.builder().employee(employee4).date(testDate).shiftType(ShiftType.LATE_SHIFT).build()
+                ScheduleEntry.builder().employee(employee1).date(testDate).shiftDefinition(EARLY).build(),
+                ScheduleEntry.builder().employee(employee2).date(testDate).shiftDefinition(EARLY).build(),
+                ScheduleEntry.builder().employee(employee3).date(testDate).shiftDefinition(LATE).build(),
+                ScheduleEntry.builder().employee(employee4).date(testDate).shiftDefinition(LATE).build()
         );
 
         when(scheduleEntryRepository.saveAll(any())).thenReturn(expectedScheduleEntries);
 
         // Act
-        List<ScheduleEntry> result = planningService.createPlan(validRequest);
+        PlanResponse result = planningService.createPlan(validRequest);
 
         // Assert
         assertNotNull(result);
-        assertEquals(4, result.size());
+        assertEquals(testDate, result.date());
+        assertEquals(4, result.assignments().size());
+        assertEquals("John Doe", result.assignments().getFirst().employeeName());
+        assertEquals(ShiftType.EARLY_SHIFT, result.assignments().getFirst().shiftType());
 
-        verify(scheduleEntryRepository).deleteByDate(testDate);
+        verify(scheduleEntryRepository).findByDate(testDate);
+        verify(scheduleEntryRepository, never()).deleteAll(any());
         verify(scheduleEntryRepository).saveAll(any());
+        verify(eventPublisher).publishEvent(any(ScheduleChangedEvent.class));
+        assertEquals(1, meterRegistry.get(OperationMetrics.CREATE_PLAN).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void createPlan_ExistingSchedule_WritesOnlyTheDifference() {
+        // Arrange - employee1 keeps the early shift, employee3 moves from early to late,
+        // employee5 is dropped and employee4 is new
+        Employee employee5 = Employee.builder().id(5L).name("Extra Person").build();
+        ScheduleEntry keptEntry = ScheduleEntry.builder()
+                .id(11L).employee(employee1).date(testDate).shiftDefinition(EARLY).build();
+        ScheduleEntry movedEntry = ScheduleEntry.builder()
+                .id(13L).employee(employee3).date(testDate).shiftDefinition(EARLY).build();
+        ScheduleEntry droppedEntry = ScheduleEntry.builder()
+                .id(15L).employee(employee5).date(testDate).shiftDefinition(LATE).build();
+        ScheduleEntry secondKeptEntry = ScheduleEntry.builder()
+                .id(12L).employee(employee2).date(testDate).shiftDefinition(EARLY).build();
+
+        when(wishBookEntryRepository.findAllById(any())).thenReturn(Arrays.asList(wish1, wish2, wish3, wish4));
+        when(scheduleEntryRepository.findByDate(testDate))
+                .thenReturn(Arrays.asList(keptEntry, secondKeptEntry, movedEntry, droppedEntry));
+
+        // Act
+        PlanResponse result = planningService.createPlan(validRequest);
+
+        // Assert
+        assertEquals(4, result.assignments().size());
+        assertEquals(ShiftType.LATE_SHIFT, movedEntry.getShiftType());
+        assertTrue(result.assignments().contains(
+                new PlanResponse.Assignment(11L, 1L, "John Doe", ShiftType.EARLY_SHIFT)));
+        assertTrue(result.assignments().contains(
+                new PlanResponse.Assignment(13L, 3L, "Bob Johnson", ShiftType.LATE_SHIFT)));
+        assertTrue(result.assignments().stream().noneMatch(assignment -> assignment.employeeId().equals(5L)));
+
+        verify(scheduleEntryRepository).saveAll(argThat(entries -> ((List<?>) entries).size() == 1));
+        verify(scheduleEntryRepository).deleteAll(List.of(droppedEntry));
+
+        ArgumentCaptor<ScheduleChangedEvent> event = ArgumentCaptor.forClass(ScheduleChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        ScheduleChanges changes = event.getValue().changes();
+        assertEquals(testDate, changes.date());
+        assertEquals(2, changes.unchanged());
+        assertEquals(1, changes.inserted().size());
+        assertEquals(4L, changes.inserted().getFirst().employeeId());
+        assertEquals(1, changes.updated().size());
+        assertEquals(ShiftType.EARLY_SHIFT, changes.updated().getFirst().previousShiftType());
+        assertEquals(ShiftType.LATE_SHIFT, changes.updated().getFirst().shiftType());
+        assertEquals(1, changes.deleted().size());
+        assertEquals(15L, changes.deleted().getFirst().scheduleEntryId());
+    }
+
+    @Test
+    void createPlan_SameAsCurrentSchedule_WritesNothing() {
+        // Arrange
+        when(wishBookEntryRepository.findAllById(any())).thenReturn(Arrays.asList(wish1, wish2, wish3, wish4));
+        when(scheduleEntryRepository.findByDate(testDate)).thenReturn(Arrays.asList(
+                ScheduleEntry.builder().id(11L).employee(employee1).date(testDate).shiftDefinition(EARLY).build(),
+                ScheduleEntry.builder().id(12L).employee(employee2).date(testDate).shiftDefinition(EARLY).build(),
+                ScheduleEntry.builder().id(13L).employee(employee3).date(testDate).shiftDefinition(LATE).build(),
+                ScheduleEntry.builder().id(14L).employee(employee4).date(testDate).shiftDefinition(LATE).build()
+        ));
+
+        // Act
+        PlanResponse result = planningService.createPlan(validRequest);
+
+        // Assert
+        assertEquals(4, result.assignments().size());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+        verify(scheduleEntryRepository, never()).deleteAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -97,7 +204,7 @@ class PlanningServiceTest {
         );
 
         assertEquals("No wish book entries found for the provided IDs.", exception.getMessage());
-        verify(scheduleEntryRepository, never()).deleteByDate(any());
+        verify(scheduleEntryRepository, never()).deleteAll(any());
         verify(scheduleEntryRepository, never()).saveAll(any());
     }
 
@@ -108,7 +215,7 @@ class PlanningServiceTest {
                 .id(1L)
                 .employee(employee1)
                 .date(LocalDate.of(2025, 6, 16))
-                .shiftType(ShiftType.EARLY_SHIFT)
+                .shiftDefinition(EARLY)
                 .build();
 
         when(wishBookEntryRepository.findAllById(Arrays.asList(1L, 2L, 3L, 4L)))
@@ -121,7 +228,7 @@ class PlanningServiceTest {
         );
 
         assertEquals("All wish book entries must have the same date.", exception.getMessage());
-        verify(scheduleEntryRepository, never()).deleteByDate(any());
+        verify(scheduleEntryRepository, never()).deleteAll(any());
         verify(scheduleEntryRepository, never()).saveAll(any());
     }
 
@@ -139,6 +246,8 @@ class PlanningServiceTest {
 
         assertTrue(exception.getMessage().contains("Exactly 2 employees are required for each shift type"));
         assertTrue(exception.getMessage().contains("EARLY_SHIFT"));
+        assertEquals(1, meterRegistry.get(OperationMetrics.PLAN_REJECTIONS).tag("rule", "shift-headcount").counter().count());
+        assertEquals(1, meterRegistry.get(OperationMetrics.CREATE_PLAN).tag("outcome", "rejected").timer().count());
     }
 
     @Test
@@ -149,7 +258,7 @@ class PlanningServiceTest {
                 .id(5L)
                 .employee(extraEmployee)
                 .date(testDate)
-                .shiftType(ShiftType.EARLY_SHIFT)
+                .shiftDefinition(EARLY)
                 .build();
 
         List<WishBookEntry> wishEntries = Arrays.asList(wish1, wish2, extraWish, wish3, wish4);
@@ -172,7 +281,7 @@ class PlanningServiceTest {
                 .id(5L)
                 .employee(employee1)
                 .date(testDate)
-                .shiftType(ShiftType.LATE_SHIFT)
+                .shiftDefinition(LATE)
                 .build();
 
         List<WishBookEntry> wishEntries = Arrays.asList(wish1, wish2, duplicateWish, wish4);
@@ -203,4 +312,263 @@ class PlanningServiceTest {
         assertTrue(exception.getMessage().contains("Exactly 2 employees are required for each shift type"));
         assertTrue(exception.getMessage().contains("LATE_SHIFT"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createPlan_SeveralRulesBroken_ReportsEveryViolation() {
+        // Arrange - wrong date, only one early shift and employee1 on both shifts
+        WishBookEntry wrongDateWish = WishBookEntry.builder()
+                .id(5L)
+                .employee(employee1)
+                .date(testDate.plusDays(1))
+                .shiftDefinition(LATE)
+                .build();
+        when(wishBookEntryRepository.findAllById(any())).thenReturn(Arrays.asList(wish1, wrongDateWish, wish4));
+
+        // Act
+        PlanValidationException exception = assertThrows(
+                PlanValidationException.class,
+                () -> planningService.createPlan(validRequest)
+        );
+
+        // Assert
+        assertEquals(List.of(PlanRule.SAME_DATE, PlanRule.SHIFT_HEADCOUNT, PlanRule.ONE_SHIFT_PER_EMPLOYEE),
+                exception.getViolations().stream().map(PlanViolation::rule).toList());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(1, meterRegistry.get(OperationMetrics.PLAN_REJECTIONS).tag("rule", "same-date").counter().count());
+        assertEquals(1, meterRegistry.get(OperationMetrics.PLAN_REJECTIONS).tag("rule", "one-shift-per-employee").counter().count());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createAutoPlan_EnoughWishes_SavesSolvedAssignment() {
+        // Arrange - employee1 also wishes the late shift, but the solver must keep him early
+        WishBookEntry extraLateWish = WishBookEntry.builder()
+                .id(5L)
+                .employee(employee1)
+                .date(testDate)
+                .shiftDefinition(LATE)
+                .build();
+        when(wishBookEntryRepository.findByDate(testDate))
+                .thenReturn(Arrays.asList(extraLateWish, wish1, wish2, wish3, wish4));
+        when(scheduleEntryRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        PlanResponse result = planningService.createAutoPlan(testDate);
+
+        // Assert
+        List<PlanResponse.Assignment> assignments = result.assignments();
+        assertEquals(testDate, result.date());
+        assertEquals(4, assignments.size());
+        assertEquals(4, assignments.stream().map(PlanResponse.Assignment::employeeId).distinct().count());
+        assertEquals(2, assignments.stream()
+                .filter(assignment -> assignment.shiftType().equals(ShiftType.EARLY_SHIFT)).count());
+        assertEquals(2, assignments.stream()
+                .filter(assignment -> assignment.shiftType().equals(ShiftType.LATE_SHIFT)).count());
+
+        verify(scheduleEntryRepository).saveAll(any());
+        assertEquals(1, meterRegistry.get(OperationMetrics.AUTO_PLAN).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void createAutoPlan_NotEnoughWishes_ThrowsException() {
+        // Arrange - only one late shift candidate
+        when(wishBookEntryRepository.findByDate(testDate)).thenReturn(Arrays.asList(wish1, wish2, wish3));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> planningService.createAutoPlan(testDate)
+        );
+
+        assertTrue(exception.getMessage().contains("Not enough available employees"));
+        verify(scheduleEntryRepository, never()).deleteAll(any());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+        assertEquals(1, meterRegistry.get(OperationMetrics.AUTO_PLAN).tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void createAutoPlan_NoWishes_ThrowsException() {
+        // Arrange
+        when(wishBookEntryRepository.findByDate(testDate)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> planningService.createAutoPlan(testDate));
+        verify(scheduleEntryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createHorizonPlan_OneDayShort_SavesPlannedDaysAndReportsFailure() {
+        // Arrange - the first day is fully wished, the second day only has one candidate
+        LocalDate nextDate = testDate.plusDays(1);
+        WishBookEntry nextDayWish = WishBookEntry.builder()
+                .id(6L)
+                .employee(employee1)
+                .date(nextDate)
+                .shiftDefinition(EARLY)
+                .build();
+        when(wishBookEntryRepository.findByDateBetween(testDate, nextDate))
+                .thenReturn(Arrays.asList(wish1, wish2, wish3, wish4, nextDayWish));
+
+        // Act
+        HorizonPlanResponse result = planningService.createHorizonPlan(testDate, nextDate);
+
+        // Assert
+        assertEquals(1, result.plannedDays());
+        assertEquals(1, result.failedDays());
+        assertEquals(2, result.days().size());
+        assertEquals(HorizonPlanResponse.Status.PLANNED, result.days().get(0).status());
+        assertEquals(4, result.days().get(0).assignments());
+        assertEquals(HorizonPlanResponse.Status.FAILED, result.days().get(1).status());
+        assertTrue(result.days().get(1).message().contains("Not enough available employees"));
+
+        assertEquals(4, result.days().get(0).changes().inserted().size());
+        assertNull(result.days().get(1).changes());
+
+        verify(scheduleEntryRepository).findByDateIn(List.of(testDate));
+        verify(scheduleEntryRepository).saveAll(argThat(entries -> ((List<?>) entries).size() == 4));
+        verify(scheduleEntryRepository, never()).deleteAll(any());
+        assertEquals(1, meterRegistry.get(OperationMetrics.HORIZON_PLAN).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void createHorizonPlan_NoDayCanBeStaffed_WritesNothing() {
+        // Arrange
+        when(wishBookEntryRepository.findByDateBetween(any(), any())).thenReturn(List.of());
+
+        // Act
+        HorizonPlanResponse result = planningService.createHorizonPlan(testDate, testDate.plusDays(6));
+
+        // Assert
+        assertEquals(0, result.plannedDays());
+        assertEquals(7, result.failedDays());
+        verify(scheduleEntryRepository, never()).findByDateIn(any());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createHorizonPlan_EndBeforeStart_ThrowsException() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> planningService.createHorizonPlan(testDate, testDate.minusDays(1))
+        );
+
+        assertEquals("The end date must not be before the start date.", exception.getMessage());
+        verify(wishBookEntryRepository, never()).findByDateBetween(any(), any());
+        assertEquals(1, meterRegistry.get(OperationMetrics.HORIZON_PLAN).tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void createHorizonPlan_CancelledWhilePlanning_WritesNothing() {
+        // Arrange - cancel once the first date has been solved
+        when(wishBookEntryRepository.findByDateBetween(any(), any())).thenReturn(Arrays.asList(wish1, wish2, wish3, wish4));
+        AtomicInteger planned = new AtomicInteger();
+        PlanningProgress progress = new PlanningProgress() {
+            @Override
+            public void started(int totalDays) {
+                assertEquals(3, totalDays);
+            }
+
+            @Override
+            public void dayPlanned() {
+                planned.incrementAndGet();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return planned.get() > 0;
+            }
+        };
+
+        // Act & Assert
+        assertThrows(CancellationException.class,
+                () -> planningService.createHorizonPlan(testDate, testDate.plusDays(2), progress));
+        verify(scheduleEntryRepository, never()).findByDateIn(any());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createPlan_LocksDateBeforeReadingCurrentSchedule() {
+        // Arrange
+        when(wishBookEntryRepository.findAllById(validRequest.wishBookEntryIds()))
+                .thenReturn(Arrays.asList(wish1, wish2, wish3, wish4));
+
+        // Act
+        planningService.createPlan(validRequest);
+
+        // Assert
+        InOrder inOrder = inOrder(dateLocks, scheduleEntryRepository);
+        inOrder.verify(dateLocks).lockUntilCompletion(List.of(testDate));
+        inOrder.verify(scheduleEntryRepository).findByDate(testDate);
+    }
+
+    @Test
+    void simulatePlan_ExistingSchedule_ReportsChangesWithoutWriting() {
+        // Arrange - employee3 would move from early to late, employee4 would be added
+        ScheduleEntry keptEntry = ScheduleEntry.builder()
+                .id(11L).employee(employee1).date(testDate).shiftDefinition(EARLY).build();
+        ScheduleEntry secondKeptEntry = ScheduleEntry.builder()
+                .id(12L).employee(employee2).date(testDate).shiftDefinition(EARLY).build();
+        ScheduleEntry movedEntry = ScheduleEntry.builder()
+                .id(13L).employee(employee3).date(testDate).shiftDefinition(EARLY).build();
+        when(wishBookEntryRepository.findAllById(validRequest.wishBookEntryIds()))
+                .thenReturn(Arrays.asList(wish1, wish2, wish3, wish4));
+        when(scheduleEntryRepository.findByDate(testDate))
+                .thenReturn(Arrays.asList(keptEntry, secondKeptEntry, movedEntry));
+
+        // Act
+        PlanSimulationResponse result = planningService.simulatePlan(
+                new PlanSimulationRequest(testDate, validRequest.wishBookEntryIds()));
+
+        // Assert
+        assertTrue(result.valid());
+        assertEquals(List.of(), result.violations());
+        assertEquals(4, result.assignments().size());
+        assertEquals(13L, result.assignments().get(2).scheduleEntryId());
+        assertEquals(ShiftType.LATE_SHIFT, result.assignments().get(2).shiftType());
+        assertNull(result.assignments().get(3).scheduleEntryId());
+        assertEquals(1, result.changes().inserted().size());
+        assertEquals(1, result.changes().updated().size());
+        assertEquals(2, result.changes().unchanged());
+
+        assertEquals(ShiftType.EARLY_SHIFT, movedEntry.getShiftType());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+        verify(scheduleEntryRepository, never()).deleteAll(any());
+        verifyNoInteractions(eventPublisher, dateLocks);
+        assertEquals(1, meterRegistry.get(OperationMetrics.SIMULATE_PLAN).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void simulatePlan_InvalidSelection_ReturnsEveryViolation() {
+        // Arrange - only the early shift is staffed
+        when(wishBookEntryRepository.findAllById(List.of(1L, 2L))).thenReturn(Arrays.asList(wish1, wish2));
+
+        // Act
+        PlanSimulationResponse result = planningService.simulatePlan(
+                new PlanSimulationRequest(testDate, List.of(1L, 2L)));
+
+        // Assert
+        assertFalse(result.valid());
+        assertEquals(List.of(PlanRule.SHIFT_HEADCOUNT), result.violations().stream().map(PlanViolation::rule).toList());
+        assertEquals(2, result.assignments().size());
+        assertNull(result.changes());
+        assertThrows(MeterNotFoundException.class, () -> meterRegistry.get(OperationMetrics.PLAN_REJECTIONS).counter());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void simulatePlan_WithoutIds_SolvesFromAllWishesOfTheDate() {
+        // Arrange
+        when(wishBookEntryRepository.findByDate(testDate)).thenReturn(Arrays.asList(wish1, wish2, wish3, wish4));
+
+        // Act
+        PlanSimulationResponse result = planningService.simulatePlan(new PlanSimulationRequest(testDate, null));
+
+        // Assert
+        assertTrue(result.valid());
+        assertEquals(4, result.assignments().size());
+        assertEquals(4, result.changes().inserted().size());
+        verify(wishBookEntryRepository, never()).findAllById(any());
+        verify(scheduleEntryRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,215 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.dto.ScheduleExportRow;
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.EmployeeRepository;
+import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleExportServiceTest {
+
+    @Mock
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @InjectMocks
+    private ScheduleExportService scheduleExportService;
+
+    private final LocalDate from = LocalDate.of(2025, 6, 15);
+    private final LocalDate to = LocalDate.of(2025, 6, 16);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(shiftCatalogService.current()).thenReturn(ShiftCatalog.defaults());
+    }
+
+    @Test
+    void exportCsv_Rows_WritesHeaderAndOneLinePerEntryAndClosesStream() {
+        // Arrange
+        var closed = new AtomicBoolean();
+        when(scheduleEntryRepository.streamExportRows(from, to)).thenReturn(Stream.of(
+                new ScheduleExportRow(1L, from, ShiftType.EARLY_SHIFT, 7L, "John Doe"),
+                new ScheduleExportRow(2L, to, ShiftType.LATE_SHIFT, 8L, "Smith, \"Jane\""))
+                .onClose(() -> closed.set(true)));
+        var out = new StringWriter();
+
+        // Act
+        long written = scheduleExportService.exportCsv(from, to, out);
+
+        // Assert
+        assertEquals(2, written);
+        assertEquals("""
+                date,employeeId,employeeName,shiftType,startTime,endTime
+                2025-06-15,7,John Doe,EARLY_SHIFT,07:00,15:30
+                2025-06-16,8,"Smith, ""Jane\""",LATE_SHIFT,11:30,20:00
+                """, out.toString());
+        assertTrue(closed.get());
+        assertEquals(1, meterRegistry.get(OperationMetrics.EXPORT_SCHEDULE).tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void exportCsv_ShiftNoLongerOffered_LeavesTimesEmpty() {
+        // Arrange
+        when(shiftCatalogService.current()).thenReturn(earlyShiftOnly());
+        when(scheduleEntryRepository.streamExportRows(from, to)).thenReturn(Stream.of(
+                new ScheduleExportRow(1L, from, ShiftType.LATE_SHIFT, 7L, "John Doe")));
+        var out = new StringWriter();
+
+        // Act
+        scheduleExportService.exportCsv(from, to, out);
+
+        // Assert
+        assertTrue(out.toString().endsWith("2025-06-15,7,John Doe,LATE_SHIFT,,\n"));
+    }
+
+    @Test
+    void exportCsv_ReversedRange_ThrowsWithoutQuerying() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduleExportService.exportCsv(to, from, new StringWriter()));
+        verifyNoInteractions(scheduleEntryRepository);
+    }
+
+    @Test
+    void exportCalendar_Shifts_WritesOneEventPerShiftWithCatalogHours() {
+        // Arrange
+        when(employeeRepository.findById(7L)).thenReturn(Optional.of(Employee.builder().id(7L).name("Doe, John").build()));
+        when(scheduleEntryRepository.streamExportRowsForEmployee(7L, from, to)).thenReturn(Stream.of(
+                new ScheduleExportRow(1L, from, ShiftType.EARLY_SHIFT, 7L, "Doe, John"),
+                new ScheduleExportRow(5L, to, ShiftType.LATE_SHIFT, 7L, "Doe, John")));
+        var out = new StringWriter();
+
+        // Act
+        long written = scheduleExportService.exportCalendar(7L, from, to, out);
+
+        // Assert
+        assertEquals(2, written);
+        var lines = List.of(out.toString().split("\r\n"));
+        assertEquals("BEGIN:VCALENDAR", lines.getFirst());
+        assertEquals("END:VCALENDAR", lines.getLast());
+        assertTrue(lines.contains("X-WR-CALNAME:Shifts of Doe\\, John"));
+        assertEquals(2, lines.stream().filter("BEGIN:VEVENT"::equals).count());
+        assertTrue(lines.contains("UID:schedule-1@staff-planner"));
+        assertTrue(lines.contains("DTSTART:20250615T070000"));
+        assertTrue(lines.contains("DTEND:20250615T153000"));
+        assertTrue(lines.contains("UID:schedule-5@staff-planner"));
+        assertTrue(lines.contains("DTSTART:20250616T113000"));
+        assertTrue(lines.contains("DTEND:20250616T200000"));
+        assertTrue(out.toString().endsWith("\r\n"));
+    }
+
+    @Test
+    void exportCalendar_ShiftNoLongerOffered_WritesAllDayEvent() {
+        // Arrange
+        when(shiftCatalogService.current()).thenReturn(earlyShiftOnly());
+        when(employeeRepository.findById(7L)).thenReturn(Optional.of(Employee.builder().id(7L).name("John Doe").build()));
+        when(scheduleEntryRepository.streamExportRowsForEmployee(7L, from, to)).thenReturn(Stream.of(
+                new ScheduleExportRow(1L, from, ShiftType.LATE_SHIFT, 7L, "John Doe")));
+        var out = new StringWriter();
+
+        // Act
+        scheduleExportService.exportCalendar(7L, from, to, out);
+
+        // Assert
+        var lines = List.of(out.toString().split("\r\n"));
+        assertTrue(lines.contains("DTSTART;VALUE=DATE:20250615"));
+        assertTrue(lines.contains("DTEND;VALUE=DATE:20250616"));
+    }
+
+    @Test
+    void exportCalendar_UnknownEmployee_Throws() {
+        // Arrange
+        when(employeeRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> scheduleExportService.exportCalendar(99L, from, to, new StringWriter()));
+        verify(scheduleEntryRepository, never()).streamExportRowsForEmployee(any(), any(), any());
+    }
+
+    @Test
+    void escapeText_SpecialCharacters_AreEscaped() {
+        // Act & Assert
+        assertEquals("a\\,b\\;c\\\\d\\ne", ScheduleExportService.escapeText("a,b;c\\d\ne"));
+    }
+
+    @Test
+    void escapeCsv_FormulaPrefixes_AreNeutralized() {
+        // Act & Assert
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\"", ScheduleExportService.escapeCsv("=HYPERLINK(\"x\")"));
+        assertEquals("'+1", ScheduleExportService.escapeCsv("+1"));
+        assertEquals("'-1", ScheduleExportService.escapeCsv("-1"));
+        assertEquals("'@SUM(A1)", ScheduleExportService.escapeCsv("@SUM(A1)"));
+        assertEquals("\"'=1,2\"", ScheduleExportService.escapeCsv("=1,2"));
+        assertEquals("Anna-Lena", ScheduleExportService.escapeCsv("Anna-Lena"));
+    }
+
+    @Test
+    void writeIcalLine_MultiByteCharacters_FoldsAtOctetLimitBetweenCodePoints() throws Exception {
+        // Arrange - 30 two-byte characters and 30 four-byte emoji: 180 octets, but only 90 chars
+        String line = "X:" + "ä".repeat(30) + "\uD83D\uDE00".repeat(30);
+        StringWriter out = new StringWriter();
+
+        // Act
+        ScheduleExportService.writeIcalLine(out, line);
+
+        // Assert
+        String[] physicalLines = out.toString().split("\r\n");
+        assertTrue(physicalLines.length > 2);
+        StringBuilder unfolded = new StringBuilder(physicalLines[0]);
+        for (int i = 0; i < physicalLines.length; i++) {
+            String physical = physicalLines[i];
+            assertTrue(physical.getBytes(StandardCharsets.UTF_8).length <= 75,
+                    "Line " + i + " has " + physical.getBytes(StandardCharsets.UTF_8).length + " octets");
+            assertFalse(Character.isHighSurrogate(physical.charAt(physical.length() - 1)));
+            if (i > 0) {
+                assertEquals(' ', physical.charAt(0));
+                unfolded.append(physical, 1, physical.length());
+            }
+        }
+        assertEquals(line, unfolded.toString());
+    }
+
+    private static ShiftCatalog earlyShiftOnly() {
+        return ShiftCatalog.of(List.of(ShiftDefinition.builder()
+                .shiftType(ShiftType.EARLY_SHIFT)
+                .startTime(LocalTime.of(7, 0))
+                .endTime(LocalTime.of(15, 30))
+                .requiredHeadcount(2)
+                .build()));
+    }
+}
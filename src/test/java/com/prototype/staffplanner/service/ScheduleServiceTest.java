@@ -1,15 +1,19 @@
 package com.prototype.staffplanner.service;
 
 import com.prototype.staffplanner.dto.ScheduleResponse;
-import com.prototype.staffplanner.enums.ShiftType;
+import com.prototype.staffplanner.dto.ScheduleRow;
 import com.prototype.staffplanner.model.Employee;
 import com.prototype.staffplanner.model.ScheduleEntry;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.repository.ScheduleEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -17,14 +21,26 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ScheduleServiceTest {
 
+    private static final ShiftDefinition EARLY = ShiftDefinition.builder().shiftType(ShiftType.EARLY_SHIFT).build();
+    private static final ShiftDefinition LATE = ShiftDefinition.builder().shiftType(ShiftType.LATE_SHIFT).build();
+
     @Mock
     private ScheduleEntryRepository scheduleEntryRepository;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
@@ -34,6 +50,7 @@ class ScheduleServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(shiftCatalogService.current()).thenReturn(ShiftCatalog.defaults());
         testDate = LocalDate.of(2025, 6, 15);
 
         employee1 = Employee.builder().id(1L).name("John Doe").build();
@@ -41,10 +58,10 @@ class ScheduleServiceTest {
         employee3 = Employee.builder().id(3L).name("Bob Johnson").build();
         employee4 = Employee.builder().id(4L).name("Alice Wilson").build();
 
-        entry1 = ScheduleEntry.builder().id(1L).employee(employee1).date(testDate).shiftType(ShiftType.EARLY_SHIFT).build();
-        entry2 = ScheduleEntry.builder().id(2L).employee(employee2).date(testDate).shiftType(ShiftType.EARLY_SHIFT).build();
-        entry3 = ScheduleEntry.builder().id(3L).employee(employee3).date(testDate).shiftType(ShiftType.LATE_SHIFT).build();
-        entry4 = ScheduleEntry.builder().id(4L).employee(employee4).date(testDate).shiftType(ShiftType.LATE_SHIFT).build();
+        entry1 = ScheduleEntry.builder().id(1L).employee(employee1).date(testDate).shiftDefinition(EARLY).build();
+        entry2 = ScheduleEntry.builder().id(2L).employee(employee2).date(testDate).shiftDefinition(EARLY).build();
+        entry3 = ScheduleEntry.builder().id(3L).employee(employee3).date(testDate).shiftDefinition(LATE).build();
+        entry4 = ScheduleEntry.builder().id(4L).employee(employee4).date(testDate).shiftDefinition(LATE).build();
     }
 
     @Test
@@ -63,7 +80,7 @@ class ScheduleServiceTest {
 
         // Check early shift
         ScheduleResponse.ShiftInfo earlyShift = result.getShifts().stream()
-                .filter(shift -> shift.getShiftType() == ShiftType.EARLY_SHIFT)
+                .filter(shift -> shift.getShiftType().equals(ShiftType.EARLY_SHIFT))
                 .findFirst()
                 .orElseThrow();
         assertEquals(2, earlyShift.getEmployeeNames().size());
@@ -73,7 +90,7 @@ class ScheduleServiceTest {
 
         // Check late shift
         ScheduleResponse.ShiftInfo lateShift = result.getShifts().stream()
-                .filter(shift -> shift.getShiftType() == ShiftType.LATE_SHIFT)
+                .filter(shift -> shift.getShiftType().equals(ShiftType.LATE_SHIFT))
                 .findFirst()
                 .orElseThrow();
         assertEquals(2, lateShift.getEmployeeNames().size());
@@ -115,13 +132,13 @@ class ScheduleServiceTest {
         assertEquals(testDate, result.getDate());
 
         ScheduleResponse.ShiftInfo earlyShift = result.getShifts().stream()
-                .filter(shift -> shift.getShiftType() == ShiftType.EARLY_SHIFT)
+                .filter(shift -> shift.getShiftType().equals(ShiftType.EARLY_SHIFT))
                 .findFirst()
                 .orElseThrow();
         assertEquals(2, earlyShift.getEmployeeNames().size());
 
         ScheduleResponse.ShiftInfo lateShift = result.getShifts().stream()
-                .filter(shift -> shift.getShiftType() == ShiftType.LATE_SHIFT)
+                .filter(shift -> shift.getShiftType().equals(ShiftType.LATE_SHIFT))
                 .findFirst()
                 .orElseThrow();
         assertTrue(lateShift.getEmployeeNames().isEmpty());
@@ -138,17 +155,55 @@ class ScheduleServiceTest {
 
         // Assert
         ScheduleResponse.ShiftInfo earlyShift = result.getShifts().stream()
-                .filter(shift -> shift.getShiftType() == ShiftType.EARLY_SHIFT)
+                .filter(shift -> shift.getShiftType().equals(ShiftType.EARLY_SHIFT))
                 .findFirst()
                 .orElseThrow();
         assertEquals(1, earlyShift.getEmployeeNames().size());
         assertEquals("John Doe", earlyShift.getEmployeeNames().getFirst());
 
         ScheduleResponse.ShiftInfo lateShift = result.getShifts().stream()
-                .filter(shift -> shift.getShiftType() == ShiftType.LATE_SHIFT)
+                .filter(shift -> shift.getShiftType().equals(ShiftType.LATE_SHIFT))
                 .findFirst()
                 .orElseThrow();
         assertEquals(1, lateShift.getEmployeeNames().size());
         assertEquals("Bob Johnson", lateShift.getEmployeeNames().getFirst());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getScheduleForRange_RowsForSomeDays_ReturnsEveryDateOfRange() {
+        // Arrange
+        LocalDate nextDate = testDate.plusDays(1);
+        LocalDate lastDate = testDate.plusDays(2);
+        when(scheduleEntryRepository.findRowsByDateBetween(testDate, lastDate)).thenReturn(Arrays.asList(
+                new ScheduleRow(testDate, ShiftType.EARLY_SHIFT, "John Doe"),
+                new ScheduleRow(testDate, ShiftType.LATE_SHIFT, "Bob Johnson"),
+                new ScheduleRow(lastDate, ShiftType.LATE_SHIFT, "Alice Wilson"),
+                new ScheduleRow(lastDate, ShiftType.LATE_SHIFT, "Jane Smith")
+        ));
+
+        // Act
+        List<ScheduleResponse> result = scheduleService.getScheduleForRange(testDate, lastDate);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(testDate, result.get(0).getDate());
+        assertEquals(nextDate, result.get(1).getDate());
+        assertEquals(lastDate, result.get(2).getDate());
+
+        assertEquals(List.of("John Doe"), result.get(0).getShifts().get(0).getEmployeeNames());
+        assertEquals(List.of("Bob Johnson"), result.get(0).getShifts().get(1).getEmployeeNames());
+        assertTrue(result.get(1).getShifts().stream().allMatch(shift -> shift.getEmployeeNames().isEmpty()));
+        assertEquals(ShiftType.LATE_SHIFT, result.get(2).getShifts().get(1).getShiftType());
+        assertEquals(List.of("Alice Wilson", "Jane Smith"), result.get(2).getShifts().get(1).getEmployeeNames());
+
+        verify(scheduleEntryRepository, never()).findByDate(any());
+    }
+
+    @Test
+    void getScheduleForRange_EndBeforeStart_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduleService.getScheduleForRange(testDate, testDate.minusDays(1)));
+        verify(scheduleEntryRepository, never()).findRowsByDateBetween(any(), any());
+    }
+}
@@ -0,0 +1,121 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.model.WishBookEntry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShiftAssignmentSolverTest {
+
+    private static final LocalDate TEST_DATE = LocalDate.of(2025, 6, 15);
+
+    private long nextWishId = 1;
+
+    @Test
+    void solve_GreedyChoiceWouldFail_FindsCompleteAssignment() {
+        // Arrange - John wishes both shifts; taking his early wish first would leave the late shift short
+        Employee john = employee(1L, "John Doe");
+        List<WishBookEntry> wishes = List.of(
+                wish(john, ShiftType.EARLY_SHIFT),
+                wish(john, ShiftType.LATE_SHIFT),
+                wish(employee(2L, "Jane Smith"), ShiftType.EARLY_SHIFT),
+                wish(employee(3L, "Bob Johnson"), ShiftType.EARLY_SHIFT),
+                wish(employee(4L, "Alice Wilson"), ShiftType.LATE_SHIFT)
+        );
+
+        // Act
+        ShiftAssignmentSolver.Solution solution = ShiftAssignmentSolver.solve(wishes, ShiftCatalog.defaults());
+
+        // Assert
+        assertTrue(solution.isComplete());
+        assertEquals(4, solution.assignments().size());
+        assertAssignmentIsValid(solution.assignments(), 2);
+        assertTrue(solution.assignments().stream()
+                .anyMatch(wish -> wish.getEmployee() == john && wish.getShiftType().equals(ShiftType.LATE_SHIFT)));
+    }
+
+    @Test
+    void solve_NotEnoughCandidates_ReportsStaffedCounts() {
+        // Arrange - the same employee cannot cover both late slots
+        Employee john = employee(1L, "John Doe");
+        List<WishBookEntry> wishes = List.of(
+                wish(employee(2L, "Jane Smith"), ShiftType.EARLY_SHIFT),
+                wish(employee(3L, "Bob Johnson"), ShiftType.EARLY_SHIFT),
+                wish(john, ShiftType.LATE_SHIFT),
+                wish(john, ShiftType.EARLY_SHIFT)
+        );
+
+        // Act
+        ShiftAssignmentSolver.Solution solution = ShiftAssignmentSolver.solve(wishes, ShiftCatalog.defaults());
+
+        // Assert
+        assertFalse(solution.isComplete());
+        assertEquals(2, solution.staffed(ShiftType.EARLY_SHIFT));
+        assertEquals(1, solution.staffed(ShiftType.LATE_SHIFT));
+        assertAssignmentIsValid(solution.assignments(), 2);
+    }
+
+    @Test
+    void solve_NoWishes_ReturnsEmptyIncompleteSolution() {
+        ShiftAssignmentSolver.Solution solution = ShiftAssignmentSolver.solve(List.of(), ShiftCatalog.defaults());
+
+        assertFalse(solution.isComplete());
+        assertTrue(solution.assignments().isEmpty());
+    }
+
+    @Test
+    void solve_HundredsOfCandidates_ReturnsValidAssignment() {
+        // Arrange - 400 employees who each wish both shifts
+        List<WishBookEntry> wishes = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            Employee employee = employee(id, "Employee " + id);
+            wishes.add(wish(employee, ShiftType.EARLY_SHIFT));
+            wishes.add(wish(employee, ShiftType.LATE_SHIFT));
+        }
+
+        // Act
+        ShiftAssignmentSolver.Solution solution = ShiftAssignmentSolver.solve(wishes, ShiftCatalog.defaults());
+
+        // Assert
+        assertTrue(solution.isComplete());
+        assertAssignmentIsValid(solution.assignments(), 2);
+    }
+
+    private void assertAssignmentIsValid(List<WishBookEntry> assignments, int requiredPerShift) {
+        Map<Long, Long> shiftsPerEmployee = assignments.stream()
+                .collect(Collectors.groupingBy(wish -> wish.getEmployee().getId(), Collectors.counting()));
+        assertTrue(shiftsPerEmployee.values().stream().allMatch(count -> count == 1),
+                "An employee was assigned to more than one shift: " + shiftsPerEmployee);
+
+        Map<ShiftType, Long> employeesPerShift = assignments.stream()
+                .collect(Collectors.groupingBy(WishBookEntry::getShiftType, Collectors.counting()));
+        assertTrue(employeesPerShift.values().stream().allMatch(count -> count <= requiredPerShift),
+                "A shift was overstaffed: " + employeesPerShift);
+    }
+
+    private Employee employee(long id, String name) {
+        return Employee.builder().id(id).name(name).build();
+    }
+
+    private WishBookEntry wish(Employee employee, ShiftType shiftType) {
+        return WishBookEntry.builder()
+                .id(nextWishId++)
+                .employee(employee)
+                .date(TEST_DATE)
+                .shiftDefinition(definitionOf(shiftType))
+                .build();
+    }
+
+    private static ShiftDefinition definitionOf(ShiftType shiftType) {
+        return ShiftDefinition.builder().shiftType(shiftType).build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.prototype.staffplanner.service;
+
+import com.prototype.staffplanner.config.CacheConfig;
+import com.prototype.staffplanner.dto.ShiftDefinitionRequest;
+import com.prototype.staffplanner.dto.ShiftDefinitionResponse;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
+import com.prototype.staffplanner.repository.ShiftDefinitionRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShiftCatalogServiceTest {
+
+    @Mock
+    private ShiftDefinitionRepository shiftDefinitionRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache schedulesCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ShiftCatalogService shiftCatalogService;
+
+    @Test
+    void load_StoredDefinitions_BuildsCatalogWithoutSeeding() {
+        // Arrange
+        var late = definition(ShiftType.LATE_SHIFT, 11, 20, 2);
+        late.setOffered(false);
+        when(shiftDefinitionRepository.findAll()).thenReturn(List.of(
+                definition(ShiftType.EARLY_SHIFT, 7, 15, 2),
+                late));
+
+        // Act
+        shiftCatalogService.load();
+
+        // Assert
+        verify(shiftDefinitionRepository, never()).saveAll(any());
+        assertEquals(List.of(ShiftType.EARLY_SHIFT), shiftCatalogService.current().shifts().stream()
+                .map(ShiftCatalog.Shift::shiftType).toList());
+    }
+
+    @Test
+    void defineShift_NewHeadcount_SwapsCatalogAndClearsSchedules() {
+        // Arrange
+        var early = definition(ShiftType.EARLY_SHIFT, 7, 15, 2);
+        when(shiftDefinitionRepository.findForUpdateByShiftType(ShiftType.EARLY_SHIFT)).thenReturn(Optional.of(early));
+        when(shiftDefinitionRepository.findAll()).thenAnswer(invocation -> List.of(early));
+        shiftCatalogService.load();
+        when(cacheManager.getCache(CacheConfig.SCHEDULES_CACHE)).thenReturn(schedulesCache);
+        var previous = shiftCatalogService.current();
+
+        // Act
+        ShiftDefinitionResponse response = shiftCatalogService.defineShift(ShiftType.EARLY_SHIFT,
+                new ShiftDefinitionRequest(LocalTime.of(6, 0), LocalTime.of(14, 0), 3));
+
+        // Assert
+        assertEquals("06:00 - 14:00", response.timeRange());
+        var current = shiftCatalogService.current();
+        assertNotSame(previous, current);
+        assertEquals(3, current.required(ShiftType.EARLY_SHIFT));
+        assertFalse(current.isOffered(ShiftType.LATE_SHIFT));
+        assertEquals(2, previous.required(ShiftType.EARLY_SHIFT));
+        verify(schedulesCache).clear();
+    }
+
+    @Test
+    void defineShift_EndBeforeStart_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> shiftCatalogService.defineShift(ShiftType.LATE_SHIFT,
+                new ShiftDefinitionRequest(LocalTime.of(20, 0), LocalTime.of(11, 30), 2)));
+        verify(shiftDefinitionRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void defineShift_NewShiftType_AddsItToCatalog() {
+        // Arrange
+        var nightShift = ShiftType.valueOf("NIGHT_SHIFT");
+        var early = definition(ShiftType.EARLY_SHIFT, 7, 15, 2);
+        when(shiftDefinitionRepository.findForUpdateByShiftType(nightShift)).thenReturn(Optional.empty());
+        when(shiftDefinitionRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(shiftDefinitionRepository.findAll())
+                .thenAnswer(invocation -> List.of(early, definition(nightShift, 21, 23, 1)));
+
+        // Act
+        shiftCatalogService.defineShift(nightShift,
+                new ShiftDefinitionRequest(LocalTime.of(21, 0), LocalTime.of(23, 0), 1));
+
+        // Assert
+        verify(shiftDefinitionRepository).saveAndFlush(argThat(definition ->
+                definition.getShiftType().equals(nightShift) && definition.isOffered()));
+        assertEquals(List.of(ShiftType.EARLY_SHIFT, nightShift), shiftCatalogService.current().shifts().stream()
+                .map(ShiftCatalog.Shift::shiftType).toList());
+    }
+
+    @Test
+    void defineShift_CreatedConcurrently_RetriesAsUpdate() {
+        // Arrange
+        var nightShift = ShiftType.valueOf("NIGHT_SHIFT");
+        var winner = definition(nightShift, 20, 23, 1);
+        when(shiftDefinitionRepository.findForUpdateByShiftType(nightShift))
+                .thenReturn(Optional.empty(), Optional.of(winner));
+        when(shiftDefinitionRepository.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_shift_definitions_shift_type"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(shiftDefinitionRepository.findAll()).thenAnswer(invocation -> List.of(winner));
+
+        // Act
+        shiftCatalogService.defineShift(nightShift,
+                new ShiftDefinitionRequest(LocalTime.of(21, 0), LocalTime.of(23, 0), 2));
+
+        // Assert
+        verify(shiftDefinitionRepository).saveAndFlush(winner);
+        assertEquals(LocalTime.of(21, 0), winner.getStartTime());
+        assertEquals(2, shiftCatalogService.current().required(nightShift));
+    }
+
+    @Test
+    void removeShift_Offered_KeepsDefinitionButStopsOffering() {
+        // Arrange
+        var late = definition(ShiftType.LATE_SHIFT, 11, 20, 2);
+        when(shiftDefinitionRepository.findForUpdateByShiftType(ShiftType.LATE_SHIFT)).thenReturn(Optional.of(late));
+        when(shiftDefinitionRepository.findAll()).thenAnswer(invocation -> List.of(late));
+
+        // Act
+        shiftCatalogService.removeShift(ShiftType.LATE_SHIFT);
+
+        // Assert
+        assertFalse(late.isOffered());
+        verify(shiftDefinitionRepository, never()).delete(any());
+        assertFalse(shiftCatalogService.current().isOffered(ShiftType.LATE_SHIFT));
+    }
+
+    @Test
+    void removeShift_NotOffered_ThrowsException() {
+        // Arrange
+        var late = definition(ShiftType.LATE_SHIFT, 11, 20, 2);
+        late.setOffered(false);
+        when(shiftDefinitionRepository.findForUpdateByShiftType(ShiftType.LATE_SHIFT)).thenReturn(Optional.of(late));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> shiftCatalogService.removeShift(ShiftType.LATE_SHIFT));
+        verify(shiftDefinitionRepository, never()).findAll();
+    }
+
+    @Test
+    void removeShift_NeverDefined_ThrowsNotFound() {
+        // Arrange
+        var nightShift = ShiftType.valueOf("NIGHT_SHIFT");
+        when(shiftDefinitionRepository.findForUpdateByShiftType(nightShift)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> shiftCatalogService.removeShift(nightShift));
+    }
+
+    private static ShiftDefinition definition(ShiftType shiftType, int startHour, int endHour, int requiredHeadcount) {
+        return ShiftDefinition.builder()
+                .shiftType(shiftType)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .requiredHeadcount(requiredHeadcount)
+                .build();
+    }
+}
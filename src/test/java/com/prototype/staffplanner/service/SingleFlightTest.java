@@ -0,0 +1,120 @@
+package com.prototype.staffplanner.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ConcurrentCallersForOneKey_LoadOnce() throws Exception {
+        // Arrange - the loader blocks until every other caller has joined the flight
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        Future<SingleFlight.Result<Integer>> leader = executor.submit(() -> singleFlight.execute("2025-06-15", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return 42;
+        }));
+        awaitInFlight();
+        CountDownLatch joined = new CountDownLatch(CALLERS - 1);
+        List<Future<SingleFlight.Result<Integer>>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(executor.submit(() -> {
+                joined.countDown();
+                return singleFlight.execute("2025-06-15", () -> {
+                    loads.incrementAndGet();
+                    return 42;
+                });
+            }));
+        }
+        assertTrue(joined.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        release.countDown();
+
+        // Assert
+        assertEquals(new SingleFlight.Result<>(42, false), leader.get(5, TimeUnit.SECONDS));
+        int shared = 0;
+        for (Future<SingleFlight.Result<Integer>> follower : followers) {
+            SingleFlight.Result<Integer> result = follower.get(5, TimeUnit.SECONDS);
+            assertEquals(42, result.value());
+            shared += result.shared() ? 1 : 0;
+        }
+        assertTrue(shared > 0, "No caller joined the running flight");
+        assertTrue(loads.get() < CALLERS, "Expected callers to share the load but saw " + loads.get() + " loads");
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void execute_LoaderFails_SharesExceptionAndForgetsKey() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Future<SingleFlight.Result<Integer>> leader = executor.submit(() -> singleFlight.execute("2025-06-15", () -> {
+            await(release);
+            throw new IllegalArgumentException("No wish book entries found for 2025-06-15.");
+        }));
+        awaitInFlight();
+        Future<SingleFlight.Result<Integer>> follower = executor.submit(() -> singleFlight.execute("2025-06-15", () -> 1));
+
+        // Act
+        release.countDown();
+
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, leaderFailure.getCause());
+        try {
+            assertEquals(1, follower.get(5, TimeUnit.SECONDS).value());
+        } catch (ExecutionException ex) {
+            // The follower joined the failed flight instead of starting its own
+            assertSame(leaderFailure.getCause(), ex.getCause());
+        }
+        assertEquals(new SingleFlight.Result<>(7, false), singleFlight.execute("2025-06-15", () -> 7));
+    }
+
+    @Test
+    void execute_DifferentKeys_LoadIndependently() {
+        assertEquals(1, singleFlight.execute("2025-06-15", () -> 1).value());
+        assertEquals(2, singleFlight.execute("2025-06-16", () -> 2).value());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.inFlightCount() == 0) {
+            assertTrue(System.nanoTime() < deadline, "The first call never started");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
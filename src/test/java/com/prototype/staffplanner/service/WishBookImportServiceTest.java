@@ -0,0 +1,179 @@
+package com.prototype.staffplanner.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.prototype.staffplanner.dto.WishBookBulkResponse;
+import com.prototype.staffplanner.dto.WishBookImportEvent;
+import com.prototype.staffplanner.dto.WishBookRequest;
+import com.prototype.staffplanner.enums.WishBookImportFormat;
+import com.prototype.staffplanner.model.ShiftType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WishBookImportServiceTest {
+
+    @Mock
+    private WishBookEntryService wishBookEntryService;
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<WishBookImportEvent> events = new ArrayList<>();
+    private WishBookImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new WishBookImportService(wishBookEntryService, JsonMapper.builder().findAndAddModules().build(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new OperationMetrics(meterRegistry),
+                shiftCatalogService, 2);
+        lenient().when(shiftCatalogService.isDefined(ShiftType.EARLY_SHIFT)).thenReturn(true);
+        lenient().when(shiftCatalogService.isDefined(ShiftType.LATE_SHIFT)).thenReturn(true);
+        lenient().when(wishBookEntryService.addWishBookEntries(anyList())).thenAnswer(invocation -> {
+            List<WishBookRequest> requests = invocation.getArgument(0);
+            return new WishBookBulkResponse(requests.size(), 0, List.of());
+        });
+    }
+
+    @Test
+    void importEntries_Csv_WritesFixedSizeBatchesAndReportsBadLines() throws Exception {
+        // Arrange
+        String csv = """
+                ﻿employeeName,date,shiftType
+                John Doe,2025-06-15,EARLY_SHIFT
+                "Smith, Jane",2025-06-15,LATE_SHIFT
+
+                Bob Johnson,15.06.2025,LATE_SHIFT
+                Alice Wilson,2025-06-15
+                Carol White,2025-06-16,NIGHT_SHIFT
+                Dan Brown,2025-06-16,EARLY_SHIFT
+                ,2025-06-16,EARLY_SHIFT
+                Eve Green,2025-06-17,LATE_SHIFT
+                """;
+
+        // Act
+        WishBookImportEvent summary = importService.importEntries(new StringReader(csv), WishBookImportFormat.CSV, events::add);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WishBookRequest>> batches = ArgumentCaptor.forClass(List.class);
+        verify(wishBookEntryService, times(2)).addWishBookEntries(batches.capture());
+        assertEquals(List.of(
+                new WishBookRequest("John Doe", LocalDate.of(2025, 6, 15), ShiftType.EARLY_SHIFT),
+                new WishBookRequest("Smith, Jane", LocalDate.of(2025, 6, 15), ShiftType.LATE_SHIFT)), batches.getAllValues().get(0));
+        assertEquals(2, batches.getAllValues().get(1).size());
+
+        var errors = events.stream().filter(event -> event.type() == WishBookImportEvent.Type.ERROR).toList();
+        assertEquals(List.of(5L, 6L, 7L, 9L), errors.stream().map(WishBookImportEvent::line).toList());
+        assertEquals("Invalid date '15.06.2025', expected yyyy-MM-dd.", errors.get(0).message());
+        assertEquals("Unknown shift type 'NIGHT_SHIFT'.", errors.get(2).message());
+        assertEquals("employeeName must not be null", errors.get(3).message());
+
+        assertEquals(2, events.stream().filter(event -> event.type() == WishBookImportEvent.Type.PROGRESS).count());
+        assertSame(summary, events.getLast());
+        assertEquals(WishBookImportEvent.Type.SUMMARY, summary.type());
+        assertEquals(8, summary.rows());
+        assertEquals(4, summary.created());
+        assertEquals(4, summary.errors());
+        assertEquals(4.0, meterRegistry.get(OperationMetrics.IMPORTED_ROWS).tag("outcome", "created").counter().count());
+        assertEquals(4.0, meterRegistry.get(OperationMetrics.IMPORTED_ROWS).tag("outcome", "error").counter().count());
+    }
+
+    @Test
+    void importEntries_Ndjson_ReportsInvalidJsonAndMissingFields() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"employeeName":"John Doe","date":"2025-06-15","shiftType":"EARLY_SHIFT"}
+                {"employeeName":"Jane Smith","date":"2025-06-15"
+                {"employeeName":"Bob Johnson","shiftType":"LATE_SHIFT"}
+                """;
+
+        // Act
+        WishBookImportEvent summary = importService.importEntries(new StringReader(ndjson), WishBookImportFormat.NDJSON, events::add);
+
+        // Assert
+        verify(wishBookEntryService).addWishBookEntries(List.of(
+                new WishBookRequest("John Doe", LocalDate.of(2025, 6, 15), ShiftType.EARLY_SHIFT)));
+        var errors = events.stream().filter(event -> event.type() == WishBookImportEvent.Type.ERROR).toList();
+        assertEquals(2L, errors.get(0).line());
+        assertTrue(errors.get(0).message().startsWith("Invalid JSON"));
+        assertEquals("date must not be null", errors.get(1).message());
+        assertEquals(1, summary.created());
+        assertEquals(2, summary.errors());
+    }
+
+    @Test
+    void importEntries_BatchConflictsOnce_RetriesAndCountsDuplicates() throws Exception {
+        // Arrange
+        when(wishBookEntryService.addWishBookEntries(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(new WishBookBulkResponse(1, 1, List.of()));
+
+        // Act
+        WishBookImportEvent summary = importService.importEntries(new StringReader("""
+                John Doe,2025-06-15,EARLY_SHIFT
+                Jane Smith,2025-06-15,EARLY_SHIFT
+                """), WishBookImportFormat.CSV, events::add);
+
+        // Assert
+        verify(wishBookEntryService, times(2)).addWishBookEntries(anyList());
+        assertEquals(1, summary.created());
+        assertEquals(1, summary.duplicates());
+        assertEquals(0, summary.errors());
+    }
+
+    @Test
+    void importEntries_BatchConflictsTwice_ReportsItsLinesAndContinues() throws Exception {
+        // Arrange
+        when(wishBookEntryService.addWishBookEntries(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(new WishBookBulkResponse(1, 0, List.of()));
+
+        // Act
+        WishBookImportEvent summary = importService.importEntries(new StringReader("""
+                John Doe,2025-06-15,EARLY_SHIFT
+                Jane Smith,2025-06-15,EARLY_SHIFT
+                Bob Johnson,2025-06-15,LATE_SHIFT
+                """), WishBookImportFormat.CSV, events::add);
+
+        // Assert
+        assertEquals("Lines 1 to 2 were not imported: they conflicted with concurrent changes twice.", events.getFirst().message());
+        assertEquals(1, summary.created());
+        assertEquals(2, summary.errors());
+    }
+
+    @Test
+    void importEntries_ManyBadLines_CapsReportedErrors() throws Exception {
+        // Arrange
+        String garbage = "not a wish\n".repeat(WishBookImportService.MAX_REPORTED_ERRORS + 500);
+
+        // Act
+        WishBookImportEvent summary = importService.importEntries(new StringReader(garbage), WishBookImportFormat.CSV, events::add);
+
+        // Assert
+        var errors = events.stream().filter(event -> event.type() == WishBookImportEvent.Type.ERROR).toList();
+        assertEquals(WishBookImportService.MAX_REPORTED_ERRORS + 1, errors.size());
+        assertEquals(Long.valueOf(WishBookImportService.MAX_REPORTED_ERRORS), errors.get(errors.size() - 2).line());
+        assertNull(errors.getLast().line());
+        assertEquals("More than 1000 errors; further errors are only counted.", errors.getLast().message());
+        assertEquals(WishBookImportService.MAX_REPORTED_ERRORS + 500, summary.errors());
+        verifyNoInteractions(wishBookEntryService);
+    }
+}
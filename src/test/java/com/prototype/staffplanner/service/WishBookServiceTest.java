@@ -1,21 +1,30 @@
 package com.prototype.staffplanner.service;
 
+import com.prototype.staffplanner.dto.AvailabilityRow;
+import com.prototype.staffplanner.dto.WishBookBulkItemResult;
+import com.prototype.staffplanner.dto.WishBookBulkResponse;
 import com.prototype.staffplanner.dto.WishBookEntryResponse;
+import com.prototype.staffplanner.dto.WishBookKey;
 import com.prototype.staffplanner.dto.WishBookRequest;
-import com.prototype.staffplanner.enums.ShiftType;
 import com.prototype.staffplanner.model.Employee;
+import com.prototype.staffplanner.model.ShiftDefinition;
+import com.prototype.staffplanner.model.ShiftType;
 import com.prototype.staffplanner.model.WishBookEntry;
 import com.prototype.staffplanner.repository.EmployeeRepository;
 import com.prototype.staffplanner.repository.WishBookEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,12 +33,32 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class WishBookServiceTest {
 
+    private static final ShiftDefinition EARLY = ShiftDefinition.builder().shiftType(ShiftType.EARLY_SHIFT).build();
+    private static final ShiftDefinition LATE = ShiftDefinition.builder().shiftType(ShiftType.LATE_SHIFT).build();
+
     @Mock
     private WishBookEntryRepository wishBookEntryRepository;
 
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeDirectory employeeDirectory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    @Mock
+    private ShiftCatalogService shiftCatalogService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private WishBookEntryService wishBookEntryService;
 
@@ -39,6 +68,9 @@ class WishBookServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(shiftCatalogService.getDefinition(ShiftType.EARLY_SHIFT)).thenReturn(EARLY);
+        lenient().when(shiftCatalogService.getDefinition(ShiftType.LATE_SHIFT)).thenReturn(LATE);
+
         testEmployee = Employee.builder()
                 .id(1L)
                 .name("John Doe")
@@ -51,15 +83,16 @@ class WishBookServiceTest {
                 .id(1L)
                 .employee(testEmployee)
                 .date(LocalDate.of(2025, 6, 15))
-                .shiftType(ShiftType.EARLY_SHIFT)
+                .shiftDefinition(EARLY)
                 .build();
     }
 
     @Test
     void addWishBookEntry_ExistingEmployee_Success() {
         // Arrange
-        when(employeeRepository.findByName("John Doe")).thenReturn(Optional.of(testEmployee));
-        when(wishBookEntryRepository.save(any(WishBookEntry.class))).thenReturn(testEntry);
+        when(employeeDirectory.resolveId("John Doe")).thenReturn(1L);
+        when(employeeRepository.getReferenceById(1L)).thenReturn(testEmployee);
+        when(wishBookEntryRepository.saveAndFlush(any(WishBookEntry.class))).thenReturn(testEntry);
 
         // Act
         WishBookEntryResponse result = wishBookEntryService.addWishBookEntry(testRequest);
@@ -70,9 +103,13 @@ class WishBookServiceTest {
         assertEquals(LocalDate.of(2025, 6, 15), result.date());
         assertEquals(ShiftType.EARLY_SHIFT, result.shiftType());
 
-        verify(employeeRepository).findByName("John Doe");
-        verify(wishBookEntryRepository).save(any(WishBookEntry.class));
+        verify(employeeDirectory).resolveId("John Doe");
+        verify(wishBookEntryRepository).saveAndFlush(argThat(entry -> entry.getEmployee() == testEmployee));
+        verify(employeeRepository, never()).findByName(any());
         verify(employeeRepository, never()).save(any(Employee.class));
+        verify(transactionManager).commit(any());
+        verify(availabilityIndex).record(List.of(
+                new AvailabilityRow(1L, "John Doe", LocalDate.of(2025, 6, 15), ShiftType.EARLY_SHIFT)));
     }
 
     @Test
@@ -88,12 +125,12 @@ class WishBookServiceTest {
                 .id(2L)
                 .employee(newEmployee)
                 .date(LocalDate.of(2025, 6, 15))
-                .shiftType(ShiftType.LATE_SHIFT)
+                .shiftDefinition(LATE)
                 .build();
 
-        when(employeeRepository.findByName("Jane Smith")).thenReturn(Optional.empty());
-        when(employeeRepository.save(any(Employee.class))).thenReturn(newEmployee);
-        when(wishBookEntryRepository.save(any(WishBookEntry.class))).thenReturn(newEntry);
+        when(employeeDirectory.resolveId("Jane Smith")).thenReturn(2L);
+        when(employeeRepository.getReferenceById(2L)).thenReturn(newEmployee);
+        when(wishBookEntryRepository.saveAndFlush(any(WishBookEntry.class))).thenReturn(newEntry);
 
         WishBookRequest newRequest = new WishBookRequest("Jane Smith", LocalDate.of(2025, 6, 15), ShiftType.LATE_SHIFT);
 
@@ -106,24 +143,24 @@ class WishBookServiceTest {
         assertEquals(LocalDate.of(2025, 6, 15), result.date());
         assertEquals(ShiftType.LATE_SHIFT, result.shiftType());
 
-        verify(employeeRepository).findByName("Jane Smith");
-        verify(employeeRepository).save(any(Employee.class));
-        verify(wishBookEntryRepository).save(any(WishBookEntry.class));
+        verify(employeeDirectory).resolveId("Jane Smith");
+        verify(wishBookEntryRepository).saveAndFlush(any(WishBookEntry.class));
     }
 
     @Test
     void addWishBookEntry_DifferentShiftTypes_HandledCorrectly() {
         // Arrange
-        when(employeeRepository.findByName("John Doe")).thenReturn(Optional.of(testEmployee));
+        when(employeeDirectory.resolveId("John Doe")).thenReturn(1L);
+        when(employeeRepository.getReferenceById(1L)).thenReturn(testEmployee);
 
         WishBookEntry lateShiftEntry = WishBookEntry.builder()
                 .id(2L)
                 .employee(testEmployee)
                 .date(LocalDate.of(2025, 6, 15))
-                .shiftType(ShiftType.LATE_SHIFT)
+                .shiftDefinition(LATE)
                 .build();
 
-        when(wishBookEntryRepository.save(any(WishBookEntry.class))).thenReturn(lateShiftEntry);
+        when(wishBookEntryRepository.saveAndFlush(any(WishBookEntry.class))).thenReturn(lateShiftEntry);
 
         WishBookRequest lateShiftRequest = new WishBookRequest("John Doe", LocalDate.of(2025, 6, 15), ShiftType.LATE_SHIFT);
 
@@ -133,4 +170,65 @@ class WishBookServiceTest {
         // Assert
         assertEquals(ShiftType.LATE_SHIFT, result.shiftType());
     }
-}
\ No newline at end of file
+
+    @Test
+    void addWishBookEntries_NewAndExistingEmployees_ResolvesNamesOnceAndSavesAll() {
+        // Arrange
+        Employee janeSmith = Employee.builder().id(2L).name("Jane Smith").build();
+        when(employeeDirectory.resolveIds(List.of("John Doe", "Jane Smith", "Jane Smith")))
+                .thenReturn(Map.of("John Doe", 1L, "Jane Smith", 2L));
+        when(employeeRepository.getReferenceById(1L)).thenReturn(testEmployee);
+        when(employeeRepository.getReferenceById(2L)).thenReturn(janeSmith);
+        when(wishBookEntryRepository.findKeys(any(), any(), any())).thenReturn(List.of());
+
+        List<WishBookRequest> requests = List.of(
+                testRequest,
+                new WishBookRequest("Jane Smith", LocalDate.of(2025, 6, 15), ShiftType.LATE_SHIFT),
+                new WishBookRequest("Jane Smith", LocalDate.of(2025, 6, 16), ShiftType.EARLY_SHIFT)
+        );
+
+        // Act
+        WishBookBulkResponse result = wishBookEntryService.addWishBookEntries(requests);
+
+        // Assert
+        assertEquals(3, result.created());
+        assertEquals(0, result.duplicates());
+        assertTrue(result.results().stream()
+                .allMatch(item -> item.status() == WishBookBulkItemResult.Status.CREATED));
+
+        verify(employeeDirectory).resolveIds(any());
+        verify(employeeDirectory, never()).resolveId(any());
+        verify(employeeRepository, never()).findByName(any());
+        verify(wishBookEntryRepository).saveAll(argThat(entries -> ((List<?>) entries).size() == 3));
+        verify(wishBookEntryRepository, never()).saveAndFlush(any(WishBookEntry.class));
+        verify(availabilityIndex).record(List.of(
+                new AvailabilityRow(1L, "John Doe", LocalDate.of(2025, 6, 15), ShiftType.EARLY_SHIFT),
+                new AvailabilityRow(2L, "Jane Smith", LocalDate.of(2025, 6, 15), ShiftType.LATE_SHIFT),
+                new AvailabilityRow(2L, "Jane Smith", LocalDate.of(2025, 6, 16), ShiftType.EARLY_SHIFT)));
+    }
+
+    @Test
+    void addWishBookEntries_DuplicateEntries_ReportedPerItemWithoutFailingBatch() {
+        // Arrange - testEntry already exists, and the late shift wish is sent twice
+        when(employeeDirectory.resolveIds(any())).thenReturn(Map.of("John Doe", 1L));
+        when(employeeRepository.getReferenceById(1L)).thenReturn(testEmployee);
+        when(wishBookEntryRepository.findKeys(any(), any(), any()))
+                .thenReturn(List.of(new WishBookKey(1L, LocalDate.of(2025, 6, 15), ShiftType.EARLY_SHIFT)));
+
+        WishBookRequest lateShiftRequest = new WishBookRequest("John Doe", LocalDate.of(2025, 6, 15), ShiftType.LATE_SHIFT);
+        List<WishBookRequest> requests = List.of(testRequest, lateShiftRequest, lateShiftRequest);
+
+        // Act
+        WishBookBulkResponse result = wishBookEntryService.addWishBookEntries(requests);
+
+        // Assert
+        assertEquals(1, result.created());
+        assertEquals(2, result.duplicates());
+        assertEquals(WishBookBulkItemResult.Status.DUPLICATE, result.results().get(0).status());
+        assertEquals(WishBookBulkItemResult.Status.CREATED, result.results().get(1).status());
+        assertEquals(WishBookBulkItemResult.Status.DUPLICATE, result.results().get(2).status());
+        assertEquals(2, result.results().get(2).index());
+
+        verify(wishBookEntryRepository).saveAll(argThat(entries -> ((List<?>) entries).size() == 1));
+    }
+}